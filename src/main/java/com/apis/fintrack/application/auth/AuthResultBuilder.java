@@ -37,11 +37,13 @@ public final class AuthResultBuilder {
      * Builds a refresh token result with standard token metadata.
      *
      * @param accessToken the new generated access token
+     * @param refreshToken the refresh token that replaces the presented one
      * @return refresh token result with token type and expiration
      */
-   public static RefreshTokenUseCase.RefreshTokenResult buildRefreshTokenResult(String accessToken) {
+   public static RefreshTokenUseCase.RefreshTokenResult buildRefreshTokenResult(String accessToken, String refreshToken) {
         return new RefreshTokenUseCase.RefreshTokenResult(
                 accessToken,
+                refreshToken,
                 TOKEN_TYPE,
                 TOKEN_EXPIRATION_MS / 1000 // Convert to seconds
         );
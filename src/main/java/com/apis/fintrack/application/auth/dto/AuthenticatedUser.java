@@ -2,22 +2,25 @@ package com.apis.fintrack.application.auth.dto;
 
 import lombok.Getter;
 import java.util.Set;
-import java.util.UUID;
 
 /**
  * Minimal DTO returned by authentication adapters to the application layer.
+ *
+ * tokenVersion is the user's current token version; tokens issued with an
+ * older version are no longer accepted.
  */
 @Getter
 public final class AuthenticatedUser {
-    private final UUID userId;
+    private final Long userId;
     private final String username;
     private final Set<String> roles;
+    private final int tokenVersion;
 
-    public AuthenticatedUser(UUID userId, String username, Set<String> roles) {
+    public AuthenticatedUser(Long userId, String username, Set<String> roles, int tokenVersion) {
         this.userId = userId;
         this.username = username;
         this.roles = roles == null ? Set.of() : Set.copyOf(roles);
+        this.tokenVersion = tokenVersion;
     }
 
 }
-
@@ -0,0 +1,20 @@
+package com.apis.fintrack.application.auth.dto;
+
+import java.time.Instant;
+
+/**
+ * State of a refresh token as kept by the refresh-token store.
+ *
+ * All tokens obtained by rotating the one issued at login share a familyId.
+ * expiresAt slides forward on every rotation but never past familyExpiresAt.
+ * tokenVersion is the user's token version when the family was created.
+ */
+public record StoredRefreshToken(
+        Long userId,
+        String familyId,
+        int tokenVersion,
+        Instant expiresAt,
+        Instant familyExpiresAt,
+        boolean used
+) {
+}
@@ -0,0 +1,18 @@
+package com.apis.fintrack.application.auth.dto;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Claims of a token whose signature and expiration have already been checked.
+ *
+ * Carries everything needed to authenticate a request without loading the
+ * user: token id (jti), numeric id, roles and the token version the token was
+ * issued with.
+ */
+public record VerifiedToken(String tokenId, String subject, Long userId, Set<String> roles, int tokenVersion, Instant expiresAt) {
+
+    public VerifiedToken {
+        roles = roles == null ? Set.of() : Set.copyOf(roles);
+    }
+}
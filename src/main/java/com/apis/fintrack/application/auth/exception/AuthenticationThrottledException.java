@@ -0,0 +1,20 @@
+package com.apis.fintrack.application.auth.exception;
+
+/**
+ * Exception thrown when an authentication request is refused before checking
+ * credentials: too many recent attempts for the account or client, or no
+ * capacity left to hash passwords. The client may retry after retryAfterSeconds.
+ */
+public class AuthenticationThrottledException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public AuthenticationThrottledException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,37 @@
+package com.apis.fintrack.application.auth.port.input;
+
+/**
+ * Input port for logging out.
+ *
+ * Revokes the presented access token so that it is rejected from now on,
+ * instead of remaining usable until it expires, and the refresh-token family
+ * of the session when its refresh token is presented too.
+ */
+public interface LogoutUseCase {
+
+    /**
+     * Command that encapsulates the tokens to revoke. refreshToken is optional.
+     */
+    record LogoutCommand(
+        String accessToken,
+        String refreshToken
+    ) {
+        public LogoutCommand {
+            if (accessToken == null || accessToken.isBlank()) {
+                throw new IllegalArgumentException("Access token cannot be null or empty");
+            }
+        }
+
+        public LogoutCommand(String accessToken) {
+            this(accessToken, null);
+        }
+    }
+
+    /**
+     * Revokes the tokens. Invalid, already expired or unknown tokens are
+     * ignored, so logging out twice is harmless.
+     *
+     * @param command the logout command
+     */
+    void logout(LogoutCommand command);
+}
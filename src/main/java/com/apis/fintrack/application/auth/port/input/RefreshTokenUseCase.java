@@ -1,10 +1,16 @@
 package com.apis.fintrack.application.auth.port.input;
 
+import com.apis.fintrack.application.auth.dto.AuthenticatedUser;
+
 /**
  * Input port for refreshing access tokens.
  *
  * Allows users to obtain a new access token using a valid refresh token
  * without requiring re-authentication.
+ *
+ * Refresh tokens are single use: every refresh returns a new refresh token
+ * and invalidates the presented one. Presenting a token that was already used
+ * revokes all tokens derived from the same login.
  */
 public interface RefreshTokenUseCase {
 
@@ -22,10 +28,12 @@ public interface RefreshTokenUseCase {
     }
 
     /**
-     * Result containing the new access token.
+     * Result containing the new access token and the refresh token that
+     * replaces the presented one.
      */
     record RefreshTokenResult(
         String accessToken,
+        String refreshToken,
         String tokenType,
         long expiresIn
     ) {
@@ -33,6 +41,9 @@ public interface RefreshTokenUseCase {
             if (accessToken == null || accessToken.isBlank()) {
                 throw new IllegalArgumentException("Access token cannot be null or empty");
             }
+            if (refreshToken == null || refreshToken.isBlank()) {
+                throw new IllegalArgumentException("Refresh token cannot be null or empty");
+            }
             if (tokenType == null || tokenType.isBlank()) {
                 throw new IllegalArgumentException("Token type cannot be null or empty");
             }
@@ -51,5 +62,14 @@ public interface RefreshTokenUseCase {
      * @throws com.apis.fintrack.application.auth.exception.AuthenticationFailedException if the refresh token is expired or invalid
      */
     RefreshTokenResult refresh(RefreshTokenCommand command);
+
+    /**
+     * Issues the first refresh token of a new family, typically right after a
+     * successful login.
+     *
+     * @param user the user that just authenticated
+     * @return the opaque refresh token
+     */
+    String issue(AuthenticatedUser user);
 }
 
@@ -23,6 +23,11 @@ public interface AuthenticationPort {
      */
     Optional<AuthenticatedUser> findByUsername(String username);
 
+    /**
+     * Lookup a user by its numeric id without validating credentials.
+     */
+    Optional<AuthenticatedUser> findByUserId(Long userId);
+
     /**
      * Invalidate a token or perform logout actions if supported by the provider.
      */
@@ -1,7 +1,6 @@
 package com.apis.fintrack.application.auth.port.output;
 
 import java.util.Optional;
-import java.util.UUID;
 
 /**
  * Port to obtain information about the currently authenticated user.
@@ -10,9 +9,9 @@ import java.util.UUID;
 public interface CurrentUserPort {
 
     /**
-     * Obtain the current authenticated user's id if present.
+     * Obtain the current authenticated user's numeric id if present.
      */
-    Optional<UUID> currentUserId();
+    Optional<Long> currentUserId();
 
     /**
      * Obtain the current authenticated username if present.
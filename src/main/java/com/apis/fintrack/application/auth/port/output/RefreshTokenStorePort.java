@@ -0,0 +1,33 @@
+package com.apis.fintrack.application.auth.port.output;
+
+import com.apis.fintrack.application.auth.dto.StoredRefreshToken;
+
+import java.util.Optional;
+
+/**
+ * Port for the refresh-token store. Tokens are opaque to the application:
+ * implementations generate them and keep only what is needed to look them up.
+ */
+public interface RefreshTokenStorePort {
+
+    /**
+     * Store a new, unused refresh token and return its opaque value.
+     */
+    String create(StoredRefreshToken token);
+
+    /**
+     * Look up a refresh token, used or not.
+     */
+    Optional<StoredRefreshToken> find(String refreshToken);
+
+    /**
+     * Atomically mark a token as used. Returns false if it was already used or
+     * no longer exists, i.e. somebody else presented it first.
+     */
+    boolean markUsed(String refreshToken);
+
+    /**
+     * Drop every token of a family.
+     */
+    void revokeFamily(String familyId);
+}
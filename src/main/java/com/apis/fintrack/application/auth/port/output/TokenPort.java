@@ -1,6 +1,7 @@
 package com.apis.fintrack.application.auth.port.output;
 
 import com.apis.fintrack.application.auth.dto.AuthenticatedUser;
+import com.apis.fintrack.application.auth.dto.VerifiedToken;
 
 import java.util.Optional;
 
@@ -15,10 +16,18 @@ public interface TokenPort {
      */
     String generateToken(AuthenticatedUser user);
 
+    /**
+     * Verify signature and expiration once and return the token's subject and
+     * expiration, or empty if the token is not valid.
+     */
+    Optional<VerifiedToken> verify(String token);
+
     /**
      * Validate token and return username or other identity if valid.
      */
-    Optional<String> validateAndExtractSubject(String token);
+    default Optional<String> validateAndExtractSubject(String token) {
+        return verify(token).map(VerifiedToken::subject);
+    }
 
     /**
      * Check if the token is valid for the given username.
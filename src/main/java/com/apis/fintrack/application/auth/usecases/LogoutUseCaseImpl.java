@@ -0,0 +1,47 @@
+package com.apis.fintrack.application.auth.usecases;
+
+import com.apis.fintrack.application.auth.port.input.LogoutUseCase;
+import com.apis.fintrack.application.auth.port.output.AuthenticationPort;
+import com.apis.fintrack.application.auth.port.output.RefreshTokenStorePort;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the logout use case.
+ *
+ * Delegates the revocation of the access token to AuthenticationPort, which
+ * owns the provider-specific revocation store. When the refresh token is
+ * presented too, its whole family is dropped from the RefreshTokenStorePort,
+ * so the session cannot be renewed after logging out.
+ */
+@Service
+public class LogoutUseCaseImpl implements LogoutUseCase {
+
+    private final AuthenticationPort authenticationPort;
+    private final RefreshTokenStorePort refreshTokenStore;
+
+    public LogoutUseCaseImpl(AuthenticationPort authenticationPort, RefreshTokenStorePort refreshTokenStore) {
+        this.authenticationPort = authenticationPort;
+        this.refreshTokenStore = refreshTokenStore;
+    }
+
+    @Override
+    public void logout(LogoutCommand command) {
+        if (command == null) {
+            throw new IllegalArgumentException("Logout command cannot be null");
+        }
+        authenticationPort.logout(command.accessToken());
+        revokeRefreshFamily(command.refreshToken());
+    }
+
+    /**
+     * Whoever holds a refresh token can already rotate it, so revoking its
+     * family needs no further check than finding it.
+     */
+    private void revokeRefreshFamily(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return;
+        }
+        refreshTokenStore.find(refreshToken)
+                .ifPresent(stored -> refreshTokenStore.revokeFamily(stored.familyId()));
+    }
+}
@@ -2,48 +2,99 @@ package com.apis.fintrack.application.auth.usecases;
 
 import com.apis.fintrack.application.auth.AuthResultBuilder;
 import com.apis.fintrack.application.auth.dto.AuthenticatedUser;
+import com.apis.fintrack.application.auth.dto.StoredRefreshToken;
 import com.apis.fintrack.application.auth.exception.AuthenticationFailedException;
 import com.apis.fintrack.application.auth.port.input.RefreshTokenUseCase;
 import com.apis.fintrack.application.auth.port.output.AuthenticationPort;
+import com.apis.fintrack.application.auth.port.output.RefreshTokenStorePort;
 import com.apis.fintrack.application.auth.port.output.TokenPort;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
 /**
  * Implementation of the refresh token use case.
  *
  * Orchestrates the token refresh process by:
- * 1. Validating the refresh token via TokenPort
- * 2. Extracting user information from the token
+ * 1. Looking up the refresh token in the RefreshTokenStorePort
+ * 2. Detecting reuse of an already rotated token and revoking its family
  * 3. Loading authenticated user via AuthenticationPort
- * 4. Generating a new access token via TokenPort
- * 5. Returning the new token result
+ * 4. Rejecting the token if it was revoked (token version changed)
+ * 5. Rotating it: the presented token is marked used and a new one is issued
+ *    with a sliding expiry, capped by the family's absolute expiry
+ * 6. Generating a new access token via TokenPort
  *
- * This class belongs to the application layer and coordinates
- * infrastructure adapters without containing business rules.
+ * Renewal costs a store lookup and a user lookup by id, never a password hash
+ * check. This class is deliberately not transactional: a reuse must leave the
+ * family revoked even though the request fails.
  */
 @Service
 public class RefreshTokenUseCaseImpl implements RefreshTokenUseCase {
 
     private final TokenPort tokenPort;
     private final AuthenticationPort authenticationPort;
+    private final RefreshTokenStorePort refreshTokenStore;
+    private final Duration slidingTtl;
+    private final Duration absoluteTtl;
+    private final Clock clock;
 
+    @Autowired
     public RefreshTokenUseCaseImpl(
             TokenPort tokenPort,
-            AuthenticationPort authenticationPort
+            AuthenticationPort authenticationPort,
+            RefreshTokenStorePort refreshTokenStore,
+            @Value("${fintrack.security.refresh-token.sliding-days:14}") long slidingDays,
+            @Value("${fintrack.security.refresh-token.absolute-days:90}") long absoluteDays
+    ) {
+        this(tokenPort, authenticationPort, refreshTokenStore,
+                Duration.ofDays(slidingDays), Duration.ofDays(absoluteDays), Clock.systemUTC());
+    }
+
+    RefreshTokenUseCaseImpl(
+            TokenPort tokenPort,
+            AuthenticationPort authenticationPort,
+            RefreshTokenStorePort refreshTokenStore,
+            Duration slidingTtl,
+            Duration absoluteTtl,
+            Clock clock
     ) {
         this.tokenPort = tokenPort;
         this.authenticationPort = authenticationPort;
+        this.refreshTokenStore = refreshTokenStore;
+        this.slidingTtl = slidingTtl;
+        this.absoluteTtl = absoluteTtl;
+        this.clock = clock;
     }
 
     @Override
     public RefreshTokenResult refresh(RefreshTokenCommand command) {
         validateCommand(command);
 
-        String username = extractUsernameFromToken(command.refreshToken());
-        AuthenticatedUser authenticatedUser = loadAuthenticatedUser(username);
+        StoredRefreshToken stored = findUsableToken(command.refreshToken());
+        AuthenticatedUser authenticatedUser = loadAuthenticatedUser(stored);
+        String newRefreshToken = rotate(command.refreshToken(), stored);
         String newAccessToken = generateNewAccessToken(authenticatedUser);
 
-        return AuthResultBuilder.buildRefreshTokenResult(newAccessToken);
+        return AuthResultBuilder.buildRefreshTokenResult(newAccessToken, newRefreshToken);
+    }
+
+    @Override
+    public String issue(AuthenticatedUser user) {
+        Instant now = clock.instant();
+        Instant familyExpiresAt = now.plus(absoluteTtl);
+        return refreshTokenStore.create(new StoredRefreshToken(
+                user.getUserId(),
+                UUID.randomUUID().toString(),
+                user.getTokenVersion(),
+                min(now.plus(slidingTtl), familyExpiresAt),
+                familyExpiresAt,
+                false
+        ));
     }
 
     /**
@@ -56,25 +107,66 @@ public class RefreshTokenUseCaseImpl implements RefreshTokenUseCase {
     }
 
     /**
-     * Extracts the username from the refresh token.
+     * Looks up the refresh token and checks it can still be exchanged.
      *
-     * @throws AuthenticationFailedException if token is invalid or expired
+     * @throws AuthenticationFailedException if token is unknown, expired or already used
      */
-    private String extractUsernameFromToken(String refreshToken) {
-        return tokenPort
-                .validateAndExtractSubject(refreshToken)
+    private StoredRefreshToken findUsableToken(String refreshToken) {
+        StoredRefreshToken stored = refreshTokenStore.find(refreshToken)
                 .orElseThrow(() -> new AuthenticationFailedException("Invalid or expired refresh token"));
+        if (stored.used()) {
+            throw reuseDetected(stored);
+        }
+        if (!clock.instant().isBefore(stored.expiresAt())) {
+            throw new AuthenticationFailedException("Invalid or expired refresh token");
+        }
+        return stored;
+    }
+
+    /**
+     * Loads the authenticated user and rejects families created before the
+     * user's last revocation (role, email or password change).
+     *
+     * @throws AuthenticationFailedException if user is not found or the family was revoked
+     */
+    private AuthenticatedUser loadAuthenticatedUser(StoredRefreshToken stored) {
+        AuthenticatedUser user = authenticationPort
+                .findByUserId(stored.userId())
+                .orElseThrow(() -> new AuthenticationFailedException("User not found: " + stored.userId()));
+        if (user.getTokenVersion() != stored.tokenVersion()) {
+            refreshTokenStore.revokeFamily(stored.familyId());
+            throw new AuthenticationFailedException("Refresh token has been revoked");
+        }
+        return user;
     }
 
     /**
-     * Loads the authenticated user by username.
+     * Marks the presented token as used and issues its successor.
      *
-     * @throws AuthenticationFailedException if user is not found
+     * @throws AuthenticationFailedException if another request used the token first
+     */
+    private String rotate(String refreshToken, StoredRefreshToken stored) {
+        if (!refreshTokenStore.markUsed(refreshToken)) {
+            throw reuseDetected(stored);
+        }
+        Instant expiresAt = min(clock.instant().plus(slidingTtl), stored.familyExpiresAt());
+        return refreshTokenStore.create(new StoredRefreshToken(
+                stored.userId(),
+                stored.familyId(),
+                stored.tokenVersion(),
+                expiresAt,
+                stored.familyExpiresAt(),
+                false
+        ));
+    }
+
+    /**
+     * A used token presented again means it leaked: nothing derived from
+     * that login can be trusted any more.
      */
-    private AuthenticatedUser loadAuthenticatedUser(String username) {
-        return authenticationPort
-                .findByUsername(username)
-                .orElseThrow(() -> AuthenticationFailedException.userNotFound(username));
+    private AuthenticationFailedException reuseDetected(StoredRefreshToken stored) {
+        refreshTokenStore.revokeFamily(stored.familyId());
+        return new AuthenticationFailedException("Refresh token reuse detected");
     }
 
     /**
@@ -83,5 +175,8 @@ public class RefreshTokenUseCaseImpl implements RefreshTokenUseCase {
     private String generateNewAccessToken(AuthenticatedUser user) {
         return tokenPort.generateToken(user);
     }
-}
 
+    private static Instant min(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
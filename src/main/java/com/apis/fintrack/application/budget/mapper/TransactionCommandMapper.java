@@ -11,7 +11,7 @@ public final class TransactionCommandMapper {
     }
     public Transaction toTransaction(CreateTransactionUseCase.CreateTransactionCommand command) {
         return new Transaction(
-            null,
+            TransactionId.empty(),
             Description.of(command.description()),
             TransactionAmount.of(command.amount(), command.isIncome()),
             TransactionDate.of(command.transactionDate()),
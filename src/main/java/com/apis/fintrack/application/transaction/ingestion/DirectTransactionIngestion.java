@@ -0,0 +1,30 @@
+package com.apis.fintrack.application.transaction.ingestion;
+
+import com.apis.fintrack.domain.transaction.model.Transaction;
+import com.apis.fintrack.domain.transaction.port.input.CreateTransactionUseCase;
+import com.apis.fintrack.domain.transaction.port.input.CreateTransactionUseCase.CreateTransactionCommand;
+import com.apis.fintrack.domain.transaction.port.input.TransactionIngestionUseCase;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Ingesta por defecto: cada transacción se crea en su propio commit, en el
+ * hilo del llamante.
+ */
+@Service
+@ConditionalOnProperty(name = "fintrack.ingestion.group-commit.enabled", havingValue = "false", matchIfMissing = true)
+public class DirectTransactionIngestion implements TransactionIngestionUseCase {
+
+    private final CreateTransactionUseCase createTransactionUseCase;
+
+    public DirectTransactionIngestion(CreateTransactionUseCase createTransactionUseCase) {
+        this.createTransactionUseCase = createTransactionUseCase;
+    }
+
+    @Override
+    public CompletableFuture<Transaction> submit(CreateTransactionCommand command) {
+        return CompletableFuture.completedFuture(createTransactionUseCase.execute(command));
+    }
+}
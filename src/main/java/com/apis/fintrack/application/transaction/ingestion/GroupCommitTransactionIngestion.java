@@ -0,0 +1,152 @@
+package com.apis.fintrack.application.transaction.ingestion;
+
+import com.apis.fintrack.domain.transaction.exception.IngestionOverloadedException;
+import com.apis.fintrack.domain.transaction.model.Transaction;
+import com.apis.fintrack.domain.transaction.port.input.CreateTransactionUseCase;
+import com.apis.fintrack.domain.transaction.port.input.CreateTransactionUseCase.CreateTransactionCommand;
+import com.apis.fintrack.domain.transaction.port.input.TransactionIngestionUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ingesta con commit agrupado (fintrack.ingestion.group-commit.enabled=true).
+ *
+ * Las peticiones se acumulan en una cola acotada y un único hilo las vuelca en
+ * lotes de hasta max-batch-size filas, o cuando han pasado max-delay-ms desde
+ * la primera fila del lote, dentro de una sola transacción
+ * (CreateTransactionUseCase.executeAll). Los futuros se completan después del
+ * commit, así que ninguna fila se confirma al llamante antes de ser durable.
+ *
+ * Contrapresión: si la cola está llena el llamante espera hasta
+ * enqueue-timeout-ms y, si sigue llena, recibe IngestionOverloadedException.
+ * Si un lote falla (p. ej. una fila inválida) se reintenta fila a fila para
+ * que solo falle la fila culpable.
+ */
+@Service
+@ConditionalOnProperty(name = "fintrack.ingestion.group-commit.enabled", havingValue = "true")
+public class GroupCommitTransactionIngestion implements TransactionIngestionUseCase {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GroupCommitTransactionIngestion.class);
+
+    private final CreateTransactionUseCase createTransactionUseCase;
+    private final BlockingQueue<PendingTransaction> queue;
+    private final int maxBatchSize;
+    private final long maxDelayMillis;
+    private final long enqueueTimeoutMillis;
+    private final Counter flushedBatches;
+    private final Counter rejectedSubmissions;
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    public GroupCommitTransactionIngestion(
+            CreateTransactionUseCase createTransactionUseCase,
+            MeterRegistry meterRegistry,
+            @Value("${fintrack.ingestion.group-commit.queue-capacity:10000}") int queueCapacity,
+            @Value("${fintrack.ingestion.group-commit.max-batch-size:500}") int maxBatchSize,
+            @Value("${fintrack.ingestion.group-commit.max-delay-ms:50}") long maxDelayMillis,
+            @Value("${fintrack.ingestion.group-commit.enqueue-timeout-ms:1000}") long enqueueTimeoutMillis) {
+        this.createTransactionUseCase = createTransactionUseCase;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayMillis = maxDelayMillis;
+        this.enqueueTimeoutMillis = enqueueTimeoutMillis;
+        this.flushedBatches = meterRegistry.counter("transactions.ingestion.batches.total");
+        this.rejectedSubmissions = meterRegistry.counter("transactions.ingestion.rejected.total");
+        meterRegistry.gauge("transactions.ingestion.queue.size", queue, BlockingQueue::size);
+
+        this.flusher = new Thread(this::runFlusher, "transaction-group-commit");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    @Override
+    public CompletableFuture<Transaction> submit(CreateTransactionCommand command) {
+        if (!running) {
+            throw new IngestionOverloadedException("La ingesta de transacciones se está deteniendo");
+        }
+        PendingTransaction pending = new PendingTransaction(command, new CompletableFuture<>());
+        try {
+            if (!queue.offer(pending, enqueueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                rejectedSubmissions.increment();
+                throw new IngestionOverloadedException("La cola de ingesta de transacciones está llena");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IngestionOverloadedException("Ingesta interrumpida");
+        }
+        return pending.result();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // El hilo vacía la cola antes de terminar
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    private void runFlusher() {
+        List<PendingTransaction> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingTransaction first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingTransaction next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(p -> p.result().completeExceptionally(e));
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingTransaction> batch) {
+        List<CreateTransactionCommand> commands = batch.stream().map(PendingTransaction::command).toList();
+        try {
+            List<Transaction> created = createTransactionUseCase.executeAll(commands);
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(created.get(i));
+            }
+            flushedBatches.increment();
+        } catch (RuntimeException batchFailure) {
+            LOGGER.warn("Group commit of {} transactions failed, retrying one by one: {}",
+                    batch.size(), batchFailure.getMessage());
+            for (PendingTransaction pending : batch) {
+                try {
+                    pending.result().complete(createTransactionUseCase.execute(pending.command()));
+                } catch (RuntimeException rowFailure) {
+                    pending.result().completeExceptionally(rowFailure);
+                }
+            }
+        }
+    }
+
+    private record PendingTransaction(CreateTransactionCommand command, CompletableFuture<Transaction> result) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.apis.fintrack.application.transaction.usecases;
+
+import com.apis.fintrack.domain.transaction.port.input.ArchiveTransactionsUseCase;
+import com.apis.fintrack.domain.transaction.port.output.TransactionArchivePort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * Implementación del caso de uso de archivado.
+ *
+ * La fecha de corte es el primer día del mes que queda horizon-months atrás,
+ * así la frontera entre particiones solo avanza una vez al mes. No es
+ * transaccional a propósito: cada lote se confirma por separado para no
+ * mantener bloqueos largos sobre la tabla caliente. El día actual sale del
+ * mismo Clock que usa TransactionArchiveBoundary.
+ */
+@Service
+public class ArchiveTransactionsUseCaseImpl implements ArchiveTransactionsUseCase {
+
+    private final TransactionArchivePort transactionArchive;
+    private final int horizonMonths;
+    private final int batchSize;
+    private final Clock clock;
+
+    public ArchiveTransactionsUseCaseImpl(
+            TransactionArchivePort transactionArchive,
+            @Value("${fintrack.archive.horizon-months:13}") int horizonMonths,
+            @Value("${fintrack.archive.batch-size:1000}") int batchSize,
+            Clock clock) {
+        if (horizonMonths < 1) {
+            throw new IllegalArgumentException("horizon-months must be at least 1");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batch-size must be at least 1");
+        }
+        this.transactionArchive = transactionArchive;
+        this.horizonMonths = horizonMonths;
+        this.batchSize = batchSize;
+        this.clock = clock;
+    }
+
+    @Override
+    public ArchiveResult execute() {
+        LocalDate cutoff = LocalDate.now(clock).minusMonths(horizonMonths).withDayOfMonth(1);
+        int archived = 0;
+        int moved;
+        do {
+            moved = transactionArchive.archiveBatch(cutoff, batchSize);
+            archived += moved;
+        } while (moved == batchSize);
+        return new ArchiveResult(cutoff, archived);
+    }
+}
@@ -2,11 +2,20 @@ package com.apis.fintrack.application.transaction.usecases;
 
 import com.apis.fintrack.application.budget.mapper.TransactionCommandMapper;
 import com.apis.fintrack.domain.transaction.model.*;
+import com.apis.fintrack.domain.shared.model.Money;
 import com.apis.fintrack.domain.transaction.port.input.CreateTransactionUseCase;
+import com.apis.fintrack.domain.transaction.port.output.BalanceHistoryPort;
+import com.apis.fintrack.domain.transaction.port.output.DuplicateTransactionPort;
+import com.apis.fintrack.domain.transaction.port.output.IdempotencyKeyPort;
+import com.apis.fintrack.domain.transaction.port.output.RecurringSeriesPort;
 import com.apis.fintrack.domain.transaction.port.output.TransactionRepositoryPort;
+import com.apis.fintrack.domain.transaction.port.output.TransactionSearchPort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * ImplementaciÃ³n del caso de uso de creaciÃ³n de transacciÃ³n.
  * 
@@ -22,10 +31,23 @@ public class CreateTransactionUseCaseImpl implements CreateTransactionUseCase {
     
     private final TransactionRepositoryPort transactionRepository;
     private final TransactionCommandMapper transactionCommandMapper;
+    private final BalanceHistoryPort balanceHistory;
+    private final TransactionSearchPort transactionSearch;
+    private final DuplicateTransactionPort duplicateTransactions;
+    private final RecurringSeriesPort recurringSeries;
+    private final IdempotencyKeyPort idempotencyKeys;
 
-    public CreateTransactionUseCaseImpl(TransactionRepositoryPort transactionRepository, TransactionCommandMapper transactionCommandMapper) {
+    public CreateTransactionUseCaseImpl(TransactionRepositoryPort transactionRepository, TransactionCommandMapper transactionCommandMapper,
+                                        BalanceHistoryPort balanceHistory, TransactionSearchPort transactionSearch,
+                                        DuplicateTransactionPort duplicateTransactions, RecurringSeriesPort recurringSeries,
+                                        IdempotencyKeyPort idempotencyKeys) {
         this.transactionRepository = transactionRepository;
         this.transactionCommandMapper = transactionCommandMapper;
+        this.balanceHistory = balanceHistory;
+        this.transactionSearch = transactionSearch;
+        this.duplicateTransactions = duplicateTransactions;
+        this.recurringSeries = recurringSeries;
+        this.idempotencyKeys = idempotencyKeys;
     }
     
     @Override
@@ -33,6 +55,29 @@ public class CreateTransactionUseCaseImpl implements CreateTransactionUseCase {
         // Usar el mapper para construir la entidad de dominio
         Transaction newTransaction = transactionCommandMapper.toTransaction(command);
         // Persistir y devolver con ID asignado
-        return transactionRepository.save(newTransaction);
+        Transaction saved = transactionRepository.save(newTransaction);
+        // Mantener el índice de saldo diario en la misma transacción
+        balanceHistory.recordDelta(saved.getUserId(), saved.getTransactionDate().getValue(),
+                Money.of(saved.getAmount().getValue()));
+        transactionSearch.index(saved);
+        duplicateTransactions.register(saved.getUserId(), TransactionFingerprint.of(saved));
+        recurringSeries.record(saved);
+        return saved;
+    }
+    
+    @Override
+    public List<Transaction> executeAll(List<CreateTransactionCommand> commands) {
+        List<Transaction> created = new ArrayList<>(commands.size());
+        for (CreateTransactionCommand command : commands) {
+            created.add(execute(command));
+        }
+        return created;
+    }
+
+    @Override
+    public Transaction executeIdempotent(CreateTransactionCommand command, String idempotencyKey, String requestHash) {
+        Transaction saved = execute(command);
+        idempotencyKeys.save(saved.getUserId(), idempotencyKey, requestHash, saved);
+        return saved;
     }
 }
@@ -1,8 +1,14 @@
 package com.apis.fintrack.application.transaction.usecases;
 
+import com.apis.fintrack.domain.shared.model.Money;
 import com.apis.fintrack.domain.transaction.exception.TransactionNotFoundException;
+import com.apis.fintrack.domain.transaction.model.Transaction;
 import com.apis.fintrack.domain.transaction.port.input.DeleteTransactionUseCase;
+import com.apis.fintrack.domain.transaction.port.output.BalanceHistoryPort;
+import com.apis.fintrack.domain.transaction.port.output.RecurringSeriesPort;
 import com.apis.fintrack.domain.transaction.port.output.TransactionRepositoryPort;
+import com.apis.fintrack.domain.transaction.port.output.TransactionSearchPort;
+import com.apis.fintrack.domain.user.model.UserId;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,25 +20,38 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteTransactionUseCaseImpl implements DeleteTransactionUseCase {
     
     private final TransactionRepositoryPort transactionRepository;
+    private final BalanceHistoryPort balanceHistory;
+    private final TransactionSearchPort transactionSearch;
+    private final RecurringSeriesPort recurringSeries;
     
-    public DeleteTransactionUseCaseImpl(TransactionRepositoryPort transactionRepository) {
+    public DeleteTransactionUseCaseImpl(TransactionRepositoryPort transactionRepository, BalanceHistoryPort balanceHistory,
+                                        TransactionSearchPort transactionSearch, RecurringSeriesPort recurringSeries) {
         this.transactionRepository = transactionRepository;
+        this.balanceHistory = balanceHistory;
+        this.transactionSearch = transactionSearch;
+        this.recurringSeries = recurringSeries;
     }
     
     @Override
     public void deleteById(Long transactionId) {
-        // Verificar que existe antes de eliminar
-        if (!transactionRepository.existsById(transactionId)) {
-            throw new TransactionNotFoundException(
+        // Cargar antes de eliminar: el índice de saldo necesita fecha y monto
+        Transaction transaction = transactionRepository.findById(transactionId)
+            .orElseThrow(() -> new TransactionNotFoundException(
                 "No existe transacciÃ³n con ID: " + transactionId
-            );
-        }
+            ));
         transactionRepository.deleteById(transactionId);
+        balanceHistory.recordDelta(transaction.getUserId(), transaction.getTransactionDate().getValue(),
+                Money.of(transaction.getAmount().getValue().negate()));
+        transactionSearch.remove(transactionId);
+        recurringSeries.invalidate(transaction.getUserId());
     }
     
     @Override
     public void deleteAllByUserId(Long userId) {
         transactionRepository.deleteAllByUserId(userId);
+        balanceHistory.clear(UserId.of(userId));
+        transactionSearch.removeAllByUserId(userId);
+        recurringSeries.invalidate(UserId.of(userId));
     }
 }
 
@@ -0,0 +1,65 @@
+package com.apis.fintrack.application.transaction.usecases;
+
+import com.apis.fintrack.domain.transaction.model.Transaction;
+import com.apis.fintrack.domain.transaction.model.TransactionFilter;
+import com.apis.fintrack.domain.transaction.port.input.FilterTransactionUseCase;
+import com.apis.fintrack.domain.transaction.port.output.TransactionRepositoryPort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Implementación del caso de uso de filtrado combinado.
+ *
+ * Pide al repositorio un elemento más que el tamaño de página para saber si
+ * hay más resultados sin lanzar una consulta COUNT.
+ */
+@Service
+@Transactional(readOnly = true)
+public class FilterTransactionUseCaseImpl implements FilterTransactionUseCase {
+
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final TransactionRepositoryPort transactionRepository;
+
+    public FilterTransactionUseCaseImpl(TransactionRepositoryPort transactionRepository) {
+        this.transactionRepository = transactionRepository;
+    }
+
+    @Override
+    public TransactionKeysetPage filter(TransactionFilter filter, int size) {
+        validate(filter, size);
+        List<Transaction> rows = transactionRepository.findByFilter(filter, size + 1);
+        if (rows.size() <= size) {
+            return new TransactionKeysetPage(rows, null, null, false);
+        }
+        List<Transaction> content = rows.subList(0, size);
+        Transaction last = content.get(size - 1);
+        return new TransactionKeysetPage(
+            content,
+            last.getTransactionDate().getValue(),
+            last.getId().getValue(),
+            true
+        );
+    }
+
+    private void validate(TransactionFilter filter, int size) {
+        if (filter == null || filter.userId() == null) {
+            throw new IllegalArgumentException("El ID de usuario es obligatorio");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("El tamaño de página debe estar entre 1 y " + MAX_PAGE_SIZE);
+        }
+        if (filter.startDate() != null && filter.endDate() != null && filter.startDate().isAfter(filter.endDate())) {
+            throw new IllegalArgumentException("La fecha de inicio no puede ser posterior a la de fin");
+        }
+        if (filter.minAmount() != null && filter.maxAmount() != null
+                && filter.minAmount().compareTo(filter.maxAmount()) > 0) {
+            throw new IllegalArgumentException("El monto mínimo no puede ser mayor que el máximo");
+        }
+        if ((filter.afterDate() == null) != (filter.afterId() == null)) {
+            throw new IllegalArgumentException("El cursor requiere afterDate y afterId a la vez");
+        }
+    }
+}
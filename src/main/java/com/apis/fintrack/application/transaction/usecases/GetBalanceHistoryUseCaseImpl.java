@@ -0,0 +1,57 @@
+package com.apis.fintrack.application.transaction.usecases;
+
+import com.apis.fintrack.domain.transaction.exception.InvalidDateRangeException;
+import com.apis.fintrack.domain.transaction.port.input.GetBalanceHistoryUseCase;
+import com.apis.fintrack.domain.transaction.port.output.BalanceHistoryPort;
+import com.apis.fintrack.domain.user.model.UserId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.SortedMap;
+
+/**
+ * Implementación del caso de uso de consulta del histórico de saldo.
+ *
+ * Delega en el índice de saldo acumulado (BalanceHistoryPort), por lo que
+ * nunca recorre el historial completo de transacciones. La curva devuelve un
+ * punto por día, así que su rango está limitado a maxCurveDays.
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetBalanceHistoryUseCaseImpl implements GetBalanceHistoryUseCase {
+
+    private final BalanceHistoryPort balanceHistoryPort;
+    private final int maxCurveDays;
+
+    public GetBalanceHistoryUseCaseImpl(
+            BalanceHistoryPort balanceHistoryPort,
+            @Value("${fintrack.transactions.balance-curve.max-days:1096}") int maxCurveDays) {
+        this.balanceHistoryPort = balanceHistoryPort;
+        this.maxCurveDays = maxCurveDays;
+    }
+
+    @Override
+    public BigDecimal getBalanceAt(Long userId, LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("date must not be null");
+        }
+        return balanceHistoryPort.balanceAt(UserId.of(userId), date).getAmount();
+    }
+
+    @Override
+    public SortedMap<LocalDate, BigDecimal> getBalanceCurve(Long userId, LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new InvalidDateRangeException("period start and end must not be null");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new InvalidDateRangeException("period start must be on or before period end");
+        }
+        if (startDate.plusDays(maxCurveDays).isBefore(endDate)) {
+            throw new InvalidDateRangeException("period must not span more than " + maxCurveDays + " days");
+        }
+        return balanceHistoryPort.balanceCurve(UserId.of(userId), startDate, endDate);
+    }
+}
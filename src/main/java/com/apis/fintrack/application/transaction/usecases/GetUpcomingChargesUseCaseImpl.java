@@ -0,0 +1,66 @@
+package com.apis.fintrack.application.transaction.usecases;
+
+import com.apis.fintrack.domain.transaction.exception.InvalidDateRangeException;
+import com.apis.fintrack.domain.transaction.model.RecurringSeries;
+import com.apis.fintrack.domain.transaction.port.input.GetUpcomingChargesUseCase;
+import com.apis.fintrack.domain.transaction.port.output.RecurringSeriesPort;
+import com.apis.fintrack.domain.user.model.UserId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Implementación del caso de uso de cargos recurrentes previstos.
+ *
+ * Proyecta cada serie detectada a partir de su último cargo. Las series que
+ * han faltado a dos cargos seguidos antes del inicio del rango se consideran
+ * canceladas y no se proyectan. El rango está limitado a maxRangeDays.
+ */
+@Service
+@Transactional(readOnly = true)
+public class GetUpcomingChargesUseCaseImpl implements GetUpcomingChargesUseCase {
+
+    private final RecurringSeriesPort recurringSeries;
+    private final int maxRangeDays;
+
+    public GetUpcomingChargesUseCaseImpl(
+            RecurringSeriesPort recurringSeries,
+            @Value("${fintrack.transactions.upcoming.max-days:366}") int maxRangeDays) {
+        this.recurringSeries = recurringSeries;
+        this.maxRangeDays = maxRangeDays;
+    }
+
+    @Override
+    public List<UpcomingCharge> getUpcoming(Long userId, LocalDate from, LocalDate until) {
+        if (from == null || until == null) {
+            throw new InvalidDateRangeException("Las fechas del rango no pueden ser nulas");
+        }
+        if (from.isAfter(until)) {
+            throw new InvalidDateRangeException("La fecha de inicio no puede ser posterior a la de fin");
+        }
+        if (from.plusDays(maxRangeDays).isBefore(until)) {
+            throw new InvalidDateRangeException("El rango no puede superar " + maxRangeDays + " días");
+        }
+
+        List<UpcomingCharge> charges = new ArrayList<>();
+        for (RecurringSeries series : recurringSeries.findRecurring(UserId.of(userId))) {
+            LocalDate expected = series.period().next(series.lastDate());
+            if (series.period().next(expected).isBefore(from)) {
+                continue;
+            }
+            while (!expected.isAfter(until)) {
+                if (!expected.isBefore(from)) {
+                    charges.add(new UpcomingCharge(series.description(), series.amount(), series.period(), expected));
+                }
+                expected = series.period().next(expected);
+            }
+        }
+        charges.sort(Comparator.comparing(UpcomingCharge::expectedDate));
+        return charges;
+    }
+}
@@ -0,0 +1,129 @@
+package com.apis.fintrack.application.transaction.usecases;
+
+import com.apis.fintrack.domain.transaction.exception.DuplicateIdempotencyKeyException;
+import com.apis.fintrack.domain.transaction.exception.IdempotencyKeyReuseException;
+import com.apis.fintrack.domain.transaction.model.IdempotencyRecord;
+import com.apis.fintrack.domain.transaction.model.Transaction;
+import com.apis.fintrack.domain.transaction.port.input.CreateTransactionUseCase;
+import com.apis.fintrack.domain.transaction.port.input.CreateTransactionUseCase.CreateTransactionCommand;
+import com.apis.fintrack.domain.transaction.port.input.IdempotentCreateTransactionUseCase;
+import com.apis.fintrack.domain.transaction.port.output.IdempotencyKeyPort;
+import com.apis.fintrack.domain.user.model.UserId;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementación del caso de uso de creación idempotente.
+ *
+ * Dentro de una instancia, las peticiones concurrentes con la misma clave se
+ * agrupan sobre la primera en curso. Entre instancias, el índice único de la
+ * tabla de claves decide: la creación perdedora se revierte entera y devuelve
+ * el resultado de la ganadora.
+ *
+ * No es transaccional a propósito: la creación y el guardado de la clave se
+ * confirman en CreateTransactionUseCase.executeIdempotent antes de despertar a
+ * las peticiones que esperan.
+ */
+@Service
+public class IdempotentCreateTransactionUseCaseImpl implements IdempotentCreateTransactionUseCase {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final CreateTransactionUseCase createTransactionUseCase;
+    private final IdempotencyKeyPort idempotencyKeys;
+    private final Map<String, CompletableFuture<IdempotencyRecord>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotentCreateTransactionUseCaseImpl(CreateTransactionUseCase createTransactionUseCase,
+                                                  IdempotencyKeyPort idempotencyKeys) {
+        this.createTransactionUseCase = createTransactionUseCase;
+        this.idempotencyKeys = idempotencyKeys;
+    }
+
+    @Override
+    public IdempotentCreation create(String idempotencyKey, CreateTransactionCommand command) {
+        if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+        UserId userId = UserId.of(command.userId());
+        String requestHash = requestHash(command);
+        String scopedKey = userId.getValue() + ":" + idempotencyKey;
+
+        CompletableFuture<IdempotencyRecord> mine = new CompletableFuture<>();
+        CompletableFuture<IdempotencyRecord> running = inFlight.putIfAbsent(scopedKey, mine);
+        if (running != null) {
+            return replay(await(running), requestHash);
+        }
+        try {
+            Optional<IdempotencyRecord> stored = idempotencyKeys.find(userId, idempotencyKey);
+            if (stored.isPresent()) {
+                mine.complete(stored.get());
+                return replay(stored.get(), requestHash);
+            }
+            IdempotencyRecord outcome;
+            boolean replayed;
+            try {
+                Transaction created = createTransactionUseCase.executeIdempotent(command, idempotencyKey, requestHash);
+                outcome = new IdempotencyRecord(requestHash, created);
+                replayed = false;
+            } catch (DuplicateIdempotencyKeyException e) {
+                // Otra instancia confirmó la misma clave primero; la réplica puede no tenerla aún
+                outcome = idempotencyKeys.findCommitted(userId, idempotencyKey).orElseThrow(() -> e);
+                replayed = true;
+            }
+            mine.complete(outcome);
+            return replayed ? replay(outcome, requestHash) : new IdempotentCreation(outcome.transaction(), false);
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(scopedKey, mine);
+        }
+    }
+
+    private static IdempotentCreation replay(IdempotencyRecord stored, String requestHash) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new IdempotencyKeyReuseException("Idempotency-Key was already used with a different request");
+        }
+        return new IdempotentCreation(stored.transaction(), true);
+    }
+
+    private static IdempotencyRecord await(CompletableFuture<IdempotencyRecord> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Huella estable de la petición (SHA-256 de sus campos), independiente de la
+     * escala del monto.
+     */
+    static String requestHash(CreateTransactionCommand command) {
+        String canonical = String.join("|",
+                String.valueOf(command.description()),
+                command.amount() == null ? "null" : command.amount().stripTrailingZeros().toPlainString(),
+                String.valueOf(command.isIncome()),
+                String.valueOf(command.category()),
+                String.valueOf(command.transactionDate()),
+                String.valueOf(command.userId()));
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
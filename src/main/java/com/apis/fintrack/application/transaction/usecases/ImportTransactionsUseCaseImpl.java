@@ -0,0 +1,66 @@
+package com.apis.fintrack.application.transaction.usecases;
+
+import com.apis.fintrack.application.budget.mapper.TransactionCommandMapper;
+import com.apis.fintrack.domain.transaction.model.Transaction;
+import com.apis.fintrack.domain.transaction.model.TransactionFingerprint;
+import com.apis.fintrack.domain.transaction.port.input.CreateTransactionUseCase;
+import com.apis.fintrack.domain.transaction.port.input.CreateTransactionUseCase.CreateTransactionCommand;
+import com.apis.fintrack.domain.transaction.port.input.ImportTransactionsUseCase;
+import com.apis.fintrack.domain.transaction.port.output.DuplicateTransactionPort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Implementación del caso de uso de importación masiva.
+ *
+ * Cada fila se comprueba contra el filtro de duplicados del usuario (O(1) en
+ * el caso habitual) y contra las filas ya aceptadas en esta importación. Las
+ * filas nuevas se crean con CreateTransactionUseCase, de modo que mantienen el
+ * índice de saldo, el de búsqueda y el propio filtro de duplicados.
+ */
+@Service
+@Transactional
+public class ImportTransactionsUseCaseImpl implements ImportTransactionsUseCase {
+
+    private final CreateTransactionUseCase createTransactionUseCase;
+    private final TransactionCommandMapper transactionCommandMapper;
+    private final DuplicateTransactionPort duplicateTransactions;
+
+    public ImportTransactionsUseCaseImpl(CreateTransactionUseCase createTransactionUseCase,
+                                         TransactionCommandMapper transactionCommandMapper,
+                                         DuplicateTransactionPort duplicateTransactions) {
+        this.createTransactionUseCase = createTransactionUseCase;
+        this.transactionCommandMapper = transactionCommandMapper;
+        this.duplicateTransactions = duplicateTransactions;
+    }
+
+    @Override
+    public ImportTransactionsResult importAll(List<CreateTransactionCommand> commands) {
+        if (commands == null) {
+            throw new IllegalArgumentException("La lista de transacciones no puede ser nula");
+        }
+        List<Transaction> created = new ArrayList<>();
+        List<Integer> duplicateRows = new ArrayList<>();
+        Set<TransactionFingerprint> acceptedInBatch = new HashSet<>();
+
+        for (int row = 0; row < commands.size(); row++) {
+            CreateTransactionCommand command = commands.get(row);
+            // El mapper valida la fila y aplica el signo del monto
+            Transaction candidate = transactionCommandMapper.toTransaction(command);
+            TransactionFingerprint fingerprint = TransactionFingerprint.of(candidate);
+
+            if (!acceptedInBatch.add(fingerprint)
+                    || duplicateTransactions.isDuplicate(candidate.getUserId(), fingerprint)) {
+                duplicateRows.add(row);
+                continue;
+            }
+            created.add(createTransactionUseCase.execute(command));
+        }
+        return new ImportTransactionsResult(created, duplicateRows);
+    }
+}
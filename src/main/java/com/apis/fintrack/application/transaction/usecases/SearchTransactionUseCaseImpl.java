@@ -0,0 +1,48 @@
+package com.apis.fintrack.application.transaction.usecases;
+
+import com.apis.fintrack.domain.transaction.model.Transaction;
+import com.apis.fintrack.domain.transaction.port.input.SearchTransactionUseCase;
+import com.apis.fintrack.domain.transaction.port.output.TransactionRepositoryPort;
+import com.apis.fintrack.domain.transaction.port.output.TransactionSearchPort;
+import com.apis.fintrack.domain.user.model.UserId;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Implementación del caso de uso de búsqueda de texto libre.
+ *
+ * El índice devuelve solo IDs ya ordenados por fecha; las transacciones se
+ * cargan después por ID en una única consulta.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SearchTransactionUseCaseImpl implements SearchTransactionUseCase {
+
+    private static final int MAX_LIMIT = 200;
+
+    private final TransactionSearchPort transactionSearch;
+    private final TransactionRepositoryPort transactionRepository;
+
+    public SearchTransactionUseCaseImpl(TransactionSearchPort transactionSearch,
+                                        TransactionRepositoryPort transactionRepository) {
+        this.transactionSearch = transactionSearch;
+        this.transactionRepository = transactionRepository;
+    }
+
+    @Override
+    public List<Transaction> search(Long userId, String text, int limit) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("search text must not be blank");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        List<Long> ids = transactionSearch.search(UserId.of(userId), text, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return transactionRepository.findAllById(ids);
+    }
+}
@@ -1,15 +1,22 @@
 package com.apis.fintrack.application.transaction.usecases;
 
 import com.apis.fintrack.application.transaction.mapper.TransactionUpdateCommandMapper;
+import com.apis.fintrack.domain.shared.model.Money;
 import com.apis.fintrack.domain.transaction.exception.TransactionNotFoundException;
 import com.apis.fintrack.domain.transaction.model.*;
 import com.apis.fintrack.domain.transaction.port.input.UpdateTransactionUseCase;
+import com.apis.fintrack.domain.transaction.port.output.BalanceHistoryPort;
+import com.apis.fintrack.domain.transaction.port.output.DuplicateTransactionPort;
+import com.apis.fintrack.domain.transaction.port.output.RecurringSeriesPort;
 import com.apis.fintrack.domain.transaction.port.output.TransactionRepositoryPort;
+import com.apis.fintrack.domain.transaction.port.output.TransactionSearchPort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Implementación del caso de uso de actualización de transacción.
@@ -26,38 +33,58 @@ public class UpdateTransactionUseCaseImpl implements UpdateTransactionUseCase {
     
     private final TransactionRepositoryPort transactionRepository;
     private final TransactionUpdateCommandMapper transactionUpdateCommandMapper;
+    private final BalanceHistoryPort balanceHistory;
+    private final TransactionSearchPort transactionSearch;
+    private final DuplicateTransactionPort duplicateTransactions;
+    private final RecurringSeriesPort recurringSeries;
 
-    public UpdateTransactionUseCaseImpl(TransactionRepositoryPort transactionRepository, TransactionUpdateCommandMapper transactionUpdateCommandMapper) {
+    public UpdateTransactionUseCaseImpl(TransactionRepositoryPort transactionRepository, TransactionUpdateCommandMapper transactionUpdateCommandMapper,
+                                        BalanceHistoryPort balanceHistory, TransactionSearchPort transactionSearch,
+                                        DuplicateTransactionPort duplicateTransactions, RecurringSeriesPort recurringSeries) {
         this.transactionRepository = transactionRepository;
         this.transactionUpdateCommandMapper = transactionUpdateCommandMapper;
+        this.balanceHistory = balanceHistory;
+        this.transactionSearch = transactionSearch;
+        this.duplicateTransactions = duplicateTransactions;
+        this.recurringSeries = recurringSeries;
     }
     
     @Override
     public Transaction update(UpdateTransactionCommand command) {
         Transaction transaction = findTransactionOrThrow(command.transactionId());
+        LocalDate oldDate = transaction.getTransactionDate().getValue();
+        BigDecimal oldAmount = transaction.getAmount().getValue();
         transactionUpdateCommandMapper.applyUpdateCommand(transaction, command);
-        return transactionRepository.save(transaction);
+        return saveAndRecordBalance(transaction, oldDate, oldAmount);
     }
     
     @Override
     public Transaction updateDescription(Long transactionId, String newDescription) {
         Transaction transaction = findTransactionOrThrow(transactionId);
         transaction.changeDescription(newDescription);
-        return transactionRepository.save(transaction);
+        Transaction saved = transactionRepository.save(transaction);
+        transactionSearch.index(saved);
+        duplicateTransactions.register(saved.getUserId(), TransactionFingerprint.of(saved));
+        recurringSeries.invalidate(saved.getUserId());
+        return saved;
     }
     
     @Override
     public Transaction updateAmount(Long transactionId, BigDecimal newAmount) {
         Transaction transaction = findTransactionOrThrow(transactionId);
+        LocalDate oldDate = transaction.getTransactionDate().getValue();
+        BigDecimal oldAmount = transaction.getAmount().getValue();
         transaction.changeAmount(newAmount);
-        return transactionRepository.save(transaction);
+        return saveAndRecordBalance(transaction, oldDate, oldAmount);
     }
     
     @Override
     public Transaction updateType(Long transactionId, boolean isIncome) {
         Transaction transaction = findTransactionOrThrow(transactionId);
+        LocalDate oldDate = transaction.getTransactionDate().getValue();
+        BigDecimal oldAmount = transaction.getAmount().getValue();
         transaction.changeType(isIncome);
-        return transactionRepository.save(transaction);
+        return saveAndRecordBalance(transaction, oldDate, oldAmount);
     }
     
     @Override
@@ -70,8 +97,32 @@ public class UpdateTransactionUseCaseImpl implements UpdateTransactionUseCase {
     @Override
     public Transaction updateDate(Long transactionId, LocalDate newDate) {
         Transaction transaction = findTransactionOrThrow(transactionId);
+        LocalDate oldDate = transaction.getTransactionDate().getValue();
+        BigDecimal oldAmount = transaction.getAmount().getValue();
         transaction.changeDate(newDate);
-        return transactionRepository.save(transaction);
+        return saveAndRecordBalance(transaction, oldDate, oldAmount);
+    }
+    
+    /**
+     * Persiste la transacción y ajusta el índice de saldo diario: se retira el
+     * monto anterior de su día y se suma el nuevo al suyo. También reindexa la
+     * descripción y la fecha en el índice de búsqueda.
+     */
+    private Transaction saveAndRecordBalance(Transaction transaction, LocalDate oldDate, BigDecimal oldAmount) {
+        Transaction saved = transactionRepository.save(transaction);
+        transactionSearch.index(saved);
+        duplicateTransactions.register(saved.getUserId(), TransactionFingerprint.of(saved));
+        recurringSeries.invalidate(saved.getUserId());
+        LocalDate newDate = saved.getTransactionDate().getValue();
+        BigDecimal newAmount = saved.getAmount().getValue();
+        if (oldDate.equals(newDate) && oldAmount.compareTo(newAmount) == 0) {
+            return saved;
+        }
+        Map<LocalDate, Money> deltas = new HashMap<>();
+        deltas.put(oldDate, Money.of(oldAmount.negate()));
+        deltas.merge(newDate, Money.of(newAmount), Money::add);
+        balanceHistory.recordDeltas(saved.getUserId(), deltas);
+        return saved;
     }
     
     private Transaction findTransactionOrThrow(Long transactionId) {
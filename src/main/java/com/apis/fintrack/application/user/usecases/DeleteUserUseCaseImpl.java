@@ -2,7 +2,10 @@ package com.apis.fintrack.application.user.usecases;
 
 import com.apis.fintrack.domain.user.exception.UserNotFoundException;
 import com.apis.fintrack.domain.user.port.input.DeleteUserUseCase;
+import com.apis.fintrack.domain.user.model.User;
+import com.apis.fintrack.domain.user.model.UserId;
 import com.apis.fintrack.domain.user.port.output.UserRepositoryPort;
+import com.apis.fintrack.domain.user.port.output.UserSessionPort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,9 +19,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteUserUseCaseImpl implements DeleteUserUseCase {
     
     private final UserRepositoryPort userRepository;
+    private final UserSessionPort userSessions;
     
-    public DeleteUserUseCaseImpl(UserRepositoryPort userRepository) {
+    public DeleteUserUseCaseImpl(UserRepositoryPort userRepository, UserSessionPort userSessions) {
         this.userRepository = userRepository;
+        this.userSessions = userSessions;
     }
     
     @Override
@@ -28,15 +33,16 @@ public class DeleteUserUseCaseImpl implements DeleteUserUseCase {
             throw new UserNotFoundException("User not found with id " + userId);
         }
         userRepository.deleteById(userId);
+        userSessions.invalidate(UserId.of(userId));
     }
     
     @Override
     public void deleteByEmail(String email) {
         // Verificar que el usuario existe antes de eliminar
-        if (!userRepository.existsByEmail(email)) {
-            throw new UserNotFoundException("User not found with email" + email);
-        }
+        User user = userRepository.findByEmail(email)
+            .orElseThrow(() -> new UserNotFoundException("User not found with email" + email));
         userRepository.deleteByEmail(email);
+        userSessions.invalidate(user.getId());
     }
 }
 
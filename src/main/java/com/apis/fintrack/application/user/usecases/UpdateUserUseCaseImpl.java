@@ -11,6 +11,7 @@ import com.apis.fintrack.domain.user.model.User;
 import com.apis.fintrack.domain.user.port.input.UpdateUserUseCase;
 import com.apis.fintrack.domain.user.port.output.PasswordEncoderPort;
 import com.apis.fintrack.domain.user.port.output.UserRepositoryPort;
+import com.apis.fintrack.domain.user.port.output.UserSessionPort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,11 +30,14 @@ public class UpdateUserUseCaseImpl implements UpdateUserUseCase {
     
     private final UserRepositoryPort userRepository;
     private final PasswordEncoderPort passwordEncoder;
+    private final UserSessionPort userSessions;
     
     public UpdateUserUseCaseImpl(UserRepositoryPort userRepository, 
-                                 PasswordEncoderPort passwordEncoder) {
+                                 PasswordEncoderPort passwordEncoder,
+                                 UserSessionPort userSessions) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userSessions = userSessions;
     }
     
     @Override
@@ -60,7 +64,10 @@ public class UpdateUserUseCaseImpl implements UpdateUserUseCase {
         }
         
         user.changeEmail(Email.of(newEmail));
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        // El email es el subject del token: los tokens emitidos dejan de valer
+        userSessions.invalidate(saved.getId());
+        return saved;
     }
     
     @Override
@@ -71,7 +78,9 @@ public class UpdateUserUseCaseImpl implements UpdateUserUseCase {
         String hashedPassword = passwordEncoder.encode(newPassword);
         user.changePassword(Password.fromStorage(hashedPassword));
         
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userSessions.invalidate(saved.getId());
+        return saved;
     }
     
     @Override
@@ -85,21 +94,40 @@ public class UpdateUserUseCaseImpl implements UpdateUserUseCase {
     public User updateRole(Long userId, RoleType newRole) {
         User user = findUserOrThrow(userId);
         user.changeRole(newRole);
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userSessions.invalidate(saved.getId());
+        return saved;
     }
     
     @Override
     public User addFunds(Long userId, BigDecimal amount) {
-        User user = findUserOrThrow(userId);
-        user.addFunds(Money.of(amount));
-        return userRepository.save(user);
+        Money funds = validFundsAmount(amount, "Cannot add negative funds");
+        // UPDATE atómico: evita el read-modify-write y las actualizaciones perdidas
+        if (!userRepository.addFunds(userId, funds.getAmount())) {
+            throw new UserNotFoundException("Usuario no encontrado con ID: " + userId);
+        }
+        return findUserOrThrow(userId);
     }
     
     @Override
     public User withdrawFunds(Long userId, BigDecimal amount) {
-        User user = findUserOrThrow(userId);
-        user.withdrawFunds(Money.of(amount));
-        return userRepository.save(user);
+        Money funds = validFundsAmount(amount, "Cannot withdraw negative funds");
+        // UPDATE atómico condicionado a saldo suficiente (WHERE availableFunds >= amount)
+        if (!userRepository.withdrawFunds(userId, funds.getAmount())) {
+            if (!userRepository.existsById(userId)) {
+                throw new UserNotFoundException("Usuario no encontrado con ID: " + userId);
+            }
+            throw new IllegalArgumentException("Insufficient funds");
+        }
+        return findUserOrThrow(userId);
+    }
+    
+    private Money validFundsAmount(BigDecimal amount, String negativeMessage) {
+        Money funds = Money.of(amount);
+        if (funds.isNegative()) {
+            throw new IllegalArgumentException(negativeMessage);
+        }
+        return funds;
     }
     
     private User findUserOrThrow(Long userId) {
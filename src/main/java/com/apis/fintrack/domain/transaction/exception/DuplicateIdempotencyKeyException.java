@@ -0,0 +1,7 @@
+package com.apis.fintrack.domain.transaction.exception;
+
+public class DuplicateIdempotencyKeyException extends RuntimeException {
+    public DuplicateIdempotencyKeyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.apis.fintrack.domain.transaction.exception;
+
+public class IdempotencyKeyReuseException extends RuntimeException {
+    public IdempotencyKeyReuseException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.apis.fintrack.domain.transaction.exception;
+
+public class IngestionOverloadedException extends RuntimeException {
+    public IngestionOverloadedException(String message) {
+        super(message);
+    }
+}
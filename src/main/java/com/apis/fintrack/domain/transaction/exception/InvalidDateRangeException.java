@@ -0,0 +1,7 @@
+package com.apis.fintrack.domain.transaction.exception;
+
+public class InvalidDateRangeException extends IllegalArgumentException {
+    public InvalidDateRangeException(String message) {
+        super(message);
+    }
+}
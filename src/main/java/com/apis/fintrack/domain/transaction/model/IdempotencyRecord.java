@@ -0,0 +1,14 @@
+package com.apis.fintrack.domain.transaction.model;
+
+/**
+ * Resultado guardado de una creación de transacción con clave de idempotencia.
+ *
+ * @param requestHash huella de la petición original, para detectar una misma
+ *                    clave reutilizada con otro contenido
+ * @param transaction la transacción tal y como se creó
+ */
+public record IdempotencyRecord(
+    String requestHash,
+    Transaction transaction
+) {
+}
@@ -0,0 +1,48 @@
+package com.apis.fintrack.domain.transaction.model;
+
+import java.time.LocalDate;
+
+/**
+ * Periodicidad de una serie de transacciones recurrentes.
+ *
+ * Cada periodo admite una tolerancia en días para el intervalo entre dos
+ * cargos consecutivos (fines de semana, meses de distinta longitud...).
+ */
+public enum RecurrencePeriod {
+    WEEKLY(6, 8),
+    MONTHLY(27, 33),
+    ANNUAL(358, 372);
+
+    private final int minDays;
+    private final int maxDays;
+
+    RecurrencePeriod(int minDays, int maxDays) {
+        this.minDays = minDays;
+        this.maxDays = maxDays;
+    }
+
+    /**
+     * Periodo cuyo rango de tolerancia contiene el intervalo, o null si ninguno.
+     *
+     * @param days días entre dos cargos consecutivos
+     */
+    public static RecurrencePeriod matching(long days) {
+        for (RecurrencePeriod period : values()) {
+            if (days >= period.minDays && days <= period.maxDays) {
+                return period;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Fecha esperada del siguiente cargo.
+     */
+    public LocalDate next(LocalDate date) {
+        return switch (this) {
+            case WEEKLY -> date.plusWeeks(1);
+            case MONTHLY -> date.plusMonths(1);
+            case ANNUAL -> date.plusYears(1);
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.apis.fintrack.domain.transaction.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Serie de transacciones recurrentes detectada para un usuario.
+ *
+ * @param description descripción de la última transacción de la serie
+ * @param amount monto (con signo) de la última transacción de la serie
+ * @param period periodicidad detectada
+ * @param lastDate fecha de la última transacción de la serie
+ * @param occurrences número de transacciones observadas
+ */
+public record RecurringSeries(
+    String description,
+    BigDecimal amount,
+    RecurrencePeriod period,
+    LocalDate lastDate,
+    int occurrences
+) {
+}
@@ -0,0 +1,39 @@
+package com.apis.fintrack.domain.transaction.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Criterios combinables para filtrar las transacciones de un usuario.
+ *
+ * Todos los criterios salvo userId son opcionales (null = sin filtrar). Los
+ * montos se comparan con el valor almacenado, es decir, con signo (los gastos
+ * son negativos). afterDate/afterId son el cursor de paginación por clave: se
+ * devuelven solo transacciones anteriores a ese par en orden (fecha, id)
+ * descendente.
+ *
+ * @param userId ID del usuario propietario (obligatorio)
+ * @param categories conjunto de categorías admitidas
+ * @param startDate fecha mínima (inclusive)
+ * @param endDate fecha máxima (inclusive)
+ * @param minAmount monto mínimo (inclusive)
+ * @param maxAmount monto máximo (inclusive)
+ * @param isIncome true solo ingresos, false solo gastos
+ * @param descriptionPrefix prefijo de la descripción
+ * @param afterDate fecha de la última transacción de la página anterior
+ * @param afterId ID de la última transacción de la página anterior
+ */
+public record TransactionFilter(
+    Long userId,
+    Set<TransactionCategoryEnum> categories,
+    LocalDate startDate,
+    LocalDate endDate,
+    BigDecimal minAmount,
+    BigDecimal maxAmount,
+    Boolean isIncome,
+    String descriptionPrefix,
+    LocalDate afterDate,
+    Long afterId
+) {
+}
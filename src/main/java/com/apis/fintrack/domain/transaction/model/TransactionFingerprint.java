@@ -0,0 +1,92 @@
+package com.apis.fintrack.domain.transaction.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Huella de una transacción para detectar duplicados: (fecha, monto con signo,
+ * descripción normalizada).
+ *
+ * La normalización ignora mayúsculas, acentos, signos de puntuación y espacios
+ * repetidos, de modo que "Café  Central." y "cafe central" producen la misma
+ * huella.
+ */
+public record TransactionFingerprint(LocalDate date, long amountCents, String normalizedDescription) {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{Alnum}]+");
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    public TransactionFingerprint {
+        Objects.requireNonNull(date, "La fecha no puede ser nula");
+        Objects.requireNonNull(normalizedDescription, "La descripción no puede ser nula");
+    }
+
+    public static TransactionFingerprint of(LocalDate date, BigDecimal amount, String description) {
+        return new TransactionFingerprint(date, toCents(amount), normalizeDescription(description));
+    }
+
+    public static TransactionFingerprint of(Transaction transaction) {
+        return of(
+            transaction.getTransactionDate().getValue(),
+            transaction.getAmount().getValue(),
+            transaction.getDescription().getValue()
+        );
+    }
+
+    /**
+     * Normaliza una descripción: minúsculas, sin acentos y con las palabras
+     * separadas por un único espacio.
+     */
+    public static String normalizeDescription(String description) {
+        if (description == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(description, Normalizer.Form.NFD);
+        String withoutAccents = DIACRITICS.matcher(decomposed).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(withoutAccents.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * Hash de 64 bits estable entre ejecuciones (FNV-1a con el finalizador de
+     * SplitMix64), apto para filtros probabilísticos: el filtro de Bloom usa
+     * por separado las dos mitades de 32 bits, y sin el finalizador los bits
+     * altos dependen mal de los últimos bytes.
+     */
+    public long hash64() {
+        long hash = FNV_OFFSET_BASIS;
+        hash = mix(hash, date.toEpochDay());
+        hash = mix(hash, amountCents);
+        for (byte b : normalizedDescription.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 30;
+        hash *= 0xbf58476d1ce4e5b9L;
+        hash ^= hash >>> 27;
+        hash *= 0x94d049bb133111ebL;
+        hash ^= hash >>> 31;
+        return hash;
+    }
+
+    private static long mix(long hash, long value) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            hash ^= (value >>> shift) & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long toCents(BigDecimal amount) {
+        Objects.requireNonNull(amount, "El monto no puede ser nulo");
+        return amount.setScale(2, RoundingMode.HALF_UP).movePointRight(2).longValueExact();
+    }
+}
@@ -0,0 +1,20 @@
+package com.apis.fintrack.domain.transaction.port.input;
+
+import java.time.LocalDate;
+
+/**
+ * Puerto de entrada para archivar las transacciones anteriores al horizonte
+ * configurado (partición fría).
+ */
+public interface ArchiveTransactionsUseCase {
+
+    /**
+     * Archiva todas las transacciones anteriores al horizonte.
+     *
+     * @return resultado con la fecha de corte y el número de transacciones movidas
+     */
+    ArchiveResult execute();
+
+    record ArchiveResult(LocalDate cutoff, int archived) {
+    }
+}
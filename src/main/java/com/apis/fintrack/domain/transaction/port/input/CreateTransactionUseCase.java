@@ -5,6 +5,7 @@ import com.apis.fintrack.domain.transaction.model.Transaction;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * Puerto de entrada para el caso de uso de creaciÃ³n de transacciÃ³n.
@@ -54,6 +55,29 @@ public interface CreateTransactionUseCase {
      * @throws IllegalArgumentException si los datos no son vÃ¡lidos
      */
     Transaction execute(CreateTransactionCommand command);
+    
+    /**
+     * Crea varias transacciones en una única transacción de base de datos:
+     * o se crean todas o ninguna.
+     * 
+     * @param commands los datos de las transacciones a crear
+     * @return las transacciones creadas, en el mismo orden
+     * @throws IllegalArgumentException si alguna fila no es válida
+     */
+    List<Transaction> executeAll(List<CreateTransactionCommand> commands);
+
+    /**
+     * Crea una transacción y guarda su clave de idempotencia en la misma
+     * transacción de base de datos.
+     * 
+     * @param command los datos de la transacción a crear
+     * @param idempotencyKey clave enviada por el cliente
+     * @param requestHash huella de la petición
+     * @return la transacción creada con su ID asignado
+     * @throws com.apis.fintrack.domain.transaction.exception.DuplicateIdempotencyKeyException
+     *         si otra petición ya guardó la misma clave (nada se crea)
+     */
+    Transaction executeIdempotent(CreateTransactionCommand command, String idempotencyKey, String requestHash);
 }
 
 
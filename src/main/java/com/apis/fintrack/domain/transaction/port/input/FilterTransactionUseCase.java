@@ -0,0 +1,38 @@
+package com.apis.fintrack.domain.transaction.port.input;
+
+import com.apis.fintrack.domain.transaction.model.Transaction;
+import com.apis.fintrack.domain.transaction.model.TransactionFilter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Puerto de entrada para el filtrado combinado de transacciones de un usuario.
+ */
+public interface FilterTransactionUseCase {
+
+    /**
+     * Página obtenida por cursor.
+     *
+     * @param content transacciones de la página, de la más reciente a la más antigua
+     * @param nextAfterDate fecha a enviar como cursor para la siguiente página (null si no hay más)
+     * @param nextAfterId ID a enviar como cursor para la siguiente página (null si no hay más)
+     * @param hasMore true si existen más resultados
+     */
+    record TransactionKeysetPage(
+        List<Transaction> content,
+        LocalDate nextAfterDate,
+        Long nextAfterId,
+        boolean hasMore
+    ) {}
+
+    /**
+     * Filtra las transacciones del usuario combinando todos los criterios no nulos.
+     *
+     * @param filter criterios y cursor
+     * @param size tamaño de la página
+     * @return la página de resultados
+     * @throws IllegalArgumentException si los criterios no son coherentes
+     */
+    TransactionKeysetPage filter(TransactionFilter filter, int size);
+}
@@ -0,0 +1,35 @@
+package com.apis.fintrack.domain.transaction.port.input;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.SortedMap;
+
+/**
+ * Puerto de entrada para consultar la evolución del saldo de un usuario.
+ *
+ * El saldo se calcula como la suma acumulada de todas sus transacciones
+ * (ingresos positivos, gastos negativos) hasta cada fecha.
+ */
+public interface GetBalanceHistoryUseCase {
+
+    /**
+     * Obtiene el saldo acumulado de un usuario en una fecha.
+     *
+     * @param userId ID del usuario
+     * @param date fecha de consulta (inclusive)
+     * @return saldo acumulado hasta esa fecha
+     */
+    BigDecimal getBalanceAt(Long userId, LocalDate date);
+
+    /**
+     * Obtiene la curva de saldo diaria de un usuario entre dos fechas.
+     *
+     * @param userId ID del usuario
+     * @param startDate fecha de inicio (inclusive)
+     * @param endDate fecha de fin (inclusive)
+     * @return saldo acumulado por día, ordenado por fecha
+     * @throws com.apis.fintrack.domain.transaction.exception.InvalidDateRangeException
+     *         si el rango está invertido o supera el máximo configurado
+     */
+    SortedMap<LocalDate, BigDecimal> getBalanceCurve(Long userId, LocalDate startDate, LocalDate endDate);
+}
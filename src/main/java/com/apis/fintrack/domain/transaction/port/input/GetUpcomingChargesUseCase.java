@@ -0,0 +1,40 @@
+package com.apis.fintrack.domain.transaction.port.input;
+
+import com.apis.fintrack.domain.transaction.model.RecurrencePeriod;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Puerto de entrada para el calendario de cargos recurrentes de un usuario.
+ */
+public interface GetUpcomingChargesUseCase {
+
+    /**
+     * Cargo previsto de una serie recurrente.
+     *
+     * @param description descripción de la serie
+     * @param amount monto previsto (con signo)
+     * @param period periodicidad de la serie
+     * @param expectedDate fecha prevista del cargo
+     */
+    record UpcomingCharge(
+        String description,
+        BigDecimal amount,
+        RecurrencePeriod period,
+        LocalDate expectedDate
+    ) {}
+
+    /**
+     * Proyecta los cargos recurrentes del usuario entre dos fechas.
+     *
+     * @param userId ID del usuario
+     * @param from fecha inicial (inclusive)
+     * @param until fecha final (inclusive)
+     * @return cargos previstos ordenados por fecha
+     * @throws com.apis.fintrack.domain.transaction.exception.InvalidDateRangeException
+     *         si el rango está invertido o supera el máximo configurado
+     */
+    List<UpcomingCharge> getUpcoming(Long userId, LocalDate from, LocalDate until);
+}
@@ -0,0 +1,31 @@
+package com.apis.fintrack.domain.transaction.port.input;
+
+import com.apis.fintrack.domain.transaction.model.Transaction;
+import com.apis.fintrack.domain.transaction.port.input.CreateTransactionUseCase.CreateTransactionCommand;
+
+/**
+ * Puerto de entrada para crear transacciones con clave de idempotencia
+ * (cabecera Idempotency-Key).
+ *
+ * Una petición repetida con la misma clave devuelve la transacción creada la
+ * primera vez en lugar de crear otra.
+ */
+public interface IdempotentCreateTransactionUseCase {
+
+    /**
+     * Crea la transacción, o devuelve la ya creada con esta clave.
+     *
+     * Peticiones concurrentes con la misma clave esperan a la primera y
+     * reciben su mismo resultado.
+     *
+     * @param idempotencyKey clave enviada por el cliente (1 a 255 caracteres)
+     * @param command los datos de la transacción a crear
+     * @return la transacción y si la respuesta es una repetición
+     * @throws com.apis.fintrack.domain.transaction.exception.IdempotencyKeyReuseException
+     *         si la clave ya se usó con otros datos
+     */
+    IdempotentCreation create(String idempotencyKey, CreateTransactionCommand command);
+
+    record IdempotentCreation(Transaction transaction, boolean replayed) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.apis.fintrack.domain.transaction.port.input;
+
+import com.apis.fintrack.domain.transaction.model.Transaction;
+import com.apis.fintrack.domain.transaction.port.input.CreateTransactionUseCase.CreateTransactionCommand;
+
+import java.util.List;
+
+/**
+ * Puerto de entrada para la importación masiva de transacciones con detección
+ * de duplicados.
+ */
+public interface ImportTransactionsUseCase {
+
+    /**
+     * Resultado de una importación.
+     *
+     * @param created transacciones creadas, en el orden de entrada
+     * @param duplicateRows posiciones (base 0) de las filas descartadas por duplicadas
+     */
+    record ImportTransactionsResult(
+        List<Transaction> created,
+        List<Integer> duplicateRows
+    ) {}
+
+    /**
+     * Crea las transacciones que no existan ya para el usuario. Una fila es
+     * duplicada si coincide en fecha, monto y descripción normalizada con una
+     * transacción existente o con una fila anterior de la misma importación.
+     *
+     * @param commands filas a importar
+     * @return transacciones creadas y filas duplicadas
+     */
+    ImportTransactionsResult importAll(List<CreateTransactionCommand> commands);
+}
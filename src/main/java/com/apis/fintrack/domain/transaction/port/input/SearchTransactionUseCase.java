@@ -0,0 +1,23 @@
+package com.apis.fintrack.domain.transaction.port.input;
+
+import com.apis.fintrack.domain.transaction.model.Transaction;
+
+import java.util.List;
+
+/**
+ * Puerto de entrada para la búsqueda de texto libre sobre las descripciones
+ * de las transacciones de un usuario.
+ */
+public interface SearchTransactionUseCase {
+
+    /**
+     * Busca transacciones del usuario cuya descripción coincide con el texto,
+     * por prefijo o con pequeñas erratas.
+     *
+     * @param userId ID del usuario
+     * @param text texto a buscar
+     * @param limit número máximo de resultados
+     * @return transacciones encontradas, de la más reciente a la más antigua
+     */
+    List<Transaction> search(Long userId, String text, int limit);
+}
@@ -0,0 +1,27 @@
+package com.apis.fintrack.domain.transaction.port.input;
+
+import com.apis.fintrack.domain.transaction.model.Transaction;
+import com.apis.fintrack.domain.transaction.port.input.CreateTransactionUseCase.CreateTransactionCommand;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Puerto de entrada para la ingesta de transacciones individuales que pueden
+ * llegar en ráfagas (sincronización bancaria, confirmación de borradores).
+ *
+ * Según la configuración, la implementación crea la transacción de inmediato
+ * o la agrupa con otras en un único commit. En ambos casos el futuro solo se
+ * completa cuando la transacción ya está confirmada en base de datos.
+ */
+public interface TransactionIngestionUseCase {
+
+    /**
+     * Encola la creación de una transacción.
+     *
+     * @param command los datos de la transacción
+     * @return futuro que se completa con la transacción creada (con ID asignado)
+     * @throws com.apis.fintrack.domain.transaction.exception.IngestionOverloadedException
+     *         si la cola de ingesta está llena
+     */
+    CompletableFuture<Transaction> submit(CreateTransactionCommand command);
+}
@@ -0,0 +1,50 @@
+package com.apis.fintrack.domain.transaction.port.output;
+
+import com.apis.fintrack.domain.shared.model.Money;
+import com.apis.fintrack.domain.user.model.UserId;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Output port that maintains a per-user daily cumulative balance index.
+ * <p>
+ * Every transaction write publishes its signed delta for the affected day, so
+ * implementations can answer "balance at date X" and balance curves without
+ * summing the full transaction history (e.g. with a Fenwick tree keyed by day).
+ */
+public interface BalanceHistoryPort {
+
+    /**
+     * Applies signed deltas (income positive, expense negative) to the given days
+     * as a single change, e.g. removing an amount from its old date and adding it
+     * to the new one when a transaction is edited.
+     */
+    void recordDeltas(UserId userId, Map<LocalDate, Money> deltasByDay);
+
+    /**
+     * Applies a signed delta to a single day.
+     */
+    default void recordDelta(UserId userId, LocalDate day, Money delta) {
+        recordDeltas(userId, Map.of(day, delta));
+    }
+
+    /**
+     * Cumulative balance of all transactions up to and including the given day.
+     * Returns Money.zero() if the user has no transactions before that day.
+     */
+    Money balanceAt(UserId userId, LocalDate day);
+
+    /**
+     * Daily cumulative balance for every day between start and end (inclusive),
+     * ordered by date.
+     */
+    SortedMap<LocalDate, BigDecimal> balanceCurve(UserId userId, LocalDate start, LocalDate end);
+
+    /**
+     * Drops every delta recorded for the user (e.g. when all transactions are deleted).
+     */
+    void clear(UserId userId);
+}
@@ -0,0 +1,24 @@
+package com.apis.fintrack.domain.transaction.port.output;
+
+import com.apis.fintrack.domain.transaction.model.TransactionFingerprint;
+import com.apis.fintrack.domain.user.model.UserId;
+
+/**
+ * Output port for detecting transactions that already exist for a user.
+ *
+ * Implementations are expected to answer the common "not a duplicate" case
+ * without touching the database.
+ */
+public interface DuplicateTransactionPort {
+
+    /**
+     * Whether the user already has a transaction with this fingerprint.
+     * Never returns a false positive.
+     */
+    boolean isDuplicate(UserId userId, TransactionFingerprint fingerprint);
+
+    /**
+     * Records the fingerprint of a transaction saved in the current transaction.
+     */
+    void register(UserId userId, TransactionFingerprint fingerprint);
+}
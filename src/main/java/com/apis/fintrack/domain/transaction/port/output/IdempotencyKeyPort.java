@@ -0,0 +1,38 @@
+package com.apis.fintrack.domain.transaction.port.output;
+
+import com.apis.fintrack.domain.transaction.model.IdempotencyRecord;
+import com.apis.fintrack.domain.transaction.model.Transaction;
+import com.apis.fintrack.domain.user.model.UserId;
+
+import java.util.Optional;
+
+/**
+ * Output port that remembers the outcome of transaction creations made with an
+ * Idempotency-Key, so that a retried request can be answered without creating
+ * the transaction again.
+ *
+ * Keys are scoped per user and expire after a configurable time.
+ */
+public interface IdempotencyKeyPort {
+
+    /**
+     * The stored outcome for the key, if it exists and has not expired.
+     */
+    Optional<IdempotencyRecord> find(UserId userId, String key);
+
+    /**
+     * Like {@link #find}, but always read from the primary database. Used right
+     * after a save lost to a concurrent one, when a read replica may not have
+     * the winning row yet.
+     */
+    Optional<IdempotencyRecord> findCommitted(UserId userId, String key);
+
+    /**
+     * Stores the outcome in the current database transaction, so the key and the
+     * transaction it created are committed (or rolled back) together.
+     *
+     * @throws com.apis.fintrack.domain.transaction.exception.DuplicateIdempotencyKeyException
+     *         if another request already stored the same key
+     */
+    void save(UserId userId, String key, String requestHash, Transaction created);
+}
@@ -0,0 +1,32 @@
+package com.apis.fintrack.domain.transaction.port.output;
+
+import com.apis.fintrack.domain.transaction.model.RecurringSeries;
+import com.apis.fintrack.domain.transaction.model.Transaction;
+import com.apis.fintrack.domain.user.model.UserId;
+
+import java.util.List;
+
+/**
+ * Output port for recurring transaction detection.
+ *
+ * Updates are called from the write use cases inside their transaction;
+ * implementations must only apply them once that transaction commits.
+ */
+public interface RecurringSeriesPort {
+
+    /**
+     * Recurring series currently detected in the user's history.
+     */
+    List<RecurringSeries> findRecurring(UserId userId);
+
+    /**
+     * Feeds a newly created transaction into the user's series.
+     */
+    void record(Transaction transaction);
+
+    /**
+     * Drops the user's detected series after an update or delete; they are
+     * rebuilt from the database on the next read.
+     */
+    void invalidate(UserId userId);
+}
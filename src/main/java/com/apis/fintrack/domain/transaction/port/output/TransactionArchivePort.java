@@ -0,0 +1,20 @@
+package com.apis.fintrack.domain.transaction.port.output;
+
+import java.time.LocalDate;
+
+/**
+ * Output port that moves old transactions from the hot store to a cold archive.
+ *
+ * Archived transactions keep their ID and stay readable through
+ * TransactionRepositoryPort; only the physical location changes.
+ */
+public interface TransactionArchivePort {
+
+    /**
+     * Moves up to batchSize transactions dated before the cutoff to the archive,
+     * as a single database transaction.
+     *
+     * @return the number of transactions moved (0 when nothing is left)
+     */
+    int archiveBatch(LocalDate cutoff, int batchSize);
+}
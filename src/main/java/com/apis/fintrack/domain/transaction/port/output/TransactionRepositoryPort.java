@@ -2,10 +2,12 @@ package com.apis.fintrack.domain.transaction.port.output;
 
 import com.apis.fintrack.domain.transaction.model.TransactionCategoryEnum;
 import com.apis.fintrack.domain.transaction.model.Transaction;
+import com.apis.fintrack.domain.transaction.model.TransactionFilter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -32,6 +34,14 @@ public interface TransactionRepositoryPort {
      * @return Optional con la transacciÃ³n si existe
      */
     Optional<Transaction> findById(Long id);
+
+    /**
+     * Busca varias transacciones por ID en una sola consulta.
+     * 
+     * @param ids los IDs a buscar
+     * @return las transacciones existentes, en el mismo orden que los IDs
+     */
+    List<Transaction> findAllById(List<Long> ids);
     
     /**
      * Obtiene todas las transacciones paginadas.
@@ -88,6 +98,16 @@ public interface TransactionRepositoryPort {
      */
     Page<Transaction> findByUserId(Long userId, Pageable pageable);
 
+    /**
+     * Busca transacciones combinando los criterios no nulos del filtro,
+     * ordenadas por fecha e ID descendentes a partir del cursor.
+     * 
+     * @param filter criterios y cursor
+     * @param limit número máximo de filas
+     * @return las transacciones encontradas
+     */
+    List<Transaction> findByFilter(TransactionFilter filter, int limit);
+
     /**
      * Obtiene transacciones ordenadas por monto.
      * 
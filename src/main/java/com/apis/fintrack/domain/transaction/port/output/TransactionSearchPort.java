@@ -0,0 +1,30 @@
+package com.apis.fintrack.domain.transaction.port.output;
+
+import com.apis.fintrack.domain.transaction.model.Transaction;
+import com.apis.fintrack.domain.user.model.UserId;
+
+import java.util.List;
+
+/**
+ * Output port for full-text search over transaction descriptions.
+ *
+ * Index updates are called from the write use cases inside their transaction;
+ * implementations must only apply them once that transaction commits.
+ */
+public interface TransactionSearchPort {
+
+    /**
+     * Indexes a saved transaction, replacing any previous version of it.
+     */
+    void index(Transaction transaction);
+
+    void remove(Long transactionId);
+
+    void removeAllByUserId(Long userId);
+
+    /**
+     * Ids of the user's transactions matching the text (prefix and fuzzy),
+     * newest first. Ids may refer to rows deleted in the meantime.
+     */
+    List<Long> search(UserId userId, String text, int limit);
+}
@@ -4,6 +4,7 @@ import com.apis.fintrack.domain.user.model.RoleType;
 import com.apis.fintrack.domain.user.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Optional;
 
@@ -108,6 +109,27 @@ public interface UserRepositoryPort {
      */
     User save(User user);
     
+    /**
+     * Suma fondos al saldo de un usuario de forma atómica en la base de datos,
+     * sin leer ni reescribir la entidad completa.
+     * 
+     * @param id el ID del usuario
+     * @param amount la cantidad a sumar (positiva)
+     * @return true si se actualizó el saldo, false si el usuario no existe
+     */
+    boolean addFunds(Long id, BigDecimal amount);
+    
+    /**
+     * Resta fondos del saldo de un usuario de forma atómica, solo si el saldo
+     * actual es mayor o igual que la cantidad solicitada.
+     * 
+     * @param id el ID del usuario
+     * @param amount la cantidad a retirar (positiva)
+     * @return true si se actualizó el saldo, false si el usuario no existe
+     *         o no tiene fondos suficientes
+     */
+    boolean withdrawFunds(Long id, BigDecimal amount);
+    
     /**
      * Elimina un usuario por su ID.
      * 
@@ -0,0 +1,21 @@
+package com.apis.fintrack.domain.user.port.output;
+
+import com.apis.fintrack.domain.user.model.UserId;
+
+/**
+ * Puerto de salida para las sesiones (tokens) activas de un usuario.
+ * 
+ * Los casos de uso lo invocan cuando cambia algo que afecta a la autenticación
+ * (rol, email, contraseña o eliminación de la cuenta), para revocar todos los
+ * tokens emitidos hasta ese momento al usuario.
+ */
+public interface UserSessionPort {
+
+    /**
+     * Revoca los tokens emitidos al usuario. Forma parte de la transacción en
+     * curso y la capa de seguridad lo aplica tras el commit.
+     * 
+     * @param userId el usuario afectado
+     */
+    void invalidate(UserId userId);
+}
@@ -1,14 +1,20 @@
 package com.apis.fintrack.infrastructure.adapter.input.rest;
 
+import com.apis.fintrack.application.auth.port.input.LogoutUseCase;
+import com.apis.fintrack.application.auth.port.input.RefreshTokenUseCase;
 import com.apis.fintrack.infrastructure.adapter.input.rest.dto.request.Entry.CreateUserDTO;
+import com.apis.fintrack.infrastructure.adapter.input.rest.dto.request.Entry.LogoutDTO;
+import com.apis.fintrack.infrastructure.adapter.input.rest.dto.request.Entry.RefreshTokenDTO;
 import com.apis.fintrack.infrastructure.adapter.input.rest.dto.request.Entry.UserLoginDTO;
 import com.apis.fintrack.infrastructure.adapter.input.rest.dto.response.Exit.AuthResponse;
 import com.apis.fintrack.infrastructure.security.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -19,14 +25,40 @@ public class AuthController {
     @Autowired
     private AuthService service;
 
+    @Autowired
+    private LogoutUseCase logoutUseCase;
+
+    @Autowired
+    private RefreshTokenUseCase refreshTokenUseCase;
+
     @PostMapping("/register")
-    public ResponseEntity<AuthResponse> register( @Valid @RequestBody CreateUserDTO user){
-    return ResponseEntity.ok(service.register(user));
+    public ResponseEntity<AuthResponse> register( @Valid @RequestBody CreateUserDTO user, HttpServletRequest httpRequest){
+    return ResponseEntity.ok(service.register(user, httpRequest.getRemoteAddr()));
     }
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@RequestBody @Valid UserLoginDTO user){
-        return ResponseEntity.ok(service.authenticate(user));
+    public ResponseEntity<AuthResponse> login(@RequestBody @Valid UserLoginDTO user, HttpServletRequest httpRequest){
+        return ResponseEntity.ok(service.authenticate(user, httpRequest.getRemoteAddr()));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@RequestBody @Valid RefreshTokenDTO request){
+        var result = refreshTokenUseCase.refresh(new RefreshTokenUseCase.RefreshTokenCommand(request.getRefreshToken()));
+        return ResponseEntity.ok(AuthResponse.builder()
+                .token(result.accessToken())
+                .refreshToken(result.refreshToken())
+                .build());
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader("Authorization") String authorization,
+                                       @RequestBody(required = false) LogoutDTO request){
+        if (!authorization.startsWith("Bearer ")) {
+            return ResponseEntity.badRequest().build();
+        }
+        String refreshToken = request != null ? request.getRefreshToken() : null;
+        logoutUseCase.logout(new LogoutUseCase.LogoutCommand(authorization.substring(7), refreshToken));
+        return ResponseEntity.noContent().build();
     }
 }
 
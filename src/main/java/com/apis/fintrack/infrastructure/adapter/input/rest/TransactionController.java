@@ -2,27 +2,46 @@ package com.apis.fintrack.infrastructure.adapter.input.rest;
 
 import com.apis.fintrack.domain.transaction.model.TransactionCategoryEnum;
 import com.apis.fintrack.domain.transaction.model.Transaction;
-import com.apis.fintrack.domain.transaction.port.input.CreateTransactionUseCase;
+import com.apis.fintrack.domain.transaction.model.TransactionFilter;
 import com.apis.fintrack.domain.transaction.port.input.DeleteTransactionUseCase;
+import com.apis.fintrack.domain.transaction.port.input.FilterTransactionUseCase;
+import com.apis.fintrack.domain.transaction.port.input.FilterTransactionUseCase.TransactionKeysetPage;
 import com.apis.fintrack.domain.transaction.port.input.FindTransactionUseCase;
+import com.apis.fintrack.domain.transaction.port.input.ImportTransactionsUseCase;
+import com.apis.fintrack.domain.transaction.port.input.ImportTransactionsUseCase.ImportTransactionsResult;
+import com.apis.fintrack.domain.transaction.port.input.GetBalanceHistoryUseCase;
+import com.apis.fintrack.domain.transaction.port.input.GetUpcomingChargesUseCase;
+import com.apis.fintrack.domain.transaction.port.input.IdempotentCreateTransactionUseCase;
+import com.apis.fintrack.domain.transaction.port.input.IdempotentCreateTransactionUseCase.IdempotentCreation;
+import com.apis.fintrack.domain.transaction.port.input.SearchTransactionUseCase;
+import com.apis.fintrack.domain.transaction.port.input.TransactionIngestionUseCase;
 import com.apis.fintrack.domain.transaction.port.input.UpdateTransactionUseCase;
 import com.apis.fintrack.infrastructure.adapter.input.rest.dto.request.Entry.CreateTransactionDTO;
+import com.apis.fintrack.infrastructure.adapter.input.rest.dto.request.Entry.ImportTransactionDTO;
 import com.apis.fintrack.infrastructure.adapter.input.rest.dto.request.Entry.TransactionPatch.ChangeTransactionAmountDTO;
 import com.apis.fintrack.infrastructure.adapter.input.rest.dto.request.Entry.TransactionPatch.ChangeTransactionCategoryDTO;
 import com.apis.fintrack.infrastructure.adapter.input.rest.dto.request.Entry.TransactionPatch.ChangeTransactionDateDTO;
 import com.apis.fintrack.infrastructure.adapter.input.rest.dto.request.Entry.TransactionPatch.ChangeTransactionTypeDTO;
+import com.apis.fintrack.infrastructure.adapter.input.rest.dto.response.Exit.ImportTransactionsResultDTO;
+import com.apis.fintrack.infrastructure.adapter.input.rest.dto.response.Exit.ShowBalanceDTO;
 import com.apis.fintrack.infrastructure.adapter.input.rest.dto.response.Exit.ShowTransactionDTO;
+import com.apis.fintrack.infrastructure.adapter.input.rest.dto.response.Exit.TransactionKeysetPageDTO;
+import com.apis.fintrack.infrastructure.adapter.input.rest.dto.response.Exit.UpcomingChargeDTO;
 import com.apis.fintrack.infrastructure.adapter.input.rest.mapper.TransactionRestMapper;
+import com.apis.fintrack.infrastructure.security.model.FintrackUserDetails;
 import jakarta.validation.Valid;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
 
 /**
  * Controlador REST para operaciones de transacciones.
@@ -33,22 +52,40 @@ import java.time.LocalDate;
 @RequestMapping("/apis/transactions")
 public class TransactionController {
 
-    private final CreateTransactionUseCase createTransactionUseCase;
+    private final TransactionIngestionUseCase transactionIngestionUseCase;
+    private final IdempotentCreateTransactionUseCase idempotentCreateTransactionUseCase;
     private final FindTransactionUseCase findTransactionUseCase;
     private final UpdateTransactionUseCase updateTransactionUseCase;
     private final DeleteTransactionUseCase deleteTransactionUseCase;
+    private final GetBalanceHistoryUseCase getBalanceHistoryUseCase;
+    private final SearchTransactionUseCase searchTransactionUseCase;
+    private final FilterTransactionUseCase filterTransactionUseCase;
+    private final ImportTransactionsUseCase importTransactionsUseCase;
+    private final GetUpcomingChargesUseCase getUpcomingChargesUseCase;
     private final TransactionRestMapper mapper;
 
     public TransactionController(
-            CreateTransactionUseCase createTransactionUseCase,
+            TransactionIngestionUseCase transactionIngestionUseCase,
+            IdempotentCreateTransactionUseCase idempotentCreateTransactionUseCase,
             FindTransactionUseCase findTransactionUseCase,
             UpdateTransactionUseCase updateTransactionUseCase,
             DeleteTransactionUseCase deleteTransactionUseCase,
+            GetBalanceHistoryUseCase getBalanceHistoryUseCase,
+            SearchTransactionUseCase searchTransactionUseCase,
+            FilterTransactionUseCase filterTransactionUseCase,
+            ImportTransactionsUseCase importTransactionsUseCase,
+            GetUpcomingChargesUseCase getUpcomingChargesUseCase,
             TransactionRestMapper mapper) {
-        this.createTransactionUseCase = createTransactionUseCase;
+        this.transactionIngestionUseCase = transactionIngestionUseCase;
+        this.idempotentCreateTransactionUseCase = idempotentCreateTransactionUseCase;
         this.findTransactionUseCase = findTransactionUseCase;
         this.updateTransactionUseCase = updateTransactionUseCase;
         this.deleteTransactionUseCase = deleteTransactionUseCase;
+        this.getBalanceHistoryUseCase = getBalanceHistoryUseCase;
+        this.searchTransactionUseCase = searchTransactionUseCase;
+        this.filterTransactionUseCase = filterTransactionUseCase;
+        this.importTransactionsUseCase = importTransactionsUseCase;
+        this.getUpcomingChargesUseCase = getUpcomingChargesUseCase;
         this.mapper = mapper;
     }
 
@@ -99,23 +136,126 @@ public class TransactionController {
         return ResponseEntity.ok(dtos);
     }
 
+    @GetMapping("/filter")
+    public ResponseEntity<TransactionKeysetPageDTO> filterTransactions(
+            @RequestParam(required = false) Set<TransactionCategoryEnum> categories,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) Boolean isIncome,
+            @RequestParam(required = false) String descriptionPrefix,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate afterDate,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal FintrackUserDetails principal) {
+
+        Long userId = principal.getUserId();
+        TransactionFilter filter = new TransactionFilter(userId, categories, start, end, minAmount, maxAmount,
+                isIncome, descriptionPrefix, afterDate, afterId);
+        TransactionKeysetPage page = filterTransactionUseCase.filter(filter, size);
+        return ResponseEntity.ok(mapper.toKeysetPageDTO(page));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<ShowTransactionDTO>> searchTransactions(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit,
+            @AuthenticationPrincipal FintrackUserDetails principal) {
+
+        Long userId = principal.getUserId();
+        List<Transaction> transactions = searchTransactionUseCase.search(userId, q, limit);
+        return ResponseEntity.ok(mapper.toShowTransactionDTOList(transactions));
+    }
+
+    @GetMapping("/balance")
+    public ResponseEntity<ShowBalanceDTO> showBalanceAt(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @AuthenticationPrincipal FintrackUserDetails principal) {
+
+        Long userId = principal.getUserId();
+        BigDecimal balance = getBalanceHistoryUseCase.getBalanceAt(userId, date);
+        return ResponseEntity.ok(new ShowBalanceDTO(date, balance));
+    }
+
+    @GetMapping("/balance/curve")
+    public ResponseEntity<List<ShowBalanceDTO>> showBalanceCurve(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            @AuthenticationPrincipal FintrackUserDetails principal) {
+
+        Long userId = principal.getUserId();
+        List<ShowBalanceDTO> curve = getBalanceHistoryUseCase.getBalanceCurve(userId, start, end)
+                .entrySet().stream()
+                .map(entry -> new ShowBalanceDTO(entry.getKey(), entry.getValue()))
+                .toList();
+        return ResponseEntity.ok(curve);
+    }
+
+    @GetMapping("/recurring/upcoming")
+    public ResponseEntity<List<UpcomingChargeDTO>> showUpcomingCharges(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate until,
+            @AuthenticationPrincipal FintrackUserDetails principal) {
+
+        Long userId = principal.getUserId();
+        LocalDate start = from != null ? from : LocalDate.now();
+        LocalDate end = until != null ? until : start.plusDays(30);
+        List<UpcomingChargeDTO> charges = getUpcomingChargesUseCase.getUpcoming(userId, start, end).stream()
+                .map(mapper::toUpcomingChargeDTO)
+                .toList();
+        return ResponseEntity.ok(charges);
+    }
+
     // ==================== POST ENDPOINTS ====================
 
     @PostMapping
     public ResponseEntity<ShowTransactionDTO> createTransaction(
             @Valid @RequestBody CreateTransactionDTO dto,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @AuthenticationPrincipal FintrackUserDetails principal) {
 
-        // TODO: Obtener userId del usuario autenticado
-        Long userId = 1L; // Placeholder - implementar obtención real del userId
+        // El userId viaja firmado en el token
+        Long userId = principal.getUserId();
 
         var command = mapper.toCommand(dto, userId);
-        Transaction transaction = createTransactionUseCase.execute(command);
+        if (idempotencyKey != null) {
+            // Un reintento con la misma clave devuelve la transacción original
+            IdempotentCreation creation = idempotentCreateTransactionUseCase.create(idempotencyKey, command);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .header("Idempotent-Replayed", String.valueOf(creation.replayed()))
+                    .body(mapper.toShowTransactionDTO(creation.transaction()));
+        }
+        Transaction transaction;
+        try {
+            // Con group commit activo la respuesta espera al commit del lote
+            transaction = transactionIngestionUseCase.submit(command).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(mapper.toShowTransactionDTO(transaction));
     }
 
+    @PostMapping("/import")
+    public ResponseEntity<ImportTransactionsResultDTO> importTransactions(
+            @RequestBody List<ImportTransactionDTO> dtos,
+            @AuthenticationPrincipal FintrackUserDetails principal) {
+
+        Long userId = principal.getUserId();
+        var commands = dtos.stream()
+                .map(dto -> mapper.toImportCommand(dto, userId))
+                .toList();
+        ImportTransactionsResult result = importTransactionsUseCase.importAll(commands);
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(mapper.toImportResultDTO(result));
+    }
+
     // ==================== PUT ENDPOINTS ====================
 
     @PutMapping("/{id}")
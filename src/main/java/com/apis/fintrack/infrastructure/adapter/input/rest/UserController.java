@@ -15,6 +15,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
@@ -26,6 +27,9 @@ import java.time.LocalDate;
  *
  * Este es un Adaptador Primario (Input Adapter) que recibe peticiones HTTP
  * y las traduce a llamadas a los puertos de entrada (Use Cases).
+ *
+ * Cada operación exige el permiso correspondiente de la matriz rol-permiso
+ * (PermissionMatrix); un usuario siempre puede modificar o borrar su propia cuenta.
  */
 @RestController
 @RequestMapping("/apis/users")
@@ -51,6 +55,7 @@ public class UserController {
 
     // ==================== OPERACIONES DE LECTURA ====================
 
+    @PreAuthorize("@permissions.has(authentication, 'READ')")
     @GetMapping
     public ResponseEntity<Page<ShowUserDTO>> showUsers(Pageable pageable) {
         Page<User> users = findUserUseCase.findAll(pageable);
@@ -58,6 +63,7 @@ public class UserController {
         return ResponseEntity.ok(dtoPage);
     }
 
+    @PreAuthorize("@permissions.has(authentication, 'READ')")
     @GetMapping("/{id}")
     public ResponseEntity<ShowUserDTO> showUser(@PathVariable Long id) {
         User user = findUserUseCase.findById(id);
@@ -65,6 +71,7 @@ public class UserController {
         return ResponseEntity.ok(userDTO);
     }
 
+    @PreAuthorize("@permissions.has(authentication, 'READ')")
     @GetMapping("/roles/{role}")
     public ResponseEntity<Page<ShowUserDTO>> showUserByRole(
             @PathVariable RoleType role,
@@ -74,6 +81,7 @@ public class UserController {
         return ResponseEntity.ok(dtoPage);
     }
 
+    @PreAuthorize("@permissions.has(authentication, 'READ')")
     @GetMapping("/dates")
     public ResponseEntity<Page<ShowUserDTO>> showUserByDate(
             @RequestParam LocalDate startDate,
@@ -84,6 +92,7 @@ public class UserController {
         return ResponseEntity.ok(dtoPage);
     }
 
+    @PreAuthorize("@permissions.has(authentication, 'READ')")
     @GetMapping("/name/{name}/surname/{surname}")
     public ResponseEntity<ShowUserDTO> showUserByNameAndSurname(
             @PathVariable String name,
@@ -105,6 +114,7 @@ public class UserController {
 
     // ==================== OPERACIONES DE ESCRITURA ====================
 
+    @PreAuthorize("@permissions.has(authentication, 'CREATE')")
     @PostMapping
     public ResponseEntity<ShowUserDTO> postUser(@Valid @RequestBody CreateUserDTO userDTO) {
         RegisterUserUseCase.RegisterUserCommand command = mapper.toCommand(userDTO);
@@ -113,6 +123,7 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(showUserDTO);
     }
 
+    @PreAuthorize("@permissions.has(authentication, 'DELETE') or #id == principal.userId")
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
         deleteUserUseCase.deleteById(id);
@@ -121,6 +132,7 @@ public class UserController {
 
     // ==================== OPERACIONES DE ACTUALIZACIÃ“N (PATCH) ====================
 
+    @PreAuthorize("@permissions.has(authentication, 'UPDATE') or #id == principal.userId")
     @PatchMapping("/{id}/name")
     public ResponseEntity<ShowUserDTO> changeUserName(
             @PathVariable Long id,
@@ -129,6 +141,7 @@ public class UserController {
         return ResponseEntity.ok(mapper.toShowUserDTO(user));
     }
 
+    @PreAuthorize("@permissions.has(authentication, 'UPDATE') or #id == principal.userId")
     @PatchMapping("/{id}/surname")
     public ResponseEntity<ShowUserDTO> changeUserSurname(
             @PathVariable Long id,
@@ -137,6 +150,7 @@ public class UserController {
         return ResponseEntity.ok(mapper.toShowUserDTO(user));
     }
 
+    @PreAuthorize("@permissions.has(authentication, 'UPDATE') or #id == principal.userId")
     @PatchMapping("/{id}/email")
     public ResponseEntity<ShowUserDTO> changeUserEmail(
             @PathVariable Long id,
@@ -145,6 +159,7 @@ public class UserController {
         return ResponseEntity.ok(mapper.toShowUserDTO(user));
     }
 
+    @PreAuthorize("@permissions.has(authentication, 'UPDATE') or #id == principal.userId")
     @PatchMapping("/{id}/password")
     public ResponseEntity<ShowUserDTO> changeUserPassword(
             @PathVariable Long id,
@@ -153,6 +168,7 @@ public class UserController {
         return ResponseEntity.ok(mapper.toShowUserDTO(user));
     }
 
+    @PreAuthorize("@permissions.has(authentication, 'UPDATE') or #id == principal.userId")
     @PatchMapping("/{id}/birthday")
     public ResponseEntity<ShowUserDTO> changeUserBirthday(
             @PathVariable Long id,
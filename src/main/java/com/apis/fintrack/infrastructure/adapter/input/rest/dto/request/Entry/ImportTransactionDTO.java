@@ -0,0 +1,21 @@
+package com.apis.fintrack.infrastructure.adapter.input.rest.dto.request.Entry;
+
+import com.apis.fintrack.domain.transaction.model.TransactionCategoryEnum;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportTransactionDTO {
+    private TransactionCategoryEnum category;
+    private String description;
+    private BigDecimal amount;
+    private boolean isIncome;
+    private LocalDate transaction_date;
+
+}
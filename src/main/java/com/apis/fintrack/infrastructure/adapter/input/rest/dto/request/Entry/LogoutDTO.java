@@ -0,0 +1,12 @@
+package com.apis.fintrack.infrastructure.adapter.input.rest.dto.request.Entry;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogoutDTO {
+    private String refreshToken;
+}
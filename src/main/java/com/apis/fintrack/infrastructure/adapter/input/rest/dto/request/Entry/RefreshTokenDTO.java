@@ -0,0 +1,14 @@
+package com.apis.fintrack.infrastructure.adapter.input.rest.dto.request.Entry;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenDTO {
+    @NotBlank
+    private String refreshToken;
+}
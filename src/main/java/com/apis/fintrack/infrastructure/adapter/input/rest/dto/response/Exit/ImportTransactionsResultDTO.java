@@ -0,0 +1,9 @@
+package com.apis.fintrack.infrastructure.adapter.input.rest.dto.response.Exit;
+
+import java.util.List;
+
+public record ImportTransactionsResultDTO(
+        List<ShowTransactionDTO> created,
+        List<Integer> duplicateRows
+) {
+}
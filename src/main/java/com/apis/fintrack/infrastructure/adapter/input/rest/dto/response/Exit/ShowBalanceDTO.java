@@ -0,0 +1,10 @@
+package com.apis.fintrack.infrastructure.adapter.input.rest.dto.response.Exit;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record ShowBalanceDTO(
+        LocalDate date,
+        BigDecimal balance
+) {
+}
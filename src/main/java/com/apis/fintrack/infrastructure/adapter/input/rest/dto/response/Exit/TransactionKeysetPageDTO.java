@@ -0,0 +1,12 @@
+package com.apis.fintrack.infrastructure.adapter.input.rest.dto.response.Exit;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record TransactionKeysetPageDTO(
+        List<ShowTransactionDTO> content,
+        LocalDate nextAfterDate,
+        Long nextAfterId,
+        boolean hasMore
+) {
+}
@@ -0,0 +1,14 @@
+package com.apis.fintrack.infrastructure.adapter.input.rest.dto.response.Exit;
+
+import com.apis.fintrack.domain.transaction.model.RecurrencePeriod;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record UpcomingChargeDTO(
+        String description,
+        BigDecimal amount,
+        RecurrencePeriod period,
+        LocalDate expectedDate
+) {
+}
@@ -1,19 +1,31 @@
 package com.apis.fintrack.infrastructure.adapter.input.rest.exception;
 
+import com.apis.fintrack.application.auth.exception.AuthenticationFailedException;
+import com.apis.fintrack.application.auth.exception.AuthenticationThrottledException;
+import com.apis.fintrack.domain.transaction.exception.IdempotencyKeyReuseException;
+import com.apis.fintrack.domain.transaction.exception.IngestionOverloadedException;
+import com.apis.fintrack.domain.transaction.exception.InvalidDateRangeException;
 import com.apis.fintrack.domain.transaction.exception.TransactionNotFoundException;
+import com.apis.fintrack.domain.user.exception.EmailAlreadyExistsException;
 import com.apis.fintrack.domain.user.exception.UserNotFoundException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final String EMAIL_IN_USE = "Email already in use";
+
     @ExceptionHandler(UserNotFoundException.class)
     public ResponseEntity<ErrorManagerClass> handleUserNotFoundException(UserNotFoundException ex){
         ErrorManagerClass err = new ErrorManagerClass(
@@ -36,6 +48,105 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(err);
     }
 
+    @ExceptionHandler(IngestionOverloadedException.class)
+    public ResponseEntity<ErrorManagerClass> handleIngestionOverloadedException(IngestionOverloadedException ex){
+        ErrorManagerClass err = new ErrorManagerClass(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(err);
+    }
+
+    @ExceptionHandler(InvalidDateRangeException.class)
+    public ResponseEntity<ErrorManagerClass> handleInvalidDateRangeException(InvalidDateRangeException ex){
+        ErrorManagerClass err = new ErrorManagerClass(
+                HttpStatus.BAD_REQUEST.value(),
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(err);
+    }
+
+    @ExceptionHandler(IdempotencyKeyReuseException.class)
+    public ResponseEntity<ErrorManagerClass> handleIdempotencyKeyReuseException(IdempotencyKeyReuseException ex){
+        ErrorManagerClass err = new ErrorManagerClass(
+                HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(err);
+    }
+
+    @ExceptionHandler(AuthenticationFailedException.class)
+    public ResponseEntity<ErrorManagerClass> handleAuthenticationFailedException(AuthenticationFailedException ex){
+        ErrorManagerClass err = new ErrorManagerClass(
+                HttpStatus.UNAUTHORIZED.value(),
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(err);
+    }
+
+    @ExceptionHandler(AuthenticationThrottledException.class)
+    public ResponseEntity<ErrorManagerClass> handleAuthenticationThrottledException(AuthenticationThrottledException ex){
+        ErrorManagerClass err = new ErrorManagerClass(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(err);
+    }
+
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ErrorManagerClass> handleAccessDeniedException(AccessDeniedException ex){
+        ErrorManagerClass err = new ErrorManagerClass(
+                HttpStatus.FORBIDDEN.value(),
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(err);
+    }
+
+    @ExceptionHandler(EmailAlreadyExistsException.class)
+    public ResponseEntity<ErrorManagerClass> handleEmailAlreadyExistsException(EmailAlreadyExistsException ex){
+        ErrorManagerClass err = new ErrorManagerClass(
+                HttpStatus.CONFLICT.value(),
+                EMAIL_IN_USE,
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(err);
+    }
+
+    /**
+     * Violaciones de restricciones únicas que la comprobación previa no vio,
+     * p. ej. un email registrado en otra instancia que el filtro de emails
+     * local todavía no conoce (índice uk_user_email).
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorManagerClass> handleDataIntegrityViolationException(DataIntegrityViolationException ex){
+        String cause = String.valueOf(ex.getMessage()) + " " + ex.getMostSpecificCause().getMessage();
+        String message = cause.toLowerCase(Locale.ROOT).contains("uk_user_email")
+                ? EMAIL_IN_USE
+                : "Conflict with existing data";
+        ErrorManagerClass err = new ErrorManagerClass(
+                HttpStatus.CONFLICT.value(),
+                message,
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(err);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorManagerClass> handleException(Exception ex){
         ErrorManagerClass err = new ErrorManagerClass(
@@ -2,9 +2,16 @@ package com.apis.fintrack.infrastructure.adapter.input.rest.mapper;
 
 import com.apis.fintrack.domain.transaction.model.Transaction;
 import com.apis.fintrack.domain.transaction.port.input.CreateTransactionUseCase.CreateTransactionCommand;
+import com.apis.fintrack.domain.transaction.port.input.FilterTransactionUseCase.TransactionKeysetPage;
+import com.apis.fintrack.domain.transaction.port.input.GetUpcomingChargesUseCase.UpcomingCharge;
+import com.apis.fintrack.domain.transaction.port.input.ImportTransactionsUseCase.ImportTransactionsResult;
 import com.apis.fintrack.domain.transaction.port.input.UpdateTransactionUseCase.UpdateTransactionCommand;
 import com.apis.fintrack.infrastructure.adapter.input.rest.dto.request.Entry.CreateTransactionDTO;
+import com.apis.fintrack.infrastructure.adapter.input.rest.dto.request.Entry.ImportTransactionDTO;
+import com.apis.fintrack.infrastructure.adapter.input.rest.dto.response.Exit.ImportTransactionsResultDTO;
 import com.apis.fintrack.infrastructure.adapter.input.rest.dto.response.Exit.ShowTransactionDTO;
+import com.apis.fintrack.infrastructure.adapter.input.rest.dto.response.Exit.TransactionKeysetPageDTO;
+import com.apis.fintrack.infrastructure.adapter.input.rest.dto.response.Exit.UpcomingChargeDTO;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
@@ -35,6 +42,25 @@ public class TransactionRestMapper {
         );
     }
     
+    /**
+     * Convierte una fila de importación a un comando de creación, conservando
+     * su fecha (hoy si no se indica).
+     * 
+     * @param dto la fila importada
+     * @param userId el ID del usuario propietario
+     * @return el comando para crear la transacción
+     */
+    public CreateTransactionCommand toImportCommand(ImportTransactionDTO dto, Long userId) {
+        return new CreateTransactionCommand(
+            dto.getDescription(),
+            dto.getAmount(),
+            dto.isIncome(),
+            dto.getCategory(),
+            dto.getTransaction_date() != null ? dto.getTransaction_date() : LocalDate.now(),
+            userId
+        );
+    }
+    
     /**
      * Convierte un DTO de creación a un comando de actualización.
      * 
@@ -79,6 +105,47 @@ public class TransactionRestMapper {
             .map(this::toShowTransactionDTO)
             .collect(Collectors.toList());
     }
+    
+    /**
+     * Convierte una página por cursor a su DTO de respuesta.
+     * 
+     * @param page la página del caso de uso
+     * @return el DTO con el contenido y el cursor de la siguiente página
+     */
+    public TransactionKeysetPageDTO toKeysetPageDTO(TransactionKeysetPage page) {
+        return new TransactionKeysetPageDTO(
+            toShowTransactionDTOList(page.content()),
+            page.nextAfterDate(),
+            page.nextAfterId(),
+            page.hasMore()
+        );
+    }
+    
+    /**
+     * Convierte el resultado de una importación a su DTO de respuesta.
+     * 
+     * @param result el resultado del caso de uso
+     * @return el DTO con las transacciones creadas y las filas duplicadas
+     */
+    public ImportTransactionsResultDTO toImportResultDTO(ImportTransactionsResult result) {
+        return new ImportTransactionsResultDTO(
+            toShowTransactionDTOList(result.created()),
+            result.duplicateRows()
+        );
+    }
+    
+    /**
+     * Convierte un cargo recurrente previsto a su DTO de respuesta.
+     * 
+     * @param charge el cargo previsto
+     * @return el DTO de respuesta
+     */
+    public UpcomingChargeDTO toUpcomingChargeDTO(UpcomingCharge charge) {
+        return new UpcomingChargeDTO(
+            charge.description(),
+            charge.amount(),
+            charge.period(),
+            charge.expectedDate()
+        );
+    }
 }
-
-
@@ -0,0 +1,33 @@
+package com.apis.fintrack.infrastructure.adapter.input.scheduling;
+
+import com.apis.fintrack.domain.transaction.port.input.ArchiveTransactionsUseCase;
+import com.apis.fintrack.domain.transaction.port.input.ArchiveTransactionsUseCase.ArchiveResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lanza periódicamente el archivado de transacciones antiguas.
+ */
+@Component
+@ConditionalOnProperty(name = "fintrack.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class TransactionArchivalScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TransactionArchivalScheduler.class);
+
+    private final ArchiveTransactionsUseCase archiveTransactionsUseCase;
+
+    public TransactionArchivalScheduler(ArchiveTransactionsUseCase archiveTransactionsUseCase) {
+        this.archiveTransactionsUseCase = archiveTransactionsUseCase;
+    }
+
+    @Scheduled(cron = "${fintrack.archive.cron:0 30 3 * * *}")
+    public void archiveOldTransactions() {
+        ArchiveResult result = archiveTransactionsUseCase.execute();
+        if (result.archived() > 0) {
+            LOGGER.info("Archived {} transactions dated before {}", result.archived(), result.cutoff());
+        }
+    }
+}
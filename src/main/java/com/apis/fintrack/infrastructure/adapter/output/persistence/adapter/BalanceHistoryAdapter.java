@@ -0,0 +1,214 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.adapter;
+
+import com.apis.fintrack.domain.shared.model.Money;
+import com.apis.fintrack.domain.transaction.port.output.BalanceHistoryPort;
+import com.apis.fintrack.domain.user.model.UserId;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.AfterCommit;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.DailyBalanceJPAEntity;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.model.DailyBalanceIndex;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.ArchivedTransactionRepository;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.DailyBalanceRepository;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.TransactionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.UnaryOperator;
+
+/**
+ * Adaptador que implementa BalanceHistoryPort.
+ *
+ * Persiste el neto diario de cada usuario en la tabla daily_balance (un upsert
+ * incremental por día y escritura) y mantiene en memoria un DailyBalanceIndex
+ * por usuario, construido la primera vez que se consulta. Las consultas nunca
+ * recorren el historial de transacciones.
+ *
+ * Si un usuario aún no tiene filas en daily_balance (datos anteriores al índice),
+ * las lecturas se construyen desde un SUM agrupado por día y la primera escritura
+ * persiste ese agregado completo en lugar de aplicar el delta incremental. El
+ * agregado suma también la partición fría de transacciones archivadas.
+ *
+ * La caché en memoria solo cambia tras el commit: cada escritura confirmada
+ * suma sus deltas al índice cacheado del usuario, sin recargarlo. Un índice
+ * cuya carga se solapó con una escritura (en curso o confirmada mientras se
+ * cargaba) no se publica, porque podría no incluirla o incluirla dos veces.
+ * Los índices y la marca de usuario sembrado viven en cachés acotadas.
+ */
+@Component
+public class BalanceHistoryAdapter implements BalanceHistoryPort {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final DailyBalanceRepository dailyBalanceRepository;
+    private final TransactionRepository transactionRepository;
+    private final ArchivedTransactionRepository archivedTransactionRepository;
+    private final Cache<Long, DailyBalanceIndex> indexes;
+    private final Cache<Long, Boolean> seededUsers;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final AtomicIntegerArray writesInFlight = new AtomicIntegerArray(GENERATION_STRIPES);
+
+    public BalanceHistoryAdapter(DailyBalanceRepository dailyBalanceRepository,
+                                 TransactionRepository transactionRepository,
+                                 ArchivedTransactionRepository archivedTransactionRepository,
+                                 @Value("${fintrack.balance.index.max-users:10000}") long maxUsers,
+                                 @Value("${fintrack.balance.index.idle-minutes:30}") long idleMinutes) {
+        this.dailyBalanceRepository = dailyBalanceRepository;
+        this.transactionRepository = transactionRepository;
+        this.archivedTransactionRepository = archivedTransactionRepository;
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .build();
+        this.seededUsers = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public void recordDeltas(UserId userId, Map<LocalDate, Money> deltasByDay) {
+        Long uid = userId.getValue();
+        Map<LocalDate, Long> centsByDay = new HashMap<>();
+        deltasByDay.forEach((day, delta) -> centsByDay.merge(day, toCents(delta.getAmount()), Long::sum));
+        centsByDay.values().removeIf(cents -> cents == 0L);
+
+        beginWrite(uid, index -> {
+            centsByDay.forEach(index::add);
+            return index;
+        });
+
+        if (!isSeeded(uid)) {
+            // Primera escritura de un usuario sin filas: el SUM agrupado ya incluye
+            // esta escritura (flush automático antes de la consulta). Si otra
+            // transacción siembra a la vez, sus filas ya traen el histórico y a
+            // cada una solo se le suma el delta propio.
+            aggregateFromTransactions(uid).forEach((day, cents) -> dailyBalanceRepository.upsertDelta(
+                    uid, day, BigDecimal.valueOf(cents, 2), BigDecimal.valueOf(centsByDay.getOrDefault(day, 0L), 2)));
+            AfterCommit.run(() -> seededUsers.put(uid, Boolean.TRUE));
+            return;
+        }
+
+        centsByDay.forEach((day, cents) -> {
+            BigDecimal amount = BigDecimal.valueOf(cents, 2);
+            dailyBalanceRepository.upsertDelta(uid, day, amount, amount);
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Money balanceAt(UserId userId, LocalDate day) {
+        long cents = indexFor(userId.getValue()).balanceAt(day);
+        return Money.of(BigDecimal.valueOf(cents, 2));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SortedMap<LocalDate, BigDecimal> balanceCurve(UserId userId, LocalDate start, LocalDate end) {
+        SortedMap<LocalDate, BigDecimal> curve = new TreeMap<>();
+        indexFor(userId.getValue()).curve(start, end)
+                .forEach((day, cents) -> curve.put(day, BigDecimal.valueOf(cents, 2)));
+        return curve;
+    }
+
+    @Override
+    @Transactional
+    public void clear(UserId userId) {
+        Long uid = userId.getValue();
+        beginWrite(uid, index -> null);
+        dailyBalanceRepository.deleteAllByUserId(uid);
+        AfterCommit.run(() -> seededUsers.invalidate(uid));
+    }
+
+    private DailyBalanceIndex indexFor(Long userId) {
+        DailyBalanceIndex index = indexes.getIfPresent(userId);
+        if (index != null) {
+            return index;
+        }
+        int stripe = stripeOf(userId);
+        long generation = generations.get(stripe);
+        DailyBalanceIndex loaded = loadIndex(userId);
+        DailyBalanceIndex published = indexes.asMap().compute(userId, (id, existing) -> {
+            if (existing != null) {
+                return existing;
+            }
+            boolean overlapped = writesInFlight.get(stripe) > 0 || generations.get(stripe) != generation;
+            return overlapped ? null : loaded;
+        });
+        return published != null ? published : loaded;
+    }
+
+    /**
+     * Marca una escritura en curso hasta que su transacción termina. Si
+     * confirma, onCommit transforma el índice cacheado (null lo descarta);
+     * ambas cosas ocurren dentro del mismo compute que publica las cargas, así
+     * que ninguna carga puede publicarse entre el commit y la actualización.
+     */
+    private void beginWrite(Long userId, UnaryOperator<DailyBalanceIndex> onCommit) {
+        int stripe = stripeOf(userId);
+        writesInFlight.incrementAndGet(stripe);
+        AfterCommit.run(() -> endWrite(userId, onCommit), () -> endWrite(userId, UnaryOperator.identity()));
+    }
+
+    private void endWrite(Long userId, UnaryOperator<DailyBalanceIndex> update) {
+        int stripe = stripeOf(userId);
+        indexes.asMap().compute(userId, (id, index) -> {
+            generations.incrementAndGet(stripe);
+            writesInFlight.decrementAndGet(stripe);
+            return index != null ? update.apply(index) : null;
+        });
+    }
+
+    private static int stripeOf(Long userId) {
+        return Long.hashCode(userId) & (GENERATION_STRIPES - 1);
+    }
+
+    private boolean isSeeded(Long userId) {
+        if (seededUsers.getIfPresent(userId) != null) {
+            return true;
+        }
+        if (dailyBalanceRepository.existsByUserId(userId)) {
+            // Las filas pueden ser de esta misma transacción, aún sin confirmar
+            AfterCommit.run(() -> seededUsers.put(userId, Boolean.TRUE));
+            return true;
+        }
+        return false;
+    }
+
+    private DailyBalanceIndex loadIndex(Long userId) {
+        List<DailyBalanceJPAEntity> rows = dailyBalanceRepository.findByUserIdOrderByDay(userId);
+        if (rows.isEmpty()) {
+            return DailyBalanceIndex.fromDailyDeltas(aggregateFromTransactions(userId));
+        }
+        Map<LocalDate, Long> dailyDeltas = new HashMap<>();
+        rows.forEach(row -> dailyDeltas.merge(row.getDay(), toCents(row.getDelta()), Long::sum));
+        return DailyBalanceIndex.fromDailyDeltas(dailyDeltas);
+    }
+
+    private Map<LocalDate, Long> aggregateFromTransactions(Long userId) {
+        Map<LocalDate, Long> dailyDeltas = new HashMap<>();
+        for (Object[] row : transactionRepository.sumAmountByDayForUser(userId)) {
+            dailyDeltas.merge((LocalDate) row[0], toCents((BigDecimal) row[1]), Long::sum);
+        }
+        for (Object[] row : archivedTransactionRepository.sumAmountByDayForUser(userId)) {
+            dailyDeltas.merge((LocalDate) row[0], toCents((BigDecimal) row[1]), Long::sum);
+        }
+        return dailyDeltas;
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).longValue();
+    }
+}
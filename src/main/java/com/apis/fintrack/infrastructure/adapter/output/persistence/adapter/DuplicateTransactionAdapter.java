@@ -0,0 +1,134 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.adapter;
+
+import com.apis.fintrack.domain.transaction.model.TransactionFingerprint;
+import com.apis.fintrack.domain.transaction.port.output.DuplicateTransactionPort;
+import com.apis.fintrack.domain.user.model.UserId;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.AfterCommit;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.model.BloomFilter;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.ArchivedTransactionRepository;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.TransactionRepository;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Adaptador que implementa DuplicateTransactionPort con un filtro de Bloom por
+ * usuario sobre las huellas (fecha, monto, descripción normalizada).
+ *
+ * El filtro se construye de forma perezosa desde la base de datos la primera
+ * vez que se consulta un usuario. Un "no" del filtro es definitivo y no
+ * consulta la base de datos; un "quizá" se confirma con una consulta exacta por
+ * (usuario, fecha, monto). Las transacciones borradas o modificadas dejan bits
+ * obsoletos, que solo cuestan una consulta de confirmación; cuando el filtro se
+ * satura se descarta y se reconstruye en la siguiente consulta.
+ *
+ * Mientras se carga el filtro de un usuario, sus inserciones confirmadas se
+ * apuntan aparte y se añaden al filtro al publicarlo: una inserción que
+ * confirma entre la lectura de la base de datos y la publicación no se pierde.
+ */
+@Component
+public class DuplicateTransactionAdapter implements DuplicateTransactionPort {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final long MIN_CAPACITY = 1_024;
+
+    private final TransactionRepository transactionRepository;
+    private final ArchivedTransactionRepository archivedTransactionRepository;
+    private final TransactionArchiveBoundary archiveBoundary;
+    private final Map<Long, BloomFilter> filters = new ConcurrentHashMap<>();
+    private final Map<Long, Queue<Long>> committedWhileLoading = new ConcurrentHashMap<>();
+
+    public DuplicateTransactionAdapter(TransactionRepository transactionRepository,
+                                       ArchivedTransactionRepository archivedTransactionRepository,
+                                       TransactionArchiveBoundary archiveBoundary) {
+        this.transactionRepository = transactionRepository;
+        this.archivedTransactionRepository = archivedTransactionRepository;
+        this.archiveBoundary = archiveBoundary;
+    }
+
+    @Override
+    public boolean isDuplicate(UserId userId, TransactionFingerprint fingerprint) {
+        Long uid = userId.getValue();
+        if (!filterFor(uid).mightContain(fingerprint.hash64())) {
+            return false;
+        }
+        BigDecimal amount = BigDecimal.valueOf(fingerprint.amountCents(), 2);
+        List<String> descriptions = new ArrayList<>(
+                transactionRepository.findDescriptionsByUserDateAndAmount(uid, fingerprint.date(), amount));
+        if (archiveBoundary.reaches(fingerprint.date())) {
+            descriptions.addAll(archivedTransactionRepository.findDescriptionsByUserDateAndAmount(
+                    uid, fingerprint.date(), amount));
+        }
+        return descriptions.stream()
+                .map(TransactionFingerprint::normalizeDescription)
+                .anyMatch(fingerprint.normalizedDescription()::equals);
+    }
+
+    @Override
+    public void register(UserId userId, TransactionFingerprint fingerprint) {
+        Long uid = userId.getValue();
+        long hash = fingerprint.hash64();
+        AfterCommit.run(() -> {
+            // Primero la cola de carga y después el filtro: si la carga publica
+            // entre medias, el hash llega por uno de los dos caminos
+            Queue<Long> pending = committedWhileLoading.get(uid);
+            if (pending != null) {
+                pending.add(hash);
+            }
+            // Si no hay filtro cargado, se construirá desde la tabla
+            BloomFilter filter = filters.get(uid);
+            if (filter != null) {
+                addTo(uid, filter, hash);
+            }
+        });
+    }
+
+    private BloomFilter filterFor(Long userId) {
+        BloomFilter filter = filters.get(userId);
+        if (filter != null) {
+            return filter;
+        }
+        // La cola se registra antes de leer la base de datos
+        Queue<Long> pending = committedWhileLoading.computeIfAbsent(userId, id -> new ConcurrentLinkedQueue<>());
+        BloomFilter published;
+        try {
+            BloomFilter loaded = loadFilter(userId);
+            BloomFilter previous = filters.putIfAbsent(userId, loaded);
+            published = previous != null ? previous : loaded;
+        } finally {
+            committedWhileLoading.remove(userId, pending);
+        }
+        for (Long hash = pending.poll(); hash != null; hash = pending.poll()) {
+            addTo(userId, published, hash);
+        }
+        return published;
+    }
+
+    private void addTo(Long userId, BloomFilter filter, long hash) {
+        filter.add(hash);
+        if (filter.isSaturated()) {
+            filters.remove(userId, filter);
+        }
+    }
+
+    private BloomFilter loadFilter(Long userId) {
+        List<Object[]> rows = new ArrayList<>(transactionRepository.findFingerprintRowsByUserId(userId));
+        if (!archiveBoundary.isEmpty()) {
+            rows.addAll(archivedTransactionRepository.findFingerprintRowsByUserId(userId));
+        }
+        // Holgura x2 para absorber nuevas inserciones antes de saturarse
+        BloomFilter filter = new BloomFilter(
+                Math.max(MIN_CAPACITY, rows.size() * 2L), FALSE_POSITIVE_RATE);
+        for (Object[] row : rows) {
+            filter.add(TransactionFingerprint.of((LocalDate) row[0], (BigDecimal) row[1], (String) row[2]).hash64());
+        }
+        return filter;
+    }
+}
@@ -0,0 +1,121 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.adapter;
+
+import com.apis.fintrack.domain.transaction.exception.DuplicateIdempotencyKeyException;
+import com.apis.fintrack.domain.transaction.model.*;
+import com.apis.fintrack.domain.transaction.port.output.IdempotencyKeyPort;
+import com.apis.fintrack.domain.user.model.UserId;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.AfterCommit;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.IdempotencyKeyJPAEntity;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.model.ExpiringLruCache;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.IdempotencyKeyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Adaptador que implementa IdempotencyKeyPort.
+ *
+ * La tabla idempotency_key es la fuente de verdad (índice único por usuario y
+ * clave, caducidad fintrack.idempotency.ttl-hours). Delante hay una caché LRU
+ * en memoria de vida corta que responde a los reintentos inmediatos, el caso
+ * habitual, sin consultar la base de datos. La caché solo se rellena tras el
+ * commit.
+ */
+@Component
+public class IdempotencyKeyAdapter implements IdempotencyKeyPort {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final ExpiringLruCache<String, IdempotencyRecord> recent;
+    private final Duration ttl;
+
+    public IdempotencyKeyAdapter(IdempotencyKeyRepository idempotencyKeyRepository,
+                                 @Value("${fintrack.idempotency.ttl-hours:24}") long ttlHours,
+                                 @Value("${fintrack.idempotency.cache-ttl-minutes:10}") long cacheTtlMinutes,
+                                 @Value("${fintrack.idempotency.cache-size:10000}") int cacheSize) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.recent = new ExpiringLruCache<>(cacheSize, Duration.ofMinutes(Math.min(cacheTtlMinutes, ttl.toMinutes())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<IdempotencyRecord> find(UserId userId, String key) {
+        String cacheKey = cacheKey(userId, key);
+        IdempotencyRecord cached = recent.get(cacheKey);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<IdempotencyRecord> stored = idempotencyKeyRepository
+                .findByUserIdAndIdempotencyKey(userId.getValue(), key)
+                .filter(entity -> entity.getCreatedAt().isAfter(expiredBefore()))
+                .map(IdempotencyKeyAdapter::toRecord);
+        stored.ifPresent(record -> recent.put(cacheKey, record));
+        return stored;
+    }
+
+    /**
+     * Transacción de escritura a propósito: ReplicaRoutingDataSource la envía
+     * a la principal, donde ya está la fila de la petición ganadora.
+     */
+    @Override
+    @Transactional
+    public Optional<IdempotencyRecord> findCommitted(UserId userId, String key) {
+        return find(userId, key);
+    }
+
+    @Override
+    @Transactional
+    public void save(UserId userId, String key, String requestHash, Transaction created) {
+        idempotencyKeyRepository.deleteExpired(userId.getValue(), key, expiredBefore());
+        IdempotencyKeyJPAEntity entity = new IdempotencyKeyJPAEntity(
+                null,
+                userId.getValue(),
+                key,
+                requestHash,
+                LocalDateTime.now(),
+                created.getId().getValue(),
+                created.getDescription().getValue(),
+                created.getAmount().getValue(),
+                created.getTransactionDate().getValue(),
+                created.getCategory().getValue());
+        try {
+            // flush inmediato: la violación del índice único debe verse aquí y no en el commit
+            idempotencyKeyRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateIdempotencyKeyException("Idempotency-Key already used: " + key);
+        }
+        IdempotencyRecord record = new IdempotencyRecord(requestHash, created);
+        AfterCommit.run(() -> recent.put(cacheKey(userId, key), record));
+    }
+
+    @Scheduled(cron = "${fintrack.idempotency.purge-cron:0 15 * * * *}")
+    @Transactional
+    public void purgeExpired() {
+        idempotencyKeyRepository.deleteAllExpired(expiredBefore());
+    }
+
+    private LocalDateTime expiredBefore() {
+        return LocalDateTime.now().minus(ttl);
+    }
+
+    private static String cacheKey(UserId userId, String key) {
+        return userId.getValue() + ":" + key;
+    }
+
+    private static IdempotencyRecord toRecord(IdempotencyKeyJPAEntity entity) {
+        Transaction transaction = new Transaction(
+                TransactionId.of(entity.getTransactionId()),
+                Description.of(entity.getDescription()),
+                TransactionAmount.fromStorage(entity.getAmount()),
+                TransactionDate.fromStorage(entity.getTransaction_date()),
+                Category.of(entity.getCategory()),
+                UserId.of(entity.getUserId()));
+        return new IdempotencyRecord(entity.getRequestHash(), transaction);
+    }
+}
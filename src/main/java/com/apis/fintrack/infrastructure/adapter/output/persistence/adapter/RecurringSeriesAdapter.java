@@ -0,0 +1,87 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.adapter;
+
+import com.apis.fintrack.domain.transaction.model.RecurringSeries;
+import com.apis.fintrack.domain.transaction.model.Transaction;
+import com.apis.fintrack.domain.transaction.port.output.RecurringSeriesPort;
+import com.apis.fintrack.domain.user.model.UserId;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.AfterCommit;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.model.RecurringSeriesDetector;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.ArchivedTransactionRepository;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.TransactionRepository;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adaptador que implementa RecurringSeriesPort con un RecurringSeriesDetector
+ * en memoria por usuario.
+ *
+ * El detector se construye desde la base de datos la primera vez que se
+ * consulta un usuario y después se alimenta con cada inserción confirmada.
+ * Las modificaciones y borrados lo descartan; se reconstruye en la siguiente
+ * consulta. Lee también la partición fría: las series anuales necesitan más
+ * historia de la que queda en la caliente tras el archivado.
+ */
+@Component
+public class RecurringSeriesAdapter implements RecurringSeriesPort {
+
+    private final TransactionRepository transactionRepository;
+    private final ArchivedTransactionRepository archivedTransactionRepository;
+    private final TransactionArchiveBoundary archiveBoundary;
+    private final Map<Long, RecurringSeriesDetector> detectors = new ConcurrentHashMap<>();
+
+    public RecurringSeriesAdapter(TransactionRepository transactionRepository,
+                                  ArchivedTransactionRepository archivedTransactionRepository,
+                                  TransactionArchiveBoundary archiveBoundary) {
+        this.transactionRepository = transactionRepository;
+        this.archivedTransactionRepository = archivedTransactionRepository;
+        this.archiveBoundary = archiveBoundary;
+    }
+
+    @Override
+    public List<RecurringSeries> findRecurring(UserId userId) {
+        return detectorFor(userId.getValue()).detected();
+    }
+
+    @Override
+    public void record(Transaction transaction) {
+        Long uid = transaction.getUserId().getValue();
+        LocalDate date = transaction.getTransactionDate().getValue();
+        BigDecimal amount = transaction.getAmount().getValue();
+        String description = transaction.getDescription().getValue();
+        AfterCommit.run(() -> {
+            RecurringSeriesDetector detector = detectors.get(uid);
+            if (detector != null) {
+                detector.add(date, amount, description);
+            }
+        });
+    }
+
+    @Override
+    public void invalidate(UserId userId) {
+        Long uid = userId.getValue();
+        AfterCommit.run(() -> detectors.remove(uid));
+    }
+
+    private RecurringSeriesDetector detectorFor(Long userId) {
+        RecurringSeriesDetector detector = detectors.get(userId);
+        if (detector != null) {
+            return detector;
+        }
+        List<Object[]> rows = new ArrayList<>(transactionRepository.findFingerprintRowsByUserId(userId));
+        if (!archiveBoundary.isEmpty()) {
+            rows.addAll(archivedTransactionRepository.findFingerprintRowsByUserId(userId));
+        }
+        RecurringSeriesDetector loaded = new RecurringSeriesDetector();
+        for (Object[] row : rows) {
+            loaded.add((LocalDate) row[0], (BigDecimal) row[1], (String) row[2]);
+        }
+        RecurringSeriesDetector previous = detectors.putIfAbsent(userId, loaded);
+        return previous != null ? previous : loaded;
+    }
+}
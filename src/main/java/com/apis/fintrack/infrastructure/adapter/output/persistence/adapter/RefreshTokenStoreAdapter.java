@@ -0,0 +1,131 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.adapter;
+
+import com.apis.fintrack.application.auth.dto.StoredRefreshToken;
+import com.apis.fintrack.application.auth.port.output.RefreshTokenStorePort;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.AfterCommit;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.RefreshTokenJPAEntity;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.model.ExpiringLruCache;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Adaptador que implementa RefreshTokenStorePort.
+ *
+ * Los tokens son 256 bits aleatorios en Base64 URL; la tabla refresh_token
+ * guarda solo su hash SHA-256, con índice único. Delante hay una caché LRU en
+ * memoria con los tokens aún sin usar, de modo que una renovación habitual
+ * (el token se emitió hace poco en esta instancia) no consulta la tabla.
+ *
+ * La caché nunca decide si un token está usado: markUsed es siempre un UPDATE
+ * condicionado sobre la tabla, así que una entrada obsoleta (token usado o
+ * familia revocada desde otra instancia) se detecta igualmente.
+ */
+@Component
+public class RefreshTokenStoreAdapter implements RefreshTokenStorePort {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final ExpiringLruCache<String, StoredRefreshToken> unused;
+    private final SecureRandom random = new SecureRandom();
+
+    public RefreshTokenStoreAdapter(RefreshTokenRepository refreshTokenRepository,
+                                    @Value("${fintrack.security.refresh-token.cache-ttl-minutes:60}") long cacheTtlMinutes,
+                                    @Value("${fintrack.security.refresh-token.cache-size:10000}") int cacheSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.unused = new ExpiringLruCache<>(cacheSize, Duration.ofMinutes(cacheTtlMinutes));
+    }
+
+    @Override
+    @Transactional
+    public String create(StoredRefreshToken token) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String value = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        String hash = hash(value);
+
+        refreshTokenRepository.save(new RefreshTokenJPAEntity(
+                null,
+                hash,
+                token.familyId(),
+                token.userId(),
+                token.tokenVersion(),
+                toLocal(token.expiresAt()),
+                toLocal(token.familyExpiresAt()),
+                null));
+        AfterCommit.run(() -> unused.put(hash, token));
+        return value;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<StoredRefreshToken> find(String refreshToken) {
+        String hash = hash(refreshToken);
+        StoredRefreshToken cached = unused.get(hash);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<StoredRefreshToken> stored = refreshTokenRepository.findByTokenHash(hash)
+                .map(RefreshTokenStoreAdapter::toStored);
+        stored.filter(token -> !token.used()).ifPresent(token -> unused.put(hash, token));
+        return stored;
+    }
+
+    @Override
+    @Transactional
+    public boolean markUsed(String refreshToken) {
+        String hash = hash(refreshToken);
+        unused.remove(hash);
+        return refreshTokenRepository.markUsed(hash, LocalDateTime.now(ZoneOffset.UTC)) == 1;
+    }
+
+    @Override
+    @Transactional
+    public void revokeFamily(String familyId) {
+        // Las entradas de la familia que queden en caché fallarán en markUsed
+        refreshTokenRepository.deleteByFamilyId(familyId);
+    }
+
+    @Scheduled(cron = "${fintrack.security.refresh-token.purge-cron:0 50 * * * *}")
+    @Transactional
+    public void purgeExpired() {
+        refreshTokenRepository.deleteAllExpired(LocalDateTime.now(ZoneOffset.UTC));
+    }
+
+    private static StoredRefreshToken toStored(RefreshTokenJPAEntity entity) {
+        return new StoredRefreshToken(
+                entity.getUserId(),
+                entity.getFamilyId(),
+                entity.getTokenVersion(),
+                entity.getExpiresAt().toInstant(ZoneOffset.UTC),
+                entity.getFamilyExpiresAt().toInstant(ZoneOffset.UTC),
+                entity.getUsedAt() != null);
+    }
+
+    private static LocalDateTime toLocal(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.adapter;
+
+import com.apis.fintrack.infrastructure.adapter.output.persistence.AfterCommit;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.model.BloomFilter;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Filtro de Bloom con los emails registrados.
+ *
+ * Un "no" del filtro es definitivo: el email no está en uso y no hace falta
+ * consultar la base de datos. Un "quizá" se confirma con la consulta exacta.
+ * Hasta que el filtro se construye por primera vez responde siempre "quizá".
+ *
+ * Los emails se normalizan a minúsculas porque la comparación en MySQL no
+ * distingue mayúsculas; si no, el filtro daría falsos negativos.
+ *
+ * Con varias instancias, un "no" solo es definitivo para lo registrado en
+ * esta instancia o antes de la última carga. Cada
+ * fintrack.users.email-filter.catch-up-interval-ms se añaden los usuarios con
+ * id mayor que el último visto, así que un alta en otra instancia tarda como
+ * mucho ese intervalo en verse aquí. Los cambios de email en otra instancia y
+ * las altas que confirman fuera de orden de id esperan a la reconstrucción
+ * completa (fintrack.users.email-filter.rebuild-cron). En esa ventana un email
+ * repetido llega al índice único uk_user_email, que lo rechaza con un 409.
+ *
+ * Los emails borrados o cambiados dejan bits obsoletos, que solo cuestan una
+ * consulta de confirmación. Las altas, las cargas y las reconstrucciones se
+ * serializan con un cerrojo; las lecturas no lo toman.
+ */
+@Component
+public class RegisteredEmailFilter {
+
+    private final UserRepository userRepository;
+    private final int expectedEmails;
+    private final double falsePositiveRate;
+    private final Object writeLock = new Object();
+
+    private volatile BloomFilter filter;
+    private volatile boolean ready;
+    private long lastSeenId;
+
+    public RegisteredEmailFilter(UserRepository userRepository,
+                                 @Value("${fintrack.users.email-filter.expected-emails:100000}") int expectedEmails,
+                                 @Value("${fintrack.users.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.expectedEmails = expectedEmails;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedEmails, falsePositiveRate);
+    }
+
+    public boolean mightBeRegistered(String email) {
+        return !ready || filter.mightContain(key(email));
+    }
+
+    /**
+     * Añade el email cuando la transacción en curso confirma.
+     */
+    public void add(String email) {
+        String key = key(email);
+        AfterCommit.run(() -> {
+            synchronized (writeLock) {
+                filter.add(key);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${fintrack.users.email-filter.rebuild-cron:0 15 * * * *}")
+    public void rebuild() {
+        synchronized (writeLock) {
+            List<Object[]> rows = userRepository.findEmailsAfterId(0L);
+            // Holgura x2 para absorber nuevos registros hasta la siguiente reconstrucción
+            BloomFilter rebuilt = new BloomFilter(
+                    Math.max(expectedEmails, rows.size() * 2L), falsePositiveRate);
+            lastSeenId = addAll(rebuilt, rows, 0L);
+            filter = rebuilt;
+            ready = true;
+        }
+    }
+
+    /**
+     * Añade los usuarios registrados desde la última carga, también en otras
+     * instancias.
+     */
+    @Scheduled(fixedDelayString = "${fintrack.users.email-filter.catch-up-interval-ms:10000}")
+    public void catchUp() {
+        if (!ready) {
+            return;
+        }
+        synchronized (writeLock) {
+            lastSeenId = addAll(filter, userRepository.findEmailsAfterId(lastSeenId), lastSeenId);
+            if (filter.isSaturated()) {
+                rebuild();
+            }
+        }
+    }
+
+    private static long addAll(BloomFilter target, List<Object[]> rows, long lastSeenId) {
+        long maxId = lastSeenId;
+        for (Object[] row : rows) {
+            target.add(key((String) row[1]));
+            maxId = Math.max(maxId, ((Number) row[0]).longValue());
+        }
+        return maxId;
+    }
+
+    private static String key(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
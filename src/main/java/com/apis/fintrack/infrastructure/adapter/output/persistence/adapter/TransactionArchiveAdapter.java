@@ -0,0 +1,52 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.adapter;
+
+import com.apis.fintrack.domain.transaction.port.output.TransactionArchivePort;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.ArchivedTransactionRepository;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.TransactionRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Adaptador que implementa TransactionArchivePort.
+ *
+ * Cada lote son tres sentencias: seleccionar IDs por el índice, INSERT ... SELECT
+ * hacia archived_transaction y un DELETE por IDs en la tabla caliente. Las filas
+ * no pasan por el contexto de persistencia.
+ *
+ * El índice de búsqueda, el índice de saldos y los filtros de duplicados no
+ * cambian: siguen refiriéndose a los mismos IDs y fechas.
+ */
+@Component
+public class TransactionArchiveAdapter implements TransactionArchivePort {
+
+    private final TransactionRepository transactionRepository;
+    private final ArchivedTransactionRepository archivedTransactionRepository;
+    private final TransactionArchiveBoundary boundary;
+
+    public TransactionArchiveAdapter(TransactionRepository transactionRepository,
+                                     ArchivedTransactionRepository archivedTransactionRepository,
+                                     TransactionArchiveBoundary boundary) {
+        this.transactionRepository = transactionRepository;
+        this.archivedTransactionRepository = archivedTransactionRepository;
+        this.boundary = boundary;
+    }
+
+    @Override
+    @Transactional
+    public int archiveBatch(LocalDate cutoff, int batchSize) {
+        // Recoge lo que otras instancias hayan archivado desde el último lote
+        boundary.refresh();
+        List<Long> ids = transactionRepository.findIdsDatedBefore(cutoff, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        boundary.extendTo(cutoff);
+        archivedTransactionRepository.copyFromHot(ids);
+        transactionRepository.deleteAllByIdInBatch(ids);
+        return ids.size();
+    }
+}
@@ -0,0 +1,121 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.adapter;
+
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.ArchivedTransactionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * Frontera entre la partición caliente y la fría.
+ *
+ * Toda transacción archivada tiene fecha anterior a la frontera; la partición
+ * caliente puede contener cualquier fecha (p. ej. una transacción archivada que
+ * se editó y volvió a la caliente). Por eso las consultas siempre leen la
+ * caliente y solo consultan la fría cuando su rango empieza antes de la frontera.
+ *
+ * El archivado puede ejecutarse en cualquier instancia, así que la frontera no
+ * depende solo de lo que esta instancia ha visto. Es la mayor de:
+ * - el corte del horizonte (fintrack.archive.horizon-months, configuración
+ *   común a todas las instancias) calculado con un día de margen, porque
+ *   cualquier instancia puede estar archivando ya hasta ese corte;
+ * - MAX(transaction_date) + 1 de la tabla fría, que cubre lo archivado con un
+ *   horizonte anterior más largo. Se relee en cada lote de archivado y esta
+ *   instancia la adelanta antes de mover filas.
+ *
+ * Mientras la tabla fría parezca vacía se comprueba en cada consulta (una
+ * lectura de una fila como mucho); en cuanto tiene filas deja de comprobarse.
+ */
+@Component
+public class TransactionArchiveBoundary {
+
+    private final ArchivedTransactionRepository archivedTransactionRepository;
+    private final int horizonMonths;
+    private final Clock clock;
+    private volatile boolean loaded;
+    private volatile boolean hasRows;
+    private volatile LocalDate archivedBefore;
+
+    public TransactionArchiveBoundary(ArchivedTransactionRepository archivedTransactionRepository,
+                                      @Value("${fintrack.archive.horizon-months:13}") int horizonMonths,
+                                      Clock clock) {
+        this.archivedTransactionRepository = archivedTransactionRepository;
+        this.horizonMonths = horizonMonths;
+        this.clock = clock;
+    }
+
+    /**
+     * Si la partición fría puede tener filas con fecha igual o posterior a start.
+     * Un start nulo significa rango sin límite inferior.
+     */
+    public boolean reaches(LocalDate start) {
+        if (isEmpty()) {
+            return false;
+        }
+        if (start == null || start.isBefore(horizonCutoff())) {
+            return true;
+        }
+        LocalDate stored = archivedBefore();
+        return stored != null && start.isBefore(stored);
+    }
+
+    /**
+     * Si la partición fría está vacía.
+     */
+    public boolean isEmpty() {
+        if (hasRows) {
+            return false;
+        }
+        // Otra instancia puede haber archivado desde la última comprobación
+        if (archivedTransactionRepository.existsByIdNotNull()) {
+            hasRows = true;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Adelanta la frontera antes de archivar filas anteriores al corte.
+     */
+    public synchronized void extendTo(LocalDate cutoff) {
+        LocalDate current = archivedBefore();
+        if (current == null || cutoff.isAfter(current)) {
+            archivedBefore = cutoff;
+        }
+        hasRows = true;
+    }
+
+    /**
+     * Vuelve a leer la tabla fría, por si otra instancia archivó filas.
+     */
+    public synchronized void refresh() {
+        loaded = false;
+        LocalDate previous = archivedBefore;
+        LocalDate current = archivedBefore();
+        // Solo avanza: una lectura anterior a un lote en curso no la retrasa
+        if (previous != null && (current == null || previous.isAfter(current))) {
+            archivedBefore = previous;
+        }
+    }
+
+    private LocalDate horizonCutoff() {
+        // Mismo corte que el caso de uso de archivado, con un día de margen por
+        // si el reloj de otra instancia ya ha cambiado de día (y de mes)
+        return LocalDate.now(clock).plusDays(1).minusMonths(horizonMonths).withDayOfMonth(1);
+    }
+
+    private LocalDate archivedBefore() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    LocalDate max = archivedTransactionRepository.findMaxTransactionDate();
+                    archivedBefore = max != null ? max.plusDays(1) : null;
+                    hasRows = hasRows || max != null;
+                    loaded = true;
+                }
+            }
+        }
+        return archivedBefore;
+    }
+}
@@ -2,31 +2,67 @@ package com.apis.fintrack.infrastructure.adapter.output.persistence.adapter;
 
 import com.apis.fintrack.domain.transaction.model.TransactionCategoryEnum;
 import com.apis.fintrack.domain.transaction.model.Transaction;
+import com.apis.fintrack.domain.transaction.model.TransactionFilter;
 import com.apis.fintrack.domain.transaction.port.output.TransactionRepositoryPort;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.ArchivedTransactionJPAEntity;
 import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.TransactionJPAEntity;
 import com.apis.fintrack.infrastructure.adapter.output.persistence.mapper.TransactionPersistenceMapper;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.ArchivedTransactionRepository;
 import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.TransactionRepository;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.TransactionSpecifications;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Adaptador que implementa el puerto de salida TransactionRepositoryPort.
  * 
  * Traduce las operaciones del dominio a operaciones de Spring Data JPA.
+ * 
+ * Enruta de forma transparente entre la partición caliente (TransactionJPAEntity)
+ * y la fría (ArchivedTransactionJPAEntity, ver TransactionArchiveAdapter):
+ * - Búsquedas por ID: caliente y, si no aparece, fría.
+ * - Rangos de fechas: solo caliente si el rango empieza en o después de la
+ *   frontera de archivado; si no, unión de ambas.
+ * - Historial de un usuario y filtro combinado: unión de ambas.
+ * - Listados globales (categoría, monto, tipo, ordenaciones): solo caliente.
+ * 
+ * La unión paginada pide a cada partición las primeras offset + size filas con
+ * la misma ordenación y las mezcla en memoria; las páginas profundas que cruzan
+ * la frontera cuestan más que las recientes.
  */
 @Component
 public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
     
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("transaction_date"), Sort.Order.desc("id"));
+
     private final TransactionRepository transactionRepository;
+    private final ArchivedTransactionRepository archivedTransactionRepository;
+    private final TransactionArchiveBoundary archiveBoundary;
     private final TransactionPersistenceMapper mapper;
     
     public TransactionRepositoryAdapter(TransactionRepository transactionRepository,
+                                         ArchivedTransactionRepository archivedTransactionRepository,
+                                         TransactionArchiveBoundary archiveBoundary,
                                          TransactionPersistenceMapper mapper) {
         this.transactionRepository = transactionRepository;
+        this.archivedTransactionRepository = archivedTransactionRepository;
+        this.archiveBoundary = archiveBoundary;
         this.mapper = mapper;
     }
     
@@ -38,8 +74,10 @@ public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
             // Nueva transacción
             jpaEntity = mapper.toJpaEntity(transaction);
         } else {
-            // Actualización
-            jpaEntity = transactionRepository.findById(transaction.getId().getValue())
+            // Actualización: una transacción archivada vuelve a la partición caliente
+            Long id = transaction.getId().getValue();
+            jpaEntity = transactionRepository.findById(id)
+                .or(() -> restoreFromArchive(id))
                 .orElseGet(() -> mapper.toJpaEntity(transaction));
             mapper.updateJpaEntity(transaction, jpaEntity);
         }
@@ -50,8 +88,31 @@ public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
     
     @Override
     public Optional<Transaction> findById(Long id) {
-        return transactionRepository.findById(id)
-            .map(mapper::toDomain);
+        Optional<Transaction> hot = transactionRepository.findById(id).map(mapper::toDomain);
+        if (hot.isPresent() || archiveBoundary.isEmpty()) {
+            return hot;
+        }
+        return archivedTransactionRepository.findById(id).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<Transaction> findAllById(List<Long> ids) {
+        Map<Long, Integer> position = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            position.putIfAbsent(ids.get(i), i);
+        }
+        List<Transaction> found = new ArrayList<>(transactionRepository.findAllById(ids).stream()
+            .map(mapper::toDomain)
+            .toList());
+        if (found.size() < position.size() && !archiveBoundary.isEmpty()) {
+            Set<Long> missing = new HashSet<>(position.keySet());
+            found.forEach(t -> missing.remove(t.getId().getValue()));
+            archivedTransactionRepository.findAllById(missing).stream()
+                .map(mapper::toDomain)
+                .forEach(found::add);
+        }
+        found.sort(Comparator.comparing(t -> position.get(t.getId().getValue())));
+        return found;
     }
 
     @Override
@@ -68,8 +129,14 @@ public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
 
     @Override
     public Page<Transaction> findByDateBetween(LocalDate startDate, LocalDate endDate, Pageable pageable) {
-        Page<TransactionJPAEntity> page = transactionRepository.findTransactionEntitiesByTransaction_dateBetween(startDate, endDate, pageable);
-        return page.map(mapper::toDomain);
+        if (!archiveBoundary.reaches(startDate)) {
+            // Periodo reciente: solo la partición caliente
+            return transactionRepository.findTransactionEntitiesByTransaction_dateBetween(startDate, endDate, pageable)
+                .map(mapper::toDomain);
+        }
+        return union(pageable,
+            p -> transactionRepository.findTransactionEntitiesByTransaction_dateBetween(startDate, endDate, p),
+            p -> archivedTransactionRepository.findTransactionEntitiesByTransaction_dateBetween(startDate, endDate, p));
     }
 
     @Override
@@ -86,8 +153,33 @@ public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
 
     @Override
     public Page<Transaction> findByUserId(Long userId, Pageable pageable) {
-        Page<TransactionJPAEntity> page = transactionRepository.findByUser_UserId(userId, pageable);
-        return page.map(mapper::toDomain);
+        if (archiveBoundary.isEmpty()) {
+            return transactionRepository.findByUser_UserId(userId, pageable).map(mapper::toDomain);
+        }
+        return union(pageable,
+            p -> transactionRepository.findByUser_UserId(userId, p),
+            p -> archivedTransactionRepository.findByUser_UserId(userId, p));
+    }
+
+    @Override
+    public List<Transaction> findByFilter(TransactionFilter filter, int limit) {
+        List<Transaction> hot = transactionRepository.findBy(TransactionSpecifications.matching(filter),
+                query -> query.sortBy(NEWEST_FIRST).limit(limit).all())
+            .stream()
+            .map(mapper::toDomain)
+            .toList();
+        if (!archiveBoundary.reaches(filter.startDate())) {
+            return hot;
+        }
+        List<Transaction> cold = archivedTransactionRepository.findBy(TransactionSpecifications.matching(filter),
+                query -> query.sortBy(NEWEST_FIRST).limit(limit).all())
+            .stream()
+            .map(mapper::toDomain)
+            .toList();
+        return Stream.concat(hot.stream(), cold.stream())
+            .sorted(comparatorFor(NEWEST_FIRST))
+            .limit(limit)
+            .toList();
     }
 
     @Override
@@ -105,16 +197,83 @@ public class TransactionRepositoryAdapter implements TransactionRepositoryPort {
     @Override
     public void deleteById(Long id) {
         transactionRepository.deleteById(id);
+        if (!archiveBoundary.isEmpty()) {
+            archivedTransactionRepository.deleteAllByIdInBatch(List.of(id));
+        }
     }
     
     @Override
     public void deleteAllByUserId(Long userId) {
         transactionRepository.findByUser_UserId(userId, Pageable.unpaged())
             .forEach(transactionRepository::delete);
+        if (!archiveBoundary.isEmpty()) {
+            archivedTransactionRepository.deleteAllByUserId(userId);
+        }
     }
     
     @Override
     public boolean existsById(Long id) {
-        return transactionRepository.existsById(id);
+        return transactionRepository.existsById(id)
+            || (!archiveBoundary.isEmpty() && archivedTransactionRepository.existsById(id));
+    }
+
+    /**
+     * Mueve una transacción archivada de vuelta a la partición caliente para
+     * poder editarla. Si su fecha sigue fuera del horizonte se volverá a
+     * archivar en la próxima ejecución.
+     */
+    private Optional<TransactionJPAEntity> restoreFromArchive(Long id) {
+        if (archiveBoundary.isEmpty() || archivedTransactionRepository.copyToHot(id) == 0) {
+            return Optional.empty();
+        }
+        archivedTransactionRepository.deleteAllByIdInBatch(List.of(id));
+        return transactionRepository.findById(id);
+    }
+
+    /**
+     * Página de la unión de ambas particiones con la ordenación pedida
+     * (por defecto, de la más reciente a la más antigua).
+     */
+    private Page<Transaction> union(Pageable pageable,
+                                    Function<Pageable, Page<TransactionJPAEntity>> hotQuery,
+                                    Function<Pageable, Page<ArchivedTransactionJPAEntity>> coldQuery) {
+        Sort sort = pageable.getSort().isSorted() ? pageable.getSort() : NEWEST_FIRST;
+        Pageable head = pageable.isPaged()
+            ? PageRequest.of(0, Math.toIntExact(pageable.getOffset() + pageable.getPageSize()), sort)
+            : Pageable.unpaged(sort);
+        Page<TransactionJPAEntity> hot = hotQuery.apply(head);
+        Page<ArchivedTransactionJPAEntity> cold = coldQuery.apply(head);
+
+        Stream<Transaction> merged = Stream.concat(
+                hot.getContent().stream().map(mapper::toDomain),
+                cold.getContent().stream().map(mapper::toDomain))
+            .sorted(comparatorFor(sort));
+        if (pageable.isPaged()) {
+            merged = merged.skip(pageable.getOffset()).limit(pageable.getPageSize());
+        }
+        return new PageImpl<>(merged.toList(), pageable, hot.getTotalElements() + cold.getTotalElements());
+    }
+
+    /**
+     * Replica en memoria la ordenación de la consulta para mezclar ambas
+     * particiones. El ID desempata para que el orden sea estable.
+     */
+    private static Comparator<Transaction> comparatorFor(Sort sort) {
+        Comparator<Transaction> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Transaction> next = switch (order.getProperty()) {
+                case "amount" -> Comparator.comparing((Transaction t) -> t.getAmount().getValue());
+                case "description" -> Comparator.comparing((Transaction t) -> t.getDescription().getValue());
+                case "category" -> Comparator.comparing((Transaction t) -> t.getCategory().getValue());
+                case "id" -> Comparator.comparing((Transaction t) -> t.getId().getValue());
+                default -> Comparator.comparing((Transaction t) -> t.getTransactionDate().getValue());
+            };
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        Comparator<Transaction> byId = Comparator.comparing((Transaction t) -> t.getId().getValue()).reversed();
+        return comparator == null ? byId : comparator.thenComparing(byId);
     }
 }
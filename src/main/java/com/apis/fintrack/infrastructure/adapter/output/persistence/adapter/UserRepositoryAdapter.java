@@ -9,6 +9,7 @@ import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.Us
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Optional;
 
@@ -23,10 +24,13 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
     
     private final UserRepository userRepository;
     private final UserPersistenceMapper mapper;
+    private final RegisteredEmailFilter registeredEmails;
     
-    public UserRepositoryAdapter(UserRepository userRepository, UserPersistenceMapper mapper) {
+    public UserRepositoryAdapter(UserRepository userRepository, UserPersistenceMapper mapper,
+                                 RegisteredEmailFilter registeredEmails) {
         this.userRepository = userRepository;
         this.mapper = mapper;
+        this.registeredEmails = registeredEmails;
     }
     
     // ==================== OPERACIONES DE LECTURA ====================
@@ -72,7 +76,8 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
 
     @Override
     public boolean existsByEmail(String email) {
-        return userRepository.findByEmail(email).isPresent();
+        // El filtro descarta sin consulta los emails libres; el resto se confirma sobre el índice
+        return registeredEmails.mightBeRegistered(email) && userRepository.existsByEmail(email);
     }
     
     @Override
@@ -93,8 +98,10 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
         
         // Si el usuario tiene ID, es un update
         if (!user.getId().isEmpty()) {
-            // Buscar la entidad existente para mantener las relaciones
-            jpaEntity = userRepository.searchById(user.getId().getValue())
+            // Buscar la entidad existente para mantener las relaciones. findById
+            // la toma del contexto de persistencia si el caso de uso ya la leyó
+            // en la misma transacción; una consulta la volvería a leer.
+            jpaEntity = userRepository.findById(user.getId().getValue())
                     .orElseGet(() -> mapper.toJpaEntity(user));
             mapper.updateJpaEntity(user, jpaEntity);
         } else {
@@ -103,9 +110,20 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
         }
         
         UserJPAEntity savedEntity = userRepository.save(jpaEntity);
+        registeredEmails.add(savedEntity.getEmail());
         return mapper.toDomain(savedEntity);
     }
     
+    @Override
+    public boolean addFunds(Long id, BigDecimal amount) {
+        return userRepository.incrementAvailableFunds(id, amount) == 1;
+    }
+    
+    @Override
+    public boolean withdrawFunds(Long id, BigDecimal amount) {
+        return userRepository.decrementAvailableFundsIfSufficient(id, amount) == 1;
+    }
+    
     @Override
     public void deleteById(Long id) {
         userRepository.deleteById(id);
@@ -0,0 +1,41 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.entity;
+
+import com.apis.fintrack.domain.transaction.model.TransactionCategoryEnum;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Partición fría de transacciones: filas anteriores al horizonte de archivado.
+ *
+ * Misma forma que TransactionJPAEntity y mismo ID (no se genera uno nuevo), de
+ * modo que una transacción conserva su identidad al archivarse.
+ */
+@Entity
+@Table(name = "archived_transaction",
+        indexes = @Index(name = "idx_archived_transaction_user_date_id", columnList = "userId, transaction_date, id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedTransactionJPAEntity {
+    @Id
+    private Long id;
+
+    private String description;
+
+    private BigDecimal amount;
+
+    private LocalDate transaction_date;
+
+    private TransactionCategoryEnum category;
+
+    private boolean isIncome;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "userId")
+    private UserJPAEntity user;
+}
@@ -0,0 +1,48 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Net transaction amount of one user for one day.
+ *
+ * Rows are maintained incrementally on every transaction write and are the
+ * persisted source of the in-memory prefix-sum balance index.
+ */
+@Getter
+@Setter
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "daily_balance",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_balance_user_day", columnNames = {"user_id", "day"}),
+        indexes = @Index(name = "idx_daily_balance_user_day", columnList = "user_id, day"))
+public class DailyBalanceJPAEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "day", nullable = false)
+    private LocalDate day;
+
+    /** Signed sum of the user's transaction amounts on this day. */
+    @Column(name = "delta", nullable = false, precision = 19, scale = 2)
+    private BigDecimal delta;
+}
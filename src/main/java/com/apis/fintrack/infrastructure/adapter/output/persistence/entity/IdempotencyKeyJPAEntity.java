@@ -0,0 +1,51 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.entity;
+
+import com.apis.fintrack.domain.transaction.model.TransactionCategoryEnum;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Clave de idempotencia de una creación de transacción, con una copia de la
+ * transacción tal y como se creó (la respuesta repetida no cambia aunque la
+ * transacción se edite después).
+ */
+@Entity
+@Table(name = "idempotency_key",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_key_user_key", columnNames = {"userId", "idempotencyKey"}),
+        indexes = @Index(name = "idx_idempotency_key_created_at", columnList = "createdAt"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyKeyJPAEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String idempotencyKey;
+
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private Long transactionId;
+
+    private String description;
+
+    private BigDecimal amount;
+
+    private LocalDate transaction_date;
+
+    private TransactionCategoryEnum category;
+}
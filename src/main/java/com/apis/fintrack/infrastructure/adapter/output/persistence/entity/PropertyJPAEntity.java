@@ -6,10 +6,18 @@ import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.Set;
 
+/**
+ * Permiso asignable a roles. Dato de referencia en caché de segundo nivel,
+ * de solo lectura, igual que RoleJPAEntity.
+ */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,6 +31,7 @@ public class PropertyJPAEntity {
     private PropertyEnum property;
 
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
     @JoinTable(
             name = "Properties_Roles",
             joinColumns = @JoinColumn(name = "propertyId"),
@@ -0,0 +1,51 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Refresh token emitido a un usuario. Solo se guarda el hash SHA-256 del
+ * token; el valor en claro lo conoce únicamente el cliente.
+ *
+ * Todos los tokens obtenidos rotando el emitido en un login comparten familyId.
+ * Los tokens usados se conservan hasta su expiración para detectar reutilizaciones.
+ */
+@Entity
+@Table(name = "refresh_token",
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_token_hash", columnNames = "tokenHash"),
+        indexes = {
+                @Index(name = "idx_refresh_token_family", columnList = "familyId"),
+                @Index(name = "idx_refresh_token_expires_at", columnList = "expiresAt")
+        })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenJPAEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 44)
+    private String tokenHash;
+
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private int tokenVersion;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private LocalDateTime familyExpiresAt;
+
+    private LocalDateTime usedAt;
+}
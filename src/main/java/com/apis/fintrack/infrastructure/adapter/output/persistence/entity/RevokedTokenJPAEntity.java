@@ -0,0 +1,38 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Token revocado antes de su expiración (logout), identificado por su jti.
+ *
+ * La fila solo tiene sentido hasta expiresAt: a partir de ahí el token ya es
+ * rechazado por caducado y la fila puede purgarse.
+ */
+@Entity
+@Table(name = "revoked_token",
+        indexes = {
+                @Index(name = "idx_revoked_token_expires_at", columnList = "expiresAt"),
+                @Index(name = "idx_revoked_token_revoked_at", columnList = "revokedAt")
+        })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedTokenJPAEntity {
+    @Id
+    @Column(length = 36)
+    private String jti;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private LocalDateTime revokedAt;
+}
@@ -6,12 +6,21 @@ import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
 
 import java.util.List;
 import java.util.Set;
 
+/**
+ * Rol de usuario. Dato de referencia: se crea al arrancar y no se modifica,
+ * así que la entidad y sus permisos se guardan en la caché de segundo nivel
+ * como solo lectura. La lista de usuarios del rol no se cachea.
+ */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -28,6 +37,7 @@ public class RoleJPAEntity implements GrantedAuthority {
     List<UserJPAEntity> usersWithRole;
 
     @ManyToMany(mappedBy = "rolesWithProperty")
+    @Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
     Set<PropertyJPAEntity> propertyWithRole;
 
 
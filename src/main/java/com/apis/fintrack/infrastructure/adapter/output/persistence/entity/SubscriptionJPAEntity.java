@@ -3,6 +3,7 @@ package com.apis.fintrack.infrastructure.adapter.output.persistence.entity;
 import com.apis.fintrack.domain.subscription.model.SubscriptionType;
 import com.apis.fintrack.domain.payment.model.PaymentMethodType;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -44,7 +45,10 @@ public class SubscriptionJPAEntity {
     @Column(name = "payment_last_four_digits", length = 4)
     private String paymentLastFourDigits;
 
+    // Al mapear una página de suscripciones, los pagos se cargan en lotes
+    // (una consulta por cada 50 suscripciones) en lugar de una por suscripción
     @OneToMany(mappedBy = "subscription", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private List<PaymentJPAEntity> payments;
 
 }
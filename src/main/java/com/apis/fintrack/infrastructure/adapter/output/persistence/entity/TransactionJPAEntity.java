@@ -14,6 +14,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
+@Table(indexes = @Index(name = "idx_transaction_user_date_id", columnList = "userId, transaction_date, id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,11 +18,23 @@ import java.util.Collection;
 import java.util.List;
 
 @Entity
+@NamedEntityGraph(name = UserJPAEntity.FOR_MAPPING, attributeNodes = {
+        @NamedAttributeNode("role"),
+        @NamedAttributeNode("subscription")
+})
+@Table(indexes = @Index(name = "uk_user_email", columnList = "email", unique = true))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class UserJPAEntity implements UserDetails {
 
+    /**
+     * Plan de carga para leer usuarios que se van a mapear: el rol (lo lee el
+     * mapper) y la suscripción, que al ser el lado inverso de un OneToOne
+     * Hibernate cargaría con una consulta extra por usuario aunque sea LAZY.
+     */
+    public static final String FOR_MAPPING = "UserJPAEntity.forMapping";
+
 
 
     @Id
@@ -56,6 +68,13 @@ public class UserJPAEntity implements UserDetails {
     @JoinColumn(name = "roleId")
     private RoleJPAEntity role;
 
+    /**
+     * Versión de los tokens del usuario. Solo se modifica con un UPDATE atómico
+     * (UserRepository.incrementTokenVersion); guardar la entidad no la sobrescribe.
+     */
+    @Column(nullable = false, updatable = false)
+    private int tokenVersion;
+
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "user")
     private List<TransactionJPAEntity> transactions;
 
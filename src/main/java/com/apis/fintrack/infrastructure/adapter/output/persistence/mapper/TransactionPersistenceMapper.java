@@ -2,6 +2,7 @@ package com.apis.fintrack.infrastructure.adapter.output.persistence.mapper;
 
 import com.apis.fintrack.domain.transaction.model.*;
 import com.apis.fintrack.domain.user.model.UserId;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.ArchivedTransactionJPAEntity;
 import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.TransactionJPAEntity;
 import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.UserJPAEntity;
 import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.UserRepository;
@@ -43,6 +44,25 @@ public class TransactionPersistenceMapper {
             UserId.of(jpaEntity.getUser().getUserId())
         );
     }
+
+    /**
+     * Convierte una transacción de la partición fría a una entidad de dominio.
+     * 
+     * @param archivedEntity la entidad archivada
+     * @return la entidad de dominio
+     */
+    public Transaction toDomain(ArchivedTransactionJPAEntity archivedEntity) {
+        Objects.requireNonNull(archivedEntity, "La entidad JPA no puede ser nula");
+
+        return new Transaction(
+            TransactionId.of(archivedEntity.getId()),
+            Description.of(archivedEntity.getDescription()),
+            TransactionAmount.fromStorage(archivedEntity.getAmount()),
+            TransactionDate.fromStorage(archivedEntity.getTransaction_date()),
+            Category.of(archivedEntity.getCategory()),
+            UserId.of(archivedEntity.getUser().getUserId())
+        );
+    }
     
     /**
      * Convierte una entidad de dominio a una entidad JPA.
@@ -66,10 +86,11 @@ public class TransactionPersistenceMapper {
         jpaEntity.setCategory(domainTransaction.getCategory().getValue());
         jpaEntity.setIncome(domainTransaction.isIncome());
         
-        // Buscar el usuario
-        UserJPAEntity userEntity = userRepository.searchById(domainTransaction.getId().getValue())
+        // Buscar el usuario propietario (findById usa la caché del contexto de
+        // persistencia, así una importación masiva no consulta el usuario por fila)
+        UserJPAEntity userEntity = userRepository.findById(domainTransaction.getUserId().getValue())
             .orElseThrow(() -> new IllegalArgumentException(
-                "No existe usuario con ID: " + domainTransaction.getId().toString()
+                "No existe usuario con ID: " + domainTransaction.getUserId().getValue()
             ));
         jpaEntity.setUser(userEntity);
         
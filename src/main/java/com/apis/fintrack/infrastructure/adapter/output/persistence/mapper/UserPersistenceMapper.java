@@ -34,7 +34,7 @@ public class UserPersistenceMapper {
             return null;
         }
         
-        return new User(
+        User user = new User(
             UserId.of(jpaEntity.getUserId()),
             FullName.of(jpaEntity.getName(), jpaEntity.getSurname()),
             Email.of(jpaEntity.getEmail()),
@@ -42,6 +42,12 @@ public class UserPersistenceMapper {
             BirthDate.ofUnchecked(jpaEntity.getBirthDate()),
             Money.of(jpaEntity.getAvailableFunds())
         );
+        // El rol almacenado; sin él, guardar el usuario lo devolvería a USER.
+        // Las consultas de UserRepository traen el rol en la misma sentencia.
+        if (jpaEntity.getRole() != null) {
+            user.changeRole(jpaEntity.getRole().getRoleName());
+        }
+        return user;
     }
     
     /**
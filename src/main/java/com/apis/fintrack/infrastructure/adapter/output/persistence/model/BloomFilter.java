@@ -0,0 +1,120 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over 64-bit key hashes.
+ *
+ * mightContain never returns false for an added key; it returns true for a
+ * key that was never added with roughly the configured false positive rate,
+ * as long as no more than the expected number of keys are added. Once more
+ * have been added the rate degrades and {@link #isSaturated()} reports it.
+ * Keys cannot be removed: rebuild a new filter instead.
+ *
+ * Callers that already have a well-mixed 64-bit hash (transaction
+ * fingerprints) pass it directly; string keys (token ids, emails) go through
+ * {@link #hash64(String)}. Probes are derived from the two 32-bit halves of
+ * the hash (Kirsch-Mitzenmacher double hashing). Bits live in an
+ * AtomicLongArray and are set with CAS, so adds and lookups are lock-free.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final long expectedInsertions;
+    private final AtomicLong insertions = new AtomicLong();
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be in (0, 1)");
+        }
+        double ln2 = Math.log(2);
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int words = (int) Math.max(1, (m + Long.SIZE - 1) / Long.SIZE);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * ln2));
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    public void add(String key) {
+        add(hash64(key));
+    }
+
+    public boolean mightContain(String key) {
+        return mightContain(hash64(key));
+    }
+
+    public void add(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            setBit(bitIndex(h1 + i * h2));
+        }
+        insertions.incrementAndGet();
+    }
+
+    public boolean mightContain(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = bitIndex(h1 + i * h2);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isSaturated() {
+        return insertions.get() > expectedInsertions;
+    }
+
+    long bitCount() {
+        return bitCount;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-8 bytes followed by the SplitMix64 finalizer.
+     */
+    public static long hash64(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 30;
+        h *= 0xbf58476d1ce4e5b9L;
+        h ^= h >>> 27;
+        h *= 0x94d049bb133111ebL;
+        h ^= h >>> 31;
+        return h;
+    }
+
+    private long bitIndex(int combined) {
+        // The sign bit is dropped
+        return (combined & 0x7fffffffL) % bitCount;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+}
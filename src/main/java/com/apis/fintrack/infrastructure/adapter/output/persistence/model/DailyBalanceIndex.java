@@ -0,0 +1,150 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.model;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * In-memory daily cumulative balance of a single user, backed by a Fenwick
+ * (binary indexed) tree keyed by day.
+ *
+ * Amounts are kept as signed cents. Point updates and "balance at day" lookups
+ * are O(log n); a curve of k days costs one prefix lookup plus O(k) walking the
+ * raw daily deltas. Instances are thread-safe.
+ */
+public final class DailyBalanceIndex {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private LocalDate origin;
+    private long[] deltas;
+    private long[] tree;
+
+    public DailyBalanceIndex() {
+        this.deltas = new long[0];
+        this.tree = new long[1];
+    }
+
+    /**
+     * Builds an index from already aggregated daily deltas (day -> cents).
+     */
+    public static DailyBalanceIndex fromDailyDeltas(Map<LocalDate, Long> dailyDeltas) {
+        DailyBalanceIndex index = new DailyBalanceIndex();
+        if (dailyDeltas.isEmpty()) {
+            return index;
+        }
+        TreeMap<LocalDate, Long> sorted = new TreeMap<>(dailyDeltas);
+        LocalDate first = sorted.firstKey();
+        int span = (int) ChronoUnit.DAYS.between(first, sorted.lastKey()) + 1;
+        index.origin = first;
+        index.deltas = new long[Math.max(INITIAL_CAPACITY, span)];
+        sorted.forEach((day, cents) -> index.deltas[offsetOf(first, day)] += cents);
+        index.rebuildTree();
+        return index;
+    }
+
+    /**
+     * Adds a signed amount of cents to the given day.
+     */
+    public synchronized void add(LocalDate day, long cents) {
+        if (cents == 0) {
+            return;
+        }
+        ensureCovers(day);
+        int i = offsetOf(origin, day);
+        deltas[i] += cents;
+        for (int node = i + 1; node < tree.length; node += node & -node) {
+            tree[node] += cents;
+        }
+    }
+
+    /**
+     * Cumulative balance (in cents) up to and including the given day.
+     */
+    public synchronized long balanceAt(LocalDate day) {
+        if (origin == null || day.isBefore(origin)) {
+            return 0L;
+        }
+        int i = Math.min(offsetOf(origin, day), deltas.length - 1);
+        return prefixSum(i);
+    }
+
+    /**
+     * Cumulative balance (in cents) for every day in [start, end], ordered by date.
+     */
+    public synchronized SortedMap<LocalDate, Long> curve(LocalDate start, LocalDate end) {
+        SortedMap<LocalDate, Long> result = new TreeMap<>();
+        long running = balanceAt(start);
+        result.put(start, running);
+        LocalDate day = start.plusDays(1);
+        while (!day.isAfter(end)) {
+            running += deltaOn(day);
+            result.put(day, running);
+            day = day.plusDays(1);
+        }
+        return result;
+    }
+
+    private long deltaOn(LocalDate day) {
+        if (origin == null || day.isBefore(origin)) {
+            return 0L;
+        }
+        int i = offsetOf(origin, day);
+        return i < deltas.length ? deltas[i] : 0L;
+    }
+
+    private long prefixSum(int i) {
+        long sum = 0L;
+        for (int node = i + 1; node > 0; node -= node & -node) {
+            sum += tree[node];
+        }
+        return sum;
+    }
+
+    /**
+     * Grows the backing arrays (and moves the origin back if needed) so that the
+     * day has a slot. Rebuilding the tree is O(n) and amortised by doubling.
+     */
+    private void ensureCovers(LocalDate day) {
+        if (origin == null) {
+            origin = day;
+            deltas = new long[INITIAL_CAPACITY];
+            rebuildTree();
+            return;
+        }
+        if (day.isBefore(origin)) {
+            int shift = (int) ChronoUnit.DAYS.between(day, origin);
+            long[] shifted = new long[Math.max(deltas.length * 2, deltas.length + shift)];
+            System.arraycopy(deltas, 0, shifted, shift, deltas.length);
+            origin = day;
+            deltas = shifted;
+            rebuildTree();
+            return;
+        }
+        int i = offsetOf(origin, day);
+        if (i >= deltas.length) {
+            long[] grown = new long[Math.max(deltas.length * 2, i + 1)];
+            System.arraycopy(deltas, 0, grown, 0, deltas.length);
+            deltas = grown;
+            rebuildTree();
+        }
+    }
+
+    private void rebuildTree() {
+        int n = deltas.length;
+        tree = new long[n + 1];
+        for (int node = 1; node <= n; node++) {
+            tree[node] += deltas[node - 1];
+            int parent = node + (node & -node);
+            if (parent <= n) {
+                tree[parent] += tree[node];
+            }
+        }
+    }
+
+    private static int offsetOf(LocalDate origin, LocalDate day) {
+        return (int) ChronoUnit.DAYS.between(origin, day);
+    }
+}
@@ -0,0 +1,55 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.model;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Small bounded cache with a fixed time to live per entry.
+ *
+ * Thin wrapper over a Caffeine cache (maximumSize plus expireAfterWrite):
+ * lookups are lock-free and eviction past capacity favours recently and
+ * frequently used entries. The ticker reads the given Clock so tests can move
+ * time.
+ */
+public final class ExpiringLruCache<K, V> {
+
+    private final Cache<K, V> entries;
+
+    public ExpiringLruCache(int maxEntries, Duration ttl) {
+        this(maxEntries, ttl, Clock.systemUTC());
+    }
+
+    public ExpiringLruCache(int maxEntries, Duration ttl, Clock clock) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .ticker(() -> clock.millis() * 1_000_000L)
+                .build();
+    }
+
+    /**
+     * The cached value, or null if absent or expired.
+     */
+    public V get(K key) {
+        return entries.getIfPresent(key);
+    }
+
+    public void put(K key, V value) {
+        entries.put(key, value);
+    }
+
+    public void remove(K key) {
+        entries.invalidate(key);
+    }
+
+    public int size() {
+        entries.cleanUp();
+        return (int) entries.estimatedSize();
+    }
+}
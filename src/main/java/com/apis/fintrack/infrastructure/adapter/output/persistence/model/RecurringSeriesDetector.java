@@ -0,0 +1,148 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.model;
+
+import com.apis.fintrack.domain.transaction.model.RecurrencePeriod;
+import com.apis.fintrack.domain.transaction.model.RecurringSeries;
+import com.apis.fintrack.domain.transaction.model.TransactionFingerprint;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Incremental recurring-charge detector for a single user.
+ *
+ * Transactions are grouped by normalized description and a logarithmic amount
+ * band (~10% wide, neighbouring bands are merged so small price changes stay
+ * in one group). Each group keeps its most recent dates and a histogram of the
+ * gaps between consecutive dates per {@link RecurrencePeriod}. Inserting a
+ * date only touches the gaps next to it, so an insert is O(log k) and never
+ * rescans history. A group is recurring when one period holds at least two
+ * gaps and 60% of all gaps. Instances are thread-safe.
+ */
+public final class RecurringSeriesDetector {
+
+    private static final int MAX_DATES_PER_GROUP = 24;
+    private static final int MIN_MATCHING_GAPS = 2;
+    private static final double MIN_MATCHING_SHARE = 0.6;
+    private static final double BAND_LOG_BASE = Math.log(1.1);
+
+    private final Map<GroupKey, Group> groups = new HashMap<>();
+
+    public synchronized void add(LocalDate date, BigDecimal amount, String description) {
+        String normalized = TransactionFingerprint.normalizeDescription(description);
+        long cents = amount.movePointRight(2).longValue();
+        if (normalized.isEmpty() || cents == 0) {
+            return;
+        }
+        int band = bandOf(cents);
+        Group group = groups.get(new GroupKey(normalized, band));
+        if (group == null) {
+            group = groups.get(new GroupKey(normalized, band - 1));
+        }
+        if (group == null) {
+            group = groups.get(new GroupKey(normalized, band + 1));
+        }
+        if (group == null) {
+            group = new Group();
+            groups.put(new GroupKey(normalized, band), group);
+        }
+        group.add(date.toEpochDay(), cents, description);
+    }
+
+    public synchronized List<RecurringSeries> detected() {
+        List<RecurringSeries> result = new ArrayList<>();
+        for (Group group : groups.values()) {
+            RecurrencePeriod period = group.dominantPeriod();
+            if (period != null) {
+                result.add(new RecurringSeries(
+                        group.lastDescription,
+                        BigDecimal.valueOf(group.lastCents, 2),
+                        period,
+                        LocalDate.ofEpochDay(group.days.last()),
+                        group.days.size()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Signed logarithmic band; 0 is never used so incomes and expenses never
+     * share a band or become neighbours.
+     */
+    static int bandOf(long cents) {
+        int band = (int) Math.floor(Math.log(Math.abs(cents)) / BAND_LOG_BASE) + 1;
+        return cents < 0 ? -band : band;
+    }
+
+    private record GroupKey(String description, int band) {
+    }
+
+    private static final class Group {
+
+        private final TreeSet<Long> days = new TreeSet<>();
+        private final int[] gapsByPeriod = new int[RecurrencePeriod.values().length];
+        private int gaps;
+        private long lastCents;
+        private String lastDescription;
+
+        void add(long day, long cents, String description) {
+            if (days.isEmpty() || day >= days.last()) {
+                lastCents = cents;
+                lastDescription = description;
+            }
+            if (!days.add(day)) {
+                return;
+            }
+            Long lower = days.lower(day);
+            Long higher = days.higher(day);
+            if (lower != null && higher != null) {
+                removeGap(higher - lower);
+            }
+            if (lower != null) {
+                addGap(day - lower);
+            }
+            if (higher != null) {
+                addGap(higher - day);
+            }
+            if (days.size() > MAX_DATES_PER_GROUP) {
+                long oldest = days.pollFirst();
+                removeGap(days.first() - oldest);
+            }
+        }
+
+        RecurrencePeriod dominantPeriod() {
+            RecurrencePeriod best = null;
+            int bestCount = 0;
+            for (RecurrencePeriod period : RecurrencePeriod.values()) {
+                if (gapsByPeriod[period.ordinal()] > bestCount) {
+                    best = period;
+                    bestCount = gapsByPeriod[period.ordinal()];
+                }
+            }
+            if (bestCount >= MIN_MATCHING_GAPS && bestCount >= MIN_MATCHING_SHARE * gaps) {
+                return best;
+            }
+            return null;
+        }
+
+        private void addGap(long gap) {
+            gaps++;
+            RecurrencePeriod period = RecurrencePeriod.matching(gap);
+            if (period != null) {
+                gapsByPeriod[period.ordinal()]++;
+            }
+        }
+
+        private void removeGap(long gap) {
+            gaps--;
+            RecurrencePeriod period = RecurrencePeriod.matching(gap);
+            if (period != null) {
+                gapsByPeriod[period.ordinal()]--;
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.repository;
+
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.ArchivedTransactionJPAEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ArchivedTransactionRepository extends JpaRepository<ArchivedTransactionJPAEntity, Long>,
+        JpaSpecificationExecutor<ArchivedTransactionJPAEntity> {
+
+    Page<ArchivedTransactionJPAEntity> findByUser_UserId(Long userId, Pageable pageable);
+
+    @Query(value = "SELECT a FROM ArchivedTransactionJPAEntity" +
+            " a WHERE a.transaction_date BETWEEN :startDate and :endDate")
+    Page<ArchivedTransactionJPAEntity>
+    findTransactionEntitiesByTransaction_dateBetween(LocalDate startDate, LocalDate endDate, Pageable pageable);
+
+    // Límite superior de la partición fría (null si está vacía)
+    @Query(value = "SELECT MAX(a.transaction_date) FROM ArchivedTransactionJPAEntity a")
+    LocalDate findMaxTransactionDate();
+
+    // Si la partición fría tiene alguna fila (lee una como mucho)
+    boolean existsByIdNotNull();
+
+    // Copia a la partición fría un lote de transacciones calientes, conservando su ID
+    @Modifying
+    @Query(value = "INSERT INTO ArchivedTransactionJPAEntity (id, description, amount, transaction_date, category, isIncome, user) " +
+            "SELECT t.id, t.description, t.amount, t.transaction_date, t.category, t.isIncome, t.user " +
+            "FROM TransactionJPAEntity t WHERE t.id IN :ids")
+    int copyFromHot(List<Long> ids);
+
+    // Devuelve una transacción archivada a la partición caliente, conservando su ID
+    @Modifying
+    @Query(value = "INSERT INTO TransactionJPAEntity (id, description, amount, transaction_date, category, isIncome, user) " +
+            "SELECT a.id, a.description, a.amount, a.transaction_date, a.category, a.isIncome, a.user " +
+            "FROM ArchivedTransactionJPAEntity a WHERE a.id = :id")
+    int copyToHot(Long id);
+
+    @Modifying
+    @Query(value = "DELETE FROM ArchivedTransactionJPAEntity a WHERE a.user.userId = :userId")
+    int deleteAllByUserId(Long userId);
+
+    // Mismas proyecciones que TransactionRepository, sobre la partición fría
+    @Query(value = "SELECT a.transaction_date, SUM(a.amount) FROM ArchivedTransactionJPAEntity a " +
+            "WHERE a.user.userId = :userId GROUP BY a.transaction_date")
+    List<Object[]> sumAmountByDayForUser(Long userId);
+
+    @Query(value = "SELECT a.id, a.user.userId, a.description, a.transaction_date FROM ArchivedTransactionJPAEntity a " +
+            "WHERE a.id > :afterId ORDER BY a.id")
+    List<Object[]> findSearchRowsAfter(Long afterId, Pageable pageable);
+
+    @Query(value = "SELECT COALESCE(MAX(a.id), 0) FROM ArchivedTransactionJPAEntity a")
+    long findMaxId();
+
+    @Query(value = "SELECT a.transaction_date, a.amount, a.description FROM ArchivedTransactionJPAEntity a " +
+            "WHERE a.user.userId = :userId")
+    List<Object[]> findFingerprintRowsByUserId(Long userId);
+
+    @Query(value = "SELECT a.description FROM ArchivedTransactionJPAEntity a " +
+            "WHERE a.user.userId = :userId AND a.transaction_date = :date AND a.amount = :amount")
+    List<String> findDescriptionsByUserDateAndAmount(Long userId, LocalDate date, BigDecimal amount);
+
+}
@@ -0,0 +1,34 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.repository;
+
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.DailyBalanceJPAEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyBalanceRepository extends JpaRepository<DailyBalanceJPAEntity, Long> {
+
+    @Query("SELECT d FROM DailyBalanceJPAEntity d WHERE d.userId = :userId ORDER BY d.day")
+    List<DailyBalanceJPAEntity> findByUserIdOrderByDay(Long userId);
+
+    @Query("SELECT COUNT(d) > 0 FROM DailyBalanceJPAEntity d WHERE d.userId = :userId")
+    boolean existsByUserId(Long userId);
+
+    /**
+     * Inserta la fila del día con initial o, si ya existe (también si otra
+     * transacción la acaba de insertar), le suma increment.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO daily_balance (user_id, day, delta) VALUES (:userId, :day, :initial) "
+            + "ON DUPLICATE KEY UPDATE delta = delta + :increment", nativeQuery = true)
+    int upsertDelta(Long userId, LocalDate day, BigDecimal initial, BigDecimal increment);
+
+    @Modifying
+    @Query("DELETE FROM DailyBalanceJPAEntity d WHERE d.userId = :userId")
+    void deleteAllByUserId(Long userId);
+}
@@ -0,0 +1,26 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.repository;
+
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.IdempotencyKeyJPAEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyJPAEntity, Long> {
+
+    Optional<IdempotencyKeyJPAEntity> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    // Libera una clave caducada antes de reutilizarla
+    @Modifying
+    @Query(value = "DELETE FROM IdempotencyKeyJPAEntity k WHERE k.userId = :userId " +
+            "AND k.idempotencyKey = :idempotencyKey AND k.createdAt < :expiredBefore")
+    int deleteExpired(Long userId, String idempotencyKey, LocalDateTime expiredBefore);
+
+    @Modifying
+    @Query(value = "DELETE FROM IdempotencyKeyJPAEntity k WHERE k.createdAt < :expiredBefore")
+    int deleteAllExpired(LocalDateTime expiredBefore);
+}
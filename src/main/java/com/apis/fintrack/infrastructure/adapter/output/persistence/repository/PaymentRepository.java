@@ -7,6 +7,7 @@ import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.Subscr
 import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.UserJPAEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,13 +15,19 @@ import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
+/**
+ * Every finder fetches the payment's subscription in the same statement:
+ * PaymentPersistenceMapper reads its price.
+ */
 @Repository
 public interface PaymentRepository extends JpaRepository<PaymentJPAEntity, Long> {
 
     // Buscar pagos por usuario (costumer)
+    @EntityGraph(attributePaths = "subscription")
     Page<PaymentJPAEntity> findByCostumer(UserJPAEntity costumer, Pageable pageable);
 
     // Find payments belonging to a subscription
+    @EntityGraph(attributePaths = "subscription")
     Page<PaymentJPAEntity> findBySubscription(SubscriptionJPAEntity subscription, Pageable pageable);
 
     /**
@@ -29,6 +36,7 @@ public interface PaymentRepository extends JpaRepository<PaymentJPAEntity, Long>
      *
      * @return list of pending payments
      */
+    @EntityGraph(attributePaths = "subscription")
     @Query("SELECT p FROM PaymentJPAEntity p WHERE p.status = :status")
     List<PaymentJPAEntity> findByStatus(@Param("status") PaymentStatus status);
 
@@ -40,6 +48,7 @@ public interface PaymentRepository extends JpaRepository<PaymentJPAEntity, Long>
      * @param pageable pagination information
      * @return page of payments with the specified status
      */
+    @EntityGraph(attributePaths = "subscription")
     @Query("SELECT p FROM PaymentJPAEntity p WHERE p.status = :status")
     Page<PaymentJPAEntity> findByStatus(@Param("status") PaymentStatus status, Pageable pageable);
 
@@ -51,6 +60,7 @@ public interface PaymentRepository extends JpaRepository<PaymentJPAEntity, Long>
      * @param status the payment status to filter by
      * @return list of pending payments for the user
      */
+    @EntityGraph(attributePaths = "subscription")
     @Query("SELECT p FROM PaymentJPAEntity p WHERE p.costumer = :costumer AND p.status = :status")
     List<PaymentJPAEntity> findByCostumerAndStatus(
             @Param("costumer") UserJPAEntity costumer,
@@ -65,6 +75,7 @@ public interface PaymentRepository extends JpaRepository<PaymentJPAEntity, Long>
      * @param status the payment status to filter by
      * @return list of pending payments for the subscription
      */
+    @EntityGraph(attributePaths = "subscription")
     @Query("SELECT p FROM PaymentJPAEntity p WHERE p.subscription = :subscription AND p.status = :status")
     List<PaymentJPAEntity> findBySubscriptionAndStatus(
             @Param("subscription") SubscriptionJPAEntity subscription,
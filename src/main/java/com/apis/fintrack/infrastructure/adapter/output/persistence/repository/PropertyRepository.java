@@ -2,15 +2,26 @@ package com.apis.fintrack.infrastructure.adapter.output.persistence.repository;
 
 import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.PropertyJPAEntity;
 import com.apis.fintrack.infrastructure.security.model.PropertyEnum;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PropertyRepository extends JpaRepository<PropertyJPAEntity, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query(value = "SELECT p from PropertyJPAEntity p WHERE p.property=?1")
     Optional<PropertyJPAEntity> findByPropertyName(PropertyEnum property);
+
+    /**
+     * Todas las asignaciones rol-permiso como pares (RoleType, PropertyEnum).
+     */
+    @Query(value = "SELECT r.roleName, p.property FROM PropertyJPAEntity p JOIN p.rolesWithProperty r")
+    List<Object[]> findRolePermissionPairs();
 }
 
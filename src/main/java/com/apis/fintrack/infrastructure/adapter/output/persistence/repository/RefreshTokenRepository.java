@@ -0,0 +1,34 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.repository;
+
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.RefreshTokenJPAEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshTokenJPAEntity, Long> {
+
+    Optional<RefreshTokenJPAEntity> findByTokenHash(String tokenHash);
+
+    /**
+     * Marca el token como usado solo si nadie lo había usado antes.
+     *
+     * @return 1 si esta llamada lo ha usado, 0 si ya estaba usado o no existe
+     */
+    @Modifying
+    @Query(value = "UPDATE RefreshTokenJPAEntity r SET r.usedAt = :usedAt " +
+            "WHERE r.tokenHash = :tokenHash AND r.usedAt IS NULL")
+    int markUsed(String tokenHash, LocalDateTime usedAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM RefreshTokenJPAEntity r WHERE r.familyId = :familyId")
+    int deleteByFamilyId(String familyId);
+
+    @Modifying
+    @Query(value = "DELETE FROM RefreshTokenJPAEntity r WHERE r.expiresAt <= :now")
+    int deleteAllExpired(LocalDateTime now);
+}
@@ -0,0 +1,26 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.repository;
+
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.RevokedTokenJPAEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedTokenJPAEntity, String> {
+
+    // Solo los jti aún no caducados; los demás ya los rechaza la expiración del token
+    @Query(value = "SELECT r.jti FROM RevokedTokenJPAEntity r WHERE r.expiresAt > :now")
+    List<String> findActiveJtis(LocalDateTime now);
+
+    // Revocaciones hechas desde since (también en otras instancias) y aún no caducadas
+    @Query(value = "SELECT r.jti FROM RevokedTokenJPAEntity r WHERE r.revokedAt > :since AND r.expiresAt > :now")
+    List<String> findActiveJtisRevokedAfter(LocalDateTime since, LocalDateTime now);
+
+    @Modifying
+    @Query(value = "DELETE FROM RevokedTokenJPAEntity r WHERE r.expiresAt <= :now")
+    int deleteAllExpired(LocalDateTime now);
+}
@@ -2,14 +2,22 @@ package com.apis.fintrack.infrastructure.adapter.output.persistence.repository;
 
 import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.RoleJPAEntity;
 import com.apis.fintrack.domain.user.model.RoleType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface RoleRepository extends JpaRepository<RoleJPAEntity, Long> {
+    /**
+     * Resultado en la caché de consultas: cada registro lo pide y los roles no
+     * cambian. Se invalida solo si Hibernate escribe en la tabla de roles.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query(value = "Select r from RoleJPAEntity r WHERE r.roleName=?1")
     Optional<RoleJPAEntity> findByRoleName(RoleType role);
 
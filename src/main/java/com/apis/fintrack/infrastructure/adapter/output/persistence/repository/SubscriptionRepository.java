@@ -4,6 +4,7 @@ import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.Subscr
 import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.UserJPAEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -12,11 +13,19 @@ import java.util.Optional;
 @Repository
 public interface SubscriptionRepository extends JpaRepository<SubscriptionJPAEntity, Long> {
 
+    /**
+     * Single-subscription lookups fetch the payments in the same statement;
+     * paged ones rely on the batch size of SubscriptionJPAEntity.payments
+     * (a collection fetch join would paginate in memory).
+     */
+    @EntityGraph(attributePaths = "payments")
     Optional<SubscriptionJPAEntity> findByCostumer(UserJPAEntity costumer);
 
-    Page<SubscriptionJPAEntity> findByIsActiveTrue(Pageable pageable);
-
+    @Override
+    @EntityGraph(attributePaths = "payments")
+    Optional<SubscriptionJPAEntity> findById(Long id);
 
+    Page<SubscriptionJPAEntity> findByIsActiveTrue(Pageable pageable);
 
 }
 
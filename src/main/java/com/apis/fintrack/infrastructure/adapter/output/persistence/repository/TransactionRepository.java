@@ -5,14 +5,17 @@ import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.Transa
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<TransactionJPAEntity, Long> {
+public interface TransactionRepository extends JpaRepository<TransactionJPAEntity, Long>,
+        JpaSpecificationExecutor<TransactionJPAEntity> {
 
     @Query(value = "SELECT t from TransactionJPAEntity t")
     Page<TransactionJPAEntity> shoeAllTransactions(Pageable pageable);
@@ -42,4 +45,31 @@ public interface TransactionRepository extends JpaRepository<TransactionJPAEntit
     // Buscar transacciones por userId
     Page<TransactionJPAEntity> findByUser_UserId(Long userId, Pageable pageable);
 
+    // Neto diario de un usuario: [transaction_date, SUM(amount)]
+    @Query(value = "SELECT t.transaction_date, SUM(t.amount) FROM TransactionJPAEntity t " +
+            "WHERE t.user.userId = :userId GROUP BY t.transaction_date")
+    List<Object[]> sumAmountByDayForUser(Long userId);
+
+    // Filas para reconstruir el índice de búsqueda: [id, userId, description, transaction_date]
+    @Query(value = "SELECT t.id, t.user.userId, t.description, t.transaction_date FROM TransactionJPAEntity t " +
+            "WHERE t.id > :afterId ORDER BY t.id")
+    List<Object[]> findSearchRowsAfter(Long afterId, Pageable pageable);
+
+    @Query(value = "SELECT COALESCE(MAX(t.id), 0) FROM TransactionJPAEntity t")
+    long findMaxId();
+
+    // Historial compacto de un usuario (filtro de duplicados, series recurrentes): [transaction_date, amount, description]
+    @Query(value = "SELECT t.transaction_date, t.amount, t.description FROM TransactionJPAEntity t " +
+            "WHERE t.user.userId = :userId")
+    List<Object[]> findFingerprintRowsByUserId(Long userId);
+
+    // Confirmación exacta de un posible duplicado (cubierta por el índice userId, transaction_date)
+    @Query(value = "SELECT t.description FROM TransactionJPAEntity t " +
+            "WHERE t.user.userId = :userId AND t.transaction_date = :date AND t.amount = :amount")
+    List<String> findDescriptionsByUserDateAndAmount(Long userId, LocalDate date, BigDecimal amount);
+
+    // Siguiente lote a archivar (recorre el índice por id, no la tabla entera)
+    @Query(value = "SELECT t.id FROM TransactionJPAEntity t WHERE t.transaction_date < :cutoff ORDER BY t.id")
+    List<Long> findIdsDatedBefore(LocalDate cutoff, Pageable pageable);
+
 }
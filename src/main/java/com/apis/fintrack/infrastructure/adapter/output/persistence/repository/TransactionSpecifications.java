@@ -0,0 +1,71 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.repository;
+
+import com.apis.fintrack.domain.transaction.model.TransactionFilter;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Construye la consulta dinámica del filtro combinado de transacciones.
+ *
+ * Solo se añaden los predicados de los criterios no nulos. La consulta queda
+ * cubierta por el índice (userId, transaction_date, id): igualdad por usuario,
+ * rango por fecha y el cursor (fecha, id) en el mismo orden que el índice.
+ *
+ * Es genérica para servir tanto a TransactionJPAEntity como a
+ * ArchivedTransactionJPAEntity, que comparten nombres de atributo.
+ */
+public final class TransactionSpecifications {
+
+    private TransactionSpecifications() {
+    }
+
+    public static <T> Specification<T> matching(TransactionFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            Path<LocalDate> date = root.get("transaction_date");
+            Path<Long> id = root.get("id");
+            Path<BigDecimal> amount = root.get("amount");
+
+            predicates.add(cb.equal(root.get("user").get("userId"), filter.userId()));
+            if (filter.categories() != null && !filter.categories().isEmpty()) {
+                predicates.add(root.get("category").in(filter.categories()));
+            }
+            if (filter.startDate() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(date, filter.startDate()));
+            }
+            if (filter.endDate() != null) {
+                predicates.add(cb.lessThanOrEqualTo(date, filter.endDate()));
+            }
+            if (filter.minAmount() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(amount, filter.minAmount()));
+            }
+            if (filter.maxAmount() != null) {
+                predicates.add(cb.lessThanOrEqualTo(amount, filter.maxAmount()));
+            }
+            if (filter.isIncome() != null) {
+                predicates.add(cb.equal(root.get("isIncome"), filter.isIncome()));
+            }
+            if (filter.descriptionPrefix() != null && !filter.descriptionPrefix().isBlank()) {
+                // LIKE 'prefijo%' sin funciones sobre la columna para que pueda usar índice
+                predicates.add(cb.like(root.<String>get("description"), escapeLike(filter.descriptionPrefix()) + "%", '\\'));
+            }
+            if (filter.afterDate() != null && filter.afterId() != null) {
+                predicates.add(cb.or(
+                    cb.lessThan(date, filter.afterDate()),
+                    cb.and(cb.equal(date, filter.afterDate()), cb.lessThan(id, filter.afterId()))
+                ));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
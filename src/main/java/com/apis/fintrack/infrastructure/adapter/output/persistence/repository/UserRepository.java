@@ -4,31 +4,99 @@ import com.apis.fintrack.domain.user.model.RoleType;
 import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.UserJPAEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 @Repository public interface UserRepository extends JpaRepository<UserJPAEntity,Long> {
 
 
+    @EntityGraph(UserJPAEntity.FOR_MAPPING)
     @Query(value = "Select u from UserJPAEntity u")
     Page<UserJPAEntity> showAll(Pageable pageable);
 
+    @EntityGraph(UserJPAEntity.FOR_MAPPING)
     @Query(value = "Select u from UserJPAEntity u WHERE u.userId=?1")
     Optional<UserJPAEntity> searchById(Long id);
 
+    @EntityGraph(UserJPAEntity.FOR_MAPPING)
     @Query(value = "Select u from UserJPAEntity u WHERE u.name=?1 and u.surname=?2")
     Optional<UserJPAEntity> findByUsernameAndSurname(String username, String surname);
 
+    @EntityGraph(UserJPAEntity.FOR_MAPPING)
     @Query(value = "Select u from UserJPAEntity u WHERE u.birthDate BETWEEN :startDate  and :endDate")
     Page<UserJPAEntity> findByDateBetween(LocalDate startDate, LocalDate endDate, Pageable pageable);
 
+    @EntityGraph(UserJPAEntity.FOR_MAPPING)
     @Query(value = "Select u from UserJPAEntity u WHERE u.role.roleName=?1")
     Page<UserJPAEntity> findByRole(RoleType roleName, Pageable pageable);
 
+    /**
+     * Usuario con su rol en una sola consulta; también construye el
+     * UserDetails sin transacción abierta.
+     */
+    @EntityGraph(UserJPAEntity.FOR_MAPPING)
     @Query(value = "Select u from UserJPAEntity u WHERE u.email=?1")
     Optional<UserJPAEntity> findByEmail(String email);
 
+    /**
+     * Comprueba si el email está en uso leyendo solo el índice único de email,
+     * sin cargar la entidad.
+     */
+    boolean existsByEmail(String email);
+
+    /**
+     * Id y email de los usuarios con id mayor que el dado, para cargar el
+     * filtro de emails de forma incremental.
+     */
+    @Query(value = "SELECT u.userId, u.email FROM UserJPAEntity u WHERE u.userId > ?1")
+    List<Object[]> findEmailsAfterId(Long afterId);
+
+    /**
+     * Incremento atómico de fondos en una única sentencia UPDATE.
+     *
+     * @return número de filas afectadas (0 si el usuario no existe)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = "UPDATE UserJPAEntity u SET u.availableFunds = u.availableFunds + :amount WHERE u.userId = :userId")
+    int incrementAvailableFunds(Long userId, BigDecimal amount);
+
+    /**
+     * Retirada atómica condicionada a que haya saldo suficiente.
+     *
+     * @return número de filas afectadas (0 si el usuario no existe o no tiene fondos suficientes)
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = "UPDATE UserJPAEntity u SET u.availableFunds = u.availableFunds - :amount " +
+            "WHERE u.userId = :userId AND u.availableFunds >= :amount")
+    int decrementAvailableFundsIfSufficient(Long userId, BigDecimal amount);
+
+    @Query(value = "SELECT u.tokenVersion FROM UserJPAEntity u WHERE u.userId = :userId")
+    Optional<Integer> findTokenVersion(Long userId);
+
+    /**
+     * Incrementa la versión de tokens del usuario, revocando los emitidos hasta ahora.
+     *
+     * @return número de filas afectadas (0 si el usuario no existe)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE UserJPAEntity u SET u.tokenVersion = u.tokenVersion + 1 WHERE u.userId = :userId")
+    int incrementTokenVersion(Long userId);
+
+    /**
+     * Sustituye el hash de la contraseña sin tocar la versión de tokens: se usa
+     * para re-hashear la misma contraseña con parámetros nuevos, no para cambiarla.
+     *
+     * @return número de filas afectadas (0 si el usuario no existe)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE UserJPAEntity u SET u.password = :passwordHash WHERE u.email = :email")
+    int updatePasswordHash(String email, String passwordHash);
+
 }
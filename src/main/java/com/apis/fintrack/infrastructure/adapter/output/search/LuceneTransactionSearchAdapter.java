@@ -0,0 +1,156 @@
+package com.apis.fintrack.infrastructure.adapter.output.search;
+
+import com.apis.fintrack.domain.transaction.model.Transaction;
+import com.apis.fintrack.domain.transaction.port.output.TransactionSearchPort;
+import com.apis.fintrack.domain.user.model.UserId;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.AfterCommit;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.ArchivedTransactionRepository;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.TransactionRepository;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * Adaptador que implementa TransactionSearchPort con un índice Lucene embebido
+ * en disco local (fintrack.search.index-path).
+ *
+ * Los cambios se aplican al índice solo tras el commit de la transacción de
+ * base de datos y se hacen visibles en tiempo casi real; el índice se confirma
+ * en disco cada fintrack.search.commit-interval-ms y al cerrar la aplicación.
+ *
+ * Al arrancar el índice se reconstruye por lotes desde la base de datos salvo
+ * que su último commit sea de un cierre limpio y coincidan con la base de datos
+ * tanto el número de documentos como el id más alto (la marca de agua). Tras
+ * un cierre abrupto se reconstruye siempre: los cambios posteriores al último
+ * commit periódico (altas, bajas o descripciones editadas) pueden haberse
+ * perdido aunque los totales cuadren. Las transacciones archivadas siguen
+ * indexadas: el archivado no cambia sus IDs.
+ */
+@Component
+public class LuceneTransactionSearchAdapter implements TransactionSearchPort {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LuceneTransactionSearchAdapter.class);
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+
+    private final TransactionRepository transactionRepository;
+    private final ArchivedTransactionRepository archivedTransactionRepository;
+    private final TransactionSearchIndex index;
+
+    public LuceneTransactionSearchAdapter(TransactionRepository transactionRepository,
+                                          ArchivedTransactionRepository archivedTransactionRepository,
+                                          @Value("${fintrack.search.index-path:data/transaction-index}") String indexPath)
+            throws IOException {
+        this.transactionRepository = transactionRepository;
+        this.archivedTransactionRepository = archivedTransactionRepository;
+        this.index = new TransactionSearchIndex(FSDirectory.open(Path.of(indexPath)));
+    }
+
+    @Override
+    public void index(Transaction transaction) {
+        long id = transaction.getId().getValue();
+        long userId = transaction.getUserId().getValue();
+        String description = transaction.getDescription().getValue();
+        LocalDate date = transaction.getTransactionDate().getValue();
+        indexAfterCommit(() -> index.upsert(id, userId, description, date));
+    }
+
+    @Override
+    public void remove(Long transactionId) {
+        indexAfterCommit(() -> index.delete(transactionId));
+    }
+
+    @Override
+    public void removeAllByUserId(Long userId) {
+        indexAfterCommit(() -> index.deleteAllOfUser(userId));
+    }
+
+    @Override
+    public List<Long> search(UserId userId, String text, int limit) {
+        try {
+            return index.search(userId.getValue(), text, limit);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Transaction search failed", e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfOutOfSync() throws IOException {
+        boolean cleanShutdown = index.lastCommitWasCleanShutdown();
+        long expectedCount = transactionRepository.count() + archivedTransactionRepository.count();
+        long expectedMaxId = Math.max(transactionRepository.findMaxId(), archivedTransactionRepository.findMaxId());
+        int indexedCount = index.documentCount();
+        long indexedMaxId = index.maxId();
+        if (!cleanShutdown || indexedCount != expectedCount || indexedMaxId != expectedMaxId) {
+            LOGGER.info("Rebuilding transaction search index (clean shutdown: {}, {} documents up to id {}, "
+                    + "{} transactions up to id {})", cleanShutdown, indexedCount, indexedMaxId, expectedCount, expectedMaxId);
+            index.deleteAll();
+            indexAll(afterId -> transactionRepository.findSearchRowsAfter(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE)));
+            indexAll(afterId -> archivedTransactionRepository.findSearchRowsAfter(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE)));
+            index.refresh();
+            LOGGER.info("Transaction search index rebuilt");
+        }
+        // Hasta el próximo cierre limpio, el índice en disco puede quedarse atrás
+        index.commit(false);
+    }
+
+    @Scheduled(fixedDelayString = "${fintrack.search.commit-interval-ms:60000}")
+    public void commitPending() {
+        if (!index.hasUncommittedChanges()) {
+            return;
+        }
+        try {
+            index.commit(false);
+        } catch (IOException e) {
+            LOGGER.error("Failed to commit transaction search index: {}", e.getMessage(), e);
+        }
+    }
+
+    private void indexAll(LongFunction<List<Object[]>> rowsAfter) throws IOException {
+        long afterId = 0L;
+        List<Object[]> rows;
+        do {
+            rows = rowsAfter.apply(afterId);
+            for (Object[] row : rows) {
+                afterId = (Long) row[0];
+                index.upsert(afterId, (Long) row[1], (String) row[2], (LocalDate) row[3]);
+            }
+        } while (rows.size() == REBUILD_BATCH_SIZE);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        index.commit(true);
+        index.close();
+    }
+
+    private void indexAfterCommit(IndexOperation operation) {
+        AfterCommit.run(() -> {
+            try {
+                operation.apply();
+                index.refresh();
+            } catch (IOException e) {
+                // La base de datos ya confirmó: el índice se corrige en la próxima reconstrucción
+                LOGGER.error("Failed to update transaction search index: {}", e.getMessage(), e);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface IndexOperation {
+        void apply() throws IOException;
+    }
+}
@@ -0,0 +1,235 @@
+package com.apis.fintrack.infrastructure.adapter.output.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Embedded Lucene inverted index over transaction descriptions.
+ *
+ * One document per transaction: the id (stored), the owner id (exact-match
+ * filter), the analysed description and the date as doc values for sorting.
+ * Descriptions are lower-cased and accent-folded so "cafeteria" matches
+ * "Cafetería". Only ids are returned; the caller loads the rows by id.
+ *
+ * Each commit records whether it was written on a clean shutdown, so a
+ * restart can tell an index that saw every change from one that may have
+ * lost the changes applied after its last commit.
+ */
+public final class TransactionSearchIndex implements Closeable {
+
+    static final String ID = "id";
+    static final String USER_ID = "userId";
+    static final String DESCRIPTION = "description";
+    static final String DATE = "date";
+    static final String ID_ORDER = "idOrder";
+    static final String CLEAN_SHUTDOWN = "cleanShutdown";
+
+    /** Shorter terms are matched by prefix only; fuzzy matching on them is mostly noise. */
+    private static final int FUZZY_MIN_LENGTH = 4;
+    private static final Sort NEWEST_FIRST = new Sort(new SortField(DATE, SortField.Type.LONG, true));
+    private static final Sort HIGHEST_ID_FIRST = new Sort(new SortField(ID_ORDER, SortField.Type.LONG, true));
+
+    private final Analyzer analyzer;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public TransactionSearchIndex(Directory directory) throws IOException {
+        this.analyzer = descriptionAnalyzer();
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        this.writer = new IndexWriter(directory, config);
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    /**
+     * Adds the transaction or replaces its previous version.
+     */
+    public void upsert(long id, long userId, String description, LocalDate date) throws IOException {
+        Document document = new Document();
+        document.add(new StringField(ID, Long.toString(id), Field.Store.YES));
+        document.add(new StringField(USER_ID, Long.toString(userId), Field.Store.NO));
+        document.add(new TextField(DESCRIPTION, description, Field.Store.NO));
+        document.add(new NumericDocValuesField(DATE, date.toEpochDay()));
+        document.add(new NumericDocValuesField(ID_ORDER, id));
+        writer.updateDocument(new Term(ID, Long.toString(id)), document);
+    }
+
+    public void delete(long id) throws IOException {
+        writer.deleteDocuments(new Term(ID, Long.toString(id)));
+    }
+
+    public void deleteAllOfUser(long userId) throws IOException {
+        writer.deleteDocuments(new Term(USER_ID, Long.toString(userId)));
+    }
+
+    public void deleteAll() throws IOException {
+        writer.deleteAll();
+    }
+
+    /**
+     * Makes pending changes visible to searches (near-real-time, no fsync).
+     */
+    public void refresh() throws IOException {
+        searcherManager.maybeRefresh();
+    }
+
+    /**
+     * Makes pending changes durable on disk. cleanShutdown is true only for
+     * the final commit before closing.
+     */
+    public void commit(boolean cleanShutdown) throws IOException {
+        writer.setLiveCommitData(Map.of(CLEAN_SHUTDOWN, Boolean.toString(cleanShutdown)).entrySet());
+        writer.commit();
+    }
+
+    public boolean hasUncommittedChanges() {
+        return writer.hasUncommittedChanges();
+    }
+
+    /**
+     * Whether the last commit on disk was written on a clean shutdown. False
+     * for a new index, and after a crash or a kill.
+     */
+    public boolean lastCommitWasCleanShutdown() {
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData == null) {
+            return false;
+        }
+        for (Map.Entry<String, String> entry : commitData) {
+            if (CLEAN_SHUTDOWN.equals(entry.getKey())) {
+                return Boolean.parseBoolean(entry.getValue());
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Highest transaction id in the index, or 0 if it is empty.
+     */
+    public long maxId() throws IOException {
+        searcherManager.maybeRefreshBlocking();
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TopDocs top = searcher.search(new MatchAllDocsQuery(), 1, HIGHEST_ID_FIRST);
+            if (top.scoreDocs.length == 0) {
+                return 0L;
+            }
+            return Long.parseLong(searcher.storedFields().document(top.scoreDocs[0].doc).get(ID));
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    public int documentCount() throws IOException {
+        searcherManager.maybeRefreshBlocking();
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            return searcher.getIndexReader().numDocs();
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     * Ids of the user's transactions whose description matches every term of
+     * the text, each term by prefix or within a small edit distance, newest
+     * first.
+     */
+    public List<Long> search(long userId, String text, int limit) throws IOException {
+        List<String> terms = analyze(text);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(USER_ID, Long.toString(userId))), BooleanClause.Occur.FILTER);
+        for (String term : terms) {
+            Term descriptionTerm = new Term(DESCRIPTION, term);
+            BooleanQuery.Builder termQuery = new BooleanQuery.Builder()
+                    .add(new PrefixQuery(descriptionTerm), BooleanClause.Occur.SHOULD);
+            if (term.length() >= FUZZY_MIN_LENGTH) {
+                int maxEdits = term.length() > 6 ? 2 : 1;
+                termQuery.add(new FuzzyQuery(descriptionTerm, maxEdits), BooleanClause.Occur.SHOULD);
+            }
+            query.add(termQuery.build(), BooleanClause.Occur.MUST);
+        }
+
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TopDocs hits = searcher.search(query.build(), limit, NEWEST_FIRST);
+            StoredFields storedFields = searcher.storedFields();
+            List<Long> ids = new ArrayList<>(hits.scoreDocs.length);
+            for (ScoreDoc hit : hits.scoreDocs) {
+                ids.add(Long.parseLong(storedFields.document(hit.doc).get(ID)));
+            }
+            return ids;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        analyzer.close();
+    }
+
+    private List<String> analyze(String text) throws IOException {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(DESCRIPTION, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        }
+        return terms;
+    }
+
+    private static Analyzer descriptionAnalyzer() {
+        return new Analyzer() {
+            @Override
+            protected TokenStreamComponents createComponents(String fieldName) {
+                Tokenizer tokenizer = new StandardTokenizer();
+                TokenStream stream = new ASCIIFoldingFilter(new LowerCaseFilter(tokenizer));
+                return new TokenStreamComponents(tokenizer, stream);
+            }
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.apis.fintrack.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Reloj compartido por los componentes que calculan fechas de negocio (corte
+ * y frontera del archivado), para que todos usen la misma zona horaria y los
+ * tests puedan fijarlo.
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
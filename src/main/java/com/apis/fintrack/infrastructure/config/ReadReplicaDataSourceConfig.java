@@ -0,0 +1,83 @@
+package com.apis.fintrack.infrastructure.config;
+
+import com.apis.fintrack.infrastructure.adapter.output.persistence.model.ExpiringLruCache;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Separación de lecturas y escrituras entre primario y réplica.
+ *
+ * Solo se activa si fintrack.datasource.replica.url está definida; si no, se
+ * mantiene el DataSource único de spring.datasource. El primario se configura
+ * con spring.datasource.*; la réplica usa las mismas credenciales salvo que se
+ * indiquen otras, y su pool abre las conexiones en modo solo lectura.
+ *
+ * Ver ReplicaRoutingDataSource para las reglas de enrutado.
+ */
+@Configuration
+@ConditionalOnProperty(name = "fintrack.datasource.replica.url")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            DataSourceProperties primaryProperties,
+            MeterRegistry meterRegistry,
+            @Value("${fintrack.datasource.replica.url}") String url,
+            @Value("${fintrack.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${fintrack.datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${fintrack.datasource.replica.pool-size:10}") int poolSize,
+            @Value("${fintrack.datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+            @Value("${fintrack.datasource.replica.lag-column:Seconds_Behind_Source}") String lagColumn,
+            @Value("${fintrack.datasource.replica.max-lag-seconds:2}") long maxLagSeconds) {
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(primaryProperties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+        replica.setMaximumPoolSize(poolSize);
+        replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new ReplicaLagMonitor(replica, lagQuery, lagColumn, maxLagSeconds, meterRegistry);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            DataSourceProperties primaryProperties,
+            MeterRegistry meterRegistry,
+            ReplicaLagMonitor replicaLagMonitor,
+            @Value("${fintrack.datasource.replica.sticky-seconds:10}") long stickySeconds,
+            @Value("${fintrack.datasource.replica.sticky-max-users:100000}") int stickyMaxUsers) {
+        HikariDataSource primary = primaryProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new ReplicaRoutingDataSource(primary, replicaLagMonitor.replica(), replicaLagMonitor,
+                new ExpiringLruCache<>(stickyMaxUsers, Duration.ofSeconds(stickySeconds)));
+    }
+
+    /**
+     * El DataSource que usan JPA y las transacciones: la conexión real se
+     * elige en la primera sentencia, ya con el modo de la transacción fijado.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,82 @@
+package com.apis.fintrack.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.OptionalLong;
+
+/**
+ * Vigila el retraso de la réplica de lectura.
+ *
+ * Cada comprobación ejecuta lagQuery en la réplica y lee el retraso, en
+ * segundos, de la columna lagColumn (por defecto SHOW REPLICA STATUS y
+ * Seconds_Behind_Source de MySQL). La réplica solo se usa si el retraso medido
+ * no supera maxLagSeconds; si la consulta falla, no devuelve filas o el valor
+ * es nulo (replicación parada), las lecturas vuelven al primario. Hasta la
+ * primera comprobación la réplica no se usa.
+ *
+ * El último retraso medido se publica en datasource.replica.lag.seconds
+ * (-1 si se desconoce).
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final long maxLagSeconds;
+
+    private volatile long lastLagSeconds = -1;
+    private volatile boolean replicaUsable;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, String lagColumn,
+                             long maxLagSeconds, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maxLagSeconds = maxLagSeconds;
+        meterRegistry.gauge("datasource.replica.lag.seconds", this, monitor -> monitor.lastLagSeconds);
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    DataSource replica() {
+        return replica;
+    }
+
+    @Scheduled(fixedDelayString = "${fintrack.datasource.replica.lag-check-interval-ms:5000}")
+    public void check() {
+        OptionalLong lag = measureLag();
+        lastLagSeconds = lag.orElse(-1);
+        boolean usable = lag.isPresent() && lag.getAsLong() <= maxLagSeconds;
+        if (usable != replicaUsable) {
+            LOGGER.info("Read replica {} (lag {}s)", usable ? "in use" : "bypassed", lastLagSeconds);
+        }
+        replicaUsable = usable;
+    }
+
+    private OptionalLong measureLag() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            if (!rs.next()) {
+                return OptionalLong.empty();
+            }
+            long lag = rs.getLong(lagColumn);
+            return rs.wasNull() ? OptionalLong.empty() : OptionalLong.of(lag);
+        } catch (SQLException e) {
+            LOGGER.warn("Could not read replica lag: {}", e.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+}
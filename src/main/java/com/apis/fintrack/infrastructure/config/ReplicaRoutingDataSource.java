@@ -0,0 +1,93 @@
+package com.apis.fintrack.infrastructure.config;
+
+import com.apis.fintrack.infrastructure.adapter.output.persistence.AfterCommit;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.model.ExpiringLruCache;
+import com.apis.fintrack.infrastructure.security.model.FintrackUserDetails;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Envía las transacciones de solo lectura a la réplica y el resto al primario.
+ *
+ * Debe usarse detrás de un LazyConnectionDataSourceProxy: la conexión real se
+ * pide en la primera sentencia, cuando la transacción ya está marcada como de
+ * solo lectura. Sin transacción se usa el primario.
+ *
+ * Una lectura va al primario aunque sea de solo lectura si:
+ * - la réplica va retrasada o no responde (ReplicaLagMonitor), o
+ * - el usuario autenticado ha confirmado una escritura hace poco: durante esa
+ *   ventana la réplica podría no tener todavía sus cambios (read-your-writes).
+ *
+ * La ventana debe superar el retraso máximo tolerado más el intervalo de
+ * comprobación del retraso. Toda transacción de escritura con usuario cuenta
+ * como escritura, haya modificado filas o no.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    enum Route { PRIMARY, REPLICA }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final ExpiringLruCache<Long, Boolean> recentWriters;
+    private final Supplier<Long> currentUserId;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                    ExpiringLruCache<Long, Boolean> recentWriters) {
+        this(primary, replica, lagMonitor, recentWriters, ReplicaRoutingDataSource::authenticatedUserId);
+    }
+
+    ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                             ExpiringLruCache<Long, Boolean> recentWriters, Supplier<Long> currentUserId) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        this.recentWriters = recentWriters;
+        this.currentUserId = currentUserId;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Route.PRIMARY;
+        }
+        Long userId = currentUserId.get();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userId != null) {
+                AfterCommit.run(() -> recentWriters.put(userId, Boolean.TRUE));
+            }
+            return Route.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable() || (userId != null && recentWriters.get(userId) != null)) {
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (replica instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static Long authenticatedUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof FintrackUserDetails principal) {
+            return principal.getUserId();
+        }
+        return null;
+    }
+}
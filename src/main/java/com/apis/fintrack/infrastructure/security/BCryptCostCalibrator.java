@@ -0,0 +1,62 @@
+package com.apis.fintrack.infrastructure.security;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Picks the BCrypt cost for this host from a short benchmark at startup.
+ *
+ * Each cost step doubles the work, so it is enough to time a few hashes at
+ * minCost and keep doubling while the estimate stays within the target
+ * verification latency. The result is clamped to [minCost, maxCost]: a slow
+ * host never goes below minCost, and a fast one never makes a login take
+ * seconds.
+ */
+public final class BCryptCostCalibrator {
+
+    private static final int SAMPLES = 3;
+
+    private final Duration targetLatency;
+    private final int minCost;
+    private final int maxCost;
+
+    public BCryptCostCalibrator(Duration targetLatency, int minCost, int maxCost) {
+        if (minCost < 4 || maxCost > 31 || minCost > maxCost) {
+            throw new IllegalArgumentException("Invalid BCrypt cost range " + minCost + ".." + maxCost);
+        }
+        this.targetLatency = targetLatency;
+        this.minCost = minCost;
+        this.maxCost = maxCost;
+    }
+
+    public int calibrate() {
+        // First hash warms up the JIT and is discarded
+        measure(minCost);
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = measure(minCost);
+        }
+        Arrays.sort(samples);
+        return costFor(Duration.ofNanos(samples[SAMPLES / 2]));
+    }
+
+    int costFor(Duration measuredAtMinCost) {
+        long estimate = Math.max(1, measuredAtMinCost.toNanos());
+        long target = targetLatency.toNanos();
+        int cost = minCost;
+        while (cost < maxCost && estimate * 2 <= target) {
+            estimate *= 2;
+            cost++;
+        }
+        return cost;
+    }
+
+    private static long measure(int cost) {
+        String salt = BCrypt.gensalt(cost);
+        long start = System.nanoTime();
+        BCrypt.hashpw("calibration-password", salt);
+        return System.nanoTime() - start;
+    }
+}
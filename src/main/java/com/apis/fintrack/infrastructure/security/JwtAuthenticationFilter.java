@@ -1,8 +1,8 @@
 package com.apis.fintrack.infrastructure.security;
 
-import com.apis.fintrack.application.auth.port.output.AuthenticationPort;
+import com.apis.fintrack.application.auth.dto.VerifiedToken;
 import com.apis.fintrack.application.auth.port.output.TokenPort;
-import com.apis.fintrack.application.auth.dto.AuthenticatedUser;
+import com.apis.fintrack.infrastructure.security.model.FintrackUserDetails;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,13 +15,11 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -30,7 +28,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
     private final TokenPort tokenPort;
-    private final AuthenticationPort authenticationPort;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final TokenRevocationStore tokenRevocationStore;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
@@ -76,43 +76,45 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        Optional<String> subject = tokenPort.validateAndExtractSubject(jwt);
+        Optional<FintrackUserDetails> principal = verifiedTokenCache.get(jwt)
+                .or(() -> verifyAndCache(jwt));
 
-        if (subject.isEmpty()) {
-            return;
-        }
+        // Claim-based: per-request state is the user's token version and the
+        // revocation filter, both answered from memory in the common case
+        principal.filter(p -> tokenVersionRegistry.isCurrent(p.getUserId(), p.getTokenVersion()))
+                .filter(p -> !tokenRevocationStore.isRevoked(p.getTokenId()))
+                .ifPresent(p -> setAuthenticationContext(p, request));
+    }
 
-        String username = subject.get();
-        Optional<AuthenticatedUser> maybeUser = authenticationPort.findByUsername(username);
+    private Optional<FintrackUserDetails> verifyAndCache(String jwt) {
+        return tokenPort.verify(jwt).map(verified -> {
+            FintrackUserDetails principal = toPrincipal(verified);
+            verifiedTokenCache.put(jwt, principal, verified.expiresAt());
+            return principal;
+        });
+    }
 
-        maybeUser.ifPresent(user -> setAuthenticationContext(jwt, user, request));
+    private FintrackUserDetails toPrincipal(VerifiedToken verified) {
+        return new FintrackUserDetails(
+                verified.userId(),
+                verified.subject(),
+                "",
+                verified.tokenVersion(),
+                verified.tokenId(),
+                verified.roles().stream().map(SimpleGrantedAuthority::new).toList()
+        );
     }
 
     private boolean isAlreadyAuthenticated() {
         return SecurityContextHolder.getContext().getAuthentication() != null;
     }
 
-    private void setAuthenticationContext(String jwt, AuthenticatedUser appUser, HttpServletRequest request) {
-        if (!tokenPort.isTokenValid(jwt, appUser.getUsername())) {
-            return;
-        }
-
-        UserDetails userDetails = buildUserDetails(appUser);
-        UsernamePasswordAuthenticationToken authToken = createAuthenticationToken(userDetails, request);
+    private void setAuthenticationContext(UserDetails principal, HttpServletRequest request) {
+        UsernamePasswordAuthenticationToken authToken = createAuthenticationToken(principal, request);
 
         SecurityContextHolder.getContext().setAuthentication(authToken);
     }
 
-    private UserDetails buildUserDetails(AuthenticatedUser appUser) {
-        return new User(
-                appUser.getUsername(),
-                "",
-                appUser.getRoles().stream()
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList())
-        );
-    }
-
     private UsernamePasswordAuthenticationToken createAuthenticationToken(
             UserDetails userDetails,
             HttpServletRequest request
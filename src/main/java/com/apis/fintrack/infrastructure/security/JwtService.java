@@ -1,6 +1,7 @@
 package com.apis.fintrack.infrastructure.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -11,14 +12,30 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
+/**
+ * JWT generation and validation.
+ *
+ * The HMAC key and the parser are built once at startup; both are immutable and
+ * thread-safe. parseAndVerify checks signature and expiration in a single pass,
+ * so callers should parse a token once and read every claim they need from the
+ * returned Claims.
+ *
+ * Every token gets a random id (jti) so that it can be revoked on its own.
+ */
 @Service
 public class JwtService {
-    @Value("${SECRET_KEY}")
-    private String secretKey;
     private static final long EXPIRATION_TIME = 1000 * 60 * 60;
 
+    private final SecretKey signInKey;
+    private final JwtParser parser;
+
+    public JwtService(@Value("${SECRET_KEY}") String secretKey) {
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts.parser().verifyWith(signInKey).build();
+    }
 
     public String generateToken(UserDetails userDetails) {
         return generateToken(new HashMap<>(), userDetails);
@@ -29,48 +46,33 @@ public class JwtService {
                 .builder()
                 .claims(extraClaims)
                 .subject(userDetails.getUsername())
+                .id(UUID.randomUUID().toString())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
-                .signWith(getSignInKey())
+                .signWith(signInKey)
                 .compact();
     }
 
+    /**
+     * Verifies signature and expiration and returns the claims.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     */
+    public Claims parseAndVerify(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
+        // The parser already rejects expired tokens
         final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return username != null && username.equals(userDetails.getUsername());
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parser()
-                .verifyWith(getSignInKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    private SecretKey getSignInKey() {
-        System.out.println(secretKey);
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        System.out.println("Real key size: " + keyBytes.length * 8 + " bits");
-        return Keys.hmacShaKeyFor(keyBytes);
+        return claimsResolver.apply(parseAndVerify(token));
     }
 }
-
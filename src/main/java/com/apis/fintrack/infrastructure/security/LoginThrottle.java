@@ -0,0 +1,134 @@
+package com.apis.fintrack.infrastructure.security;
+
+import com.apis.fintrack.application.auth.exception.AuthenticationThrottledException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fixed-window attempt limits checked before any password is hashed.
+ *
+ * Per account only failures count, so a user who types the right password is
+ * never locked out by their own successful logins; a success clears the
+ * account's window. Per client IP every attempt counts, which bounds how fast
+ * one client can make the server run BCrypt across many accounts.
+ *
+ * State is in memory and per instance; a restart or a second instance simply
+ * starts new windows.
+ */
+@Component
+public class LoginThrottle {
+
+    private final Map<String, Window> accountFailures = new ConcurrentHashMap<>();
+    private final Map<String, Window> ipAttempts = new ConcurrentHashMap<>();
+    private final int maxAccountFailures;
+    private final Duration accountWindow;
+    private final int maxIpAttempts;
+    private final Duration ipWindow;
+    private final Clock clock;
+
+    @Autowired
+    public LoginThrottle(
+            @Value("${fintrack.security.login-throttle.account-max-failures:5}") int maxAccountFailures,
+            @Value("${fintrack.security.login-throttle.account-window-minutes:15}") long accountWindowMinutes,
+            @Value("${fintrack.security.login-throttle.ip-max-attempts:30}") int maxIpAttempts,
+            @Value("${fintrack.security.login-throttle.ip-window-seconds:60}") long ipWindowSeconds
+    ) {
+        this(maxAccountFailures, Duration.ofMinutes(accountWindowMinutes),
+                maxIpAttempts, Duration.ofSeconds(ipWindowSeconds), Clock.systemUTC());
+    }
+
+    LoginThrottle(int maxAccountFailures, Duration accountWindow,
+                  int maxIpAttempts, Duration ipWindow, Clock clock) {
+        this.maxAccountFailures = maxAccountFailures;
+        this.accountWindow = accountWindow;
+        this.maxIpAttempts = maxIpAttempts;
+        this.ipWindow = ipWindow;
+        this.clock = clock;
+    }
+
+    /**
+     * Counts an attempt from the client and rejects it if either the client or
+     * the account is over its limit.
+     *
+     * @throws AuthenticationThrottledException if the attempt must not proceed
+     */
+    public void checkAllowed(String account, String clientIp) {
+        checkClient(clientIp);
+        if (account == null) {
+            return;
+        }
+        Instant now = clock.instant();
+        Window failures = accountFailures.get(key(account));
+        if (failures != null && !failures.expired(now) && failures.count() >= maxAccountFailures) {
+            throw throttled("Too many failed login attempts for this account", failures, now);
+        }
+    }
+
+    /**
+     * Counts an attempt from the client (registration, where there is no
+     * account yet).
+     *
+     * @throws AuthenticationThrottledException if the client is over its limit
+     */
+    public void checkClient(String clientIp) {
+        if (clientIp == null) {
+            return;
+        }
+        Instant now = clock.instant();
+        Window attempts = ipAttempts.compute(clientIp, (ip, current) -> increment(current, now, ipWindow));
+        if (attempts.count() > maxIpAttempts) {
+            throw throttled("Too many authentication attempts from this client", attempts, now);
+        }
+    }
+
+    public void recordFailure(String account) {
+        if (account != null) {
+            Instant now = clock.instant();
+            accountFailures.compute(key(account), (k, current) -> increment(current, now, accountWindow));
+        }
+    }
+
+    public void recordSuccess(String account) {
+        if (account != null) {
+            accountFailures.remove(key(account));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${fintrack.security.login-throttle.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        Instant now = clock.instant();
+        accountFailures.values().removeIf(window -> window.expired(now));
+        ipAttempts.values().removeIf(window -> window.expired(now));
+    }
+
+    private static Window increment(Window current, Instant now, Duration length) {
+        if (current == null || current.expired(now)) {
+            return new Window(1, now.plus(length));
+        }
+        return new Window(current.count() + 1, current.endsAt());
+    }
+
+    private static AuthenticationThrottledException throttled(String message, Window window, Instant now) {
+        long retryAfter = Math.max(1, Duration.between(now, window.endsAt()).toSeconds());
+        return new AuthenticationThrottledException(message, retryAfter);
+    }
+
+    private static String key(String account) {
+        return account.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Window(int count, Instant endsAt) {
+        boolean expired(Instant now) {
+            return !now.isBefore(endsAt);
+        }
+    }
+}
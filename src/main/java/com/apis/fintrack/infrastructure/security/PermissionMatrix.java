@@ -0,0 +1,81 @@
+package com.apis.fintrack.infrastructure.security;
+
+import com.apis.fintrack.domain.user.model.RoleType;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.PropertyRepository;
+import com.apis.fintrack.infrastructure.security.model.PropertyEnum;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Role to permission matrix (RoleJPAEntity / PropertyJPAEntity), held in memory
+ * as one bitmask per role: bit n is set if the role has the PropertyEnum with
+ * ordinal n.
+ *
+ * Checks look up the mask of each of the caller's authorities and test a bit,
+ * with no database access. The table is loaded with a single query at startup
+ * and reloaded periodically and on refresh(); each load builds a new immutable
+ * map and swaps it in, so readers never lock. Until the first load every check
+ * fails.
+ *
+ * Exposed as the "permissions" bean for method security, e.g.
+ * {@code @PreAuthorize("@permissions.has(authentication, 'DELETE')")}.
+ */
+@Component("permissions")
+public class PermissionMatrix {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final PropertyRepository propertyRepository;
+
+    private volatile Map<String, Integer> masksByAuthority = Map.of();
+
+    public PermissionMatrix(PropertyRepository propertyRepository) {
+        this.propertyRepository = propertyRepository;
+    }
+
+    /**
+     * True if any of the caller's roles grants the permission.
+     */
+    public boolean has(Authentication authentication, String permission) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+        int bit = bit(PropertyEnum.fromString(permission));
+        Map<String, Integer> masks = masksByAuthority;
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            Integer mask = masks.get(authority.getAuthority());
+            if (mask != null && (mask & bit) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean has(RoleType role, PropertyEnum permission) {
+        Integer mask = masksByAuthority.get(ROLE_PREFIX + role.name());
+        return mask != null && (mask & bit(permission)) != 0;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${fintrack.security.permissions.refresh-interval-ms:300000}")
+    public void refresh() {
+        Map<String, Integer> masks = new HashMap<>();
+        List<Object[]> grants = propertyRepository.findRolePermissionPairs();
+        for (Object[] grant : grants) {
+            masks.merge(ROLE_PREFIX + ((RoleType) grant[0]).name(), bit((PropertyEnum) grant[1]), (a, b) -> a | b);
+        }
+        masksByAuthority = Map.copyOf(masks);
+    }
+
+    private static int bit(PropertyEnum permission) {
+        return 1 << permission.ordinal();
+    }
+}
@@ -0,0 +1,206 @@
+package com.apis.fintrack.infrastructure.security;
+
+import com.apis.fintrack.infrastructure.adapter.input.rest.exception.ErrorManagerClass;
+import com.apis.fintrack.infrastructure.security.model.FintrackUserDetails;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client token-bucket rate limiting, per route group.
+ *
+ * Runs right after JwtAuthenticationFilter, so an authenticated request is
+ * limited by its user id and an anonymous one by its remote address. Each
+ * group has its own capacity and refill rate (fintrack.rate-limit.GROUP.*);
+ * a capacity of 0 disables the group. Paths outside the groups are not limited.
+ *
+ * Buckets live in a map of at most max-buckets entries. Full buckets carry no
+ * information (see TokenBucket) and are purged periodically and whenever the
+ * map is full. Clients that still do not fit share one overflow bucket per
+ * group, so memory stays bounded without letting them through unlimited.
+ *
+ * Decisions are counted in http.rate-limit.requests, tagged by group and outcome.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    /**
+     * Route groups, matched by path prefix.
+     */
+    public enum RouteGroup {
+        AUTH("auth", "/apis/auth/", 20, 20),
+        TRANSACTIONS("transactions", "/apis/transactions", 100, 600),
+        DOCUMENTS("documents", "/api/v1/documents", 5, 10),
+        WEBHOOKS("webhooks", "/api/v1/webhooks/", 50, 300);
+
+        private final String key;
+        private final String pathPrefix;
+        private final int defaultCapacity;
+        private final int defaultRefillPerMinute;
+
+        RouteGroup(String key, String pathPrefix, int defaultCapacity, int defaultRefillPerMinute) {
+            this.key = key;
+            this.pathPrefix = pathPrefix;
+            this.defaultCapacity = defaultCapacity;
+            this.defaultRefillPerMinute = defaultRefillPerMinute;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        static Optional<RouteGroup> forPath(String path) {
+            for (RouteGroup group : values()) {
+                if (path.startsWith(group.pathPrefix)) {
+                    return Optional.of(group);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private final Map<RouteGroup, Policy> policies = new EnumMap<>(RouteGroup.class);
+    private final Map<RouteGroup, TokenBucket> overflow = new EnumMap<>(RouteGroup.class);
+    private final Map<RouteGroup, Counter> allowed = new EnumMap<>(RouteGroup.class);
+    private final Map<RouteGroup, Counter> throttled = new EnumMap<>(RouteGroup.class);
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final int maxBuckets;
+    private final ObjectMapper objectMapper;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public RateLimitFilter(Environment environment,
+                           MeterRegistry meterRegistry,
+                           ObjectMapper objectMapper,
+                           @Value("${fintrack.rate-limit.max-buckets:100000}") int maxBuckets) {
+        this(environment, meterRegistry, objectMapper, maxBuckets, System::nanoTime);
+    }
+
+    RateLimitFilter(Environment environment, MeterRegistry meterRegistry, ObjectMapper objectMapper,
+                    int maxBuckets, LongSupplier nanoClock) {
+        this.maxBuckets = maxBuckets;
+        this.objectMapper = objectMapper;
+        this.nanoClock = nanoClock;
+        for (RouteGroup group : RouteGroup.values()) {
+            String prefix = "fintrack.rate-limit." + group.getKey();
+            Policy policy = new Policy(
+                    environment.getProperty(prefix + ".capacity", Integer.class, group.defaultCapacity),
+                    environment.getProperty(prefix + ".refill-per-minute", Integer.class, group.defaultRefillPerMinute));
+            policies.put(group, policy);
+            if (policy.enabled()) {
+                overflow.put(group, policy.newBucket(nanoClock.getAsLong()));
+            }
+            allowed.put(group, meterRegistry.counter("http.rate-limit.requests",
+                    "group", group.getKey(), "outcome", "allowed"));
+            throttled.put(group, meterRegistry.counter("http.rate-limit.requests",
+                    "group", group.getKey(), "outcome", "throttled"));
+        }
+        meterRegistry.gauge("http.rate-limit.buckets", buckets, Map::size);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        Optional<RouteGroup> group = RouteGroup.forPath(request.getRequestURI())
+                .filter(g -> policies.get(g).enabled());
+        if (group.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = bucketFor(group.get(), clientKey(request)).tryAcquire(nanoClock.getAsLong());
+        if (waitNanos == 0) {
+            allowed.get(group.get()).increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+        throttled.get(group.get()).increment();
+        reject(response, waitNanos);
+    }
+
+    @Scheduled(fixedDelayString = "${fintrack.rate-limit.purge-interval-ms:60000}")
+    public void purgeFullBuckets() {
+        long now = nanoClock.getAsLong();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    private TokenBucket bucketFor(RouteGroup group, String client) {
+        String key = group.getKey() + ':' + client;
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxBuckets) {
+            purgeFullBuckets();
+            if (buckets.size() >= maxBuckets) {
+                return overflow.get(group);
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> policies.get(group).newBucket(nanoClock.getAsLong()));
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof FintrackUserDetails principal) {
+            return "user:" + principal.getUserId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        ErrorManagerClass err = new ErrorManagerClass(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too many requests, try again later",
+                LocalDateTime.now()
+        );
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), err);
+    }
+
+    private record Policy(int capacity, int refillPerMinute) {
+
+        boolean enabled() {
+            return capacity > 0 && refillPerMinute > 0;
+        }
+
+        TokenBucket newBucket(long nowNanos) {
+            return new TokenBucket(capacity, TimeUnit.MINUTES.toNanos(1) / refillPerMinute, nowNanos);
+        }
+    }
+}
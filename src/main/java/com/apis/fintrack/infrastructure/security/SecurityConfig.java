@@ -1,30 +1,45 @@
 package com.apis.fintrack.infrastructure.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity
+@EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SecurityConfig.class);
+    private static final String BCRYPT_ID = "bcrypt";
+
     private final JwtAuthenticationFilter jwtAuthFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final UserDetailsService userDetailsService;
 
     @Bean
-    public SecurityFilterChain configure(HttpSecurity http) throws Exception {
+    public SecurityFilterChain configure(HttpSecurity http, AuthenticationProvider authenticationProvider) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(
@@ -38,8 +53,9 @@ public class SecurityConfig {
                                 .anyRequest().authenticated()
                 )
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-                .authenticationProvider(authenticationProvider())
-                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+                .authenticationProvider(authenticationProvider)
+                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -49,16 +65,49 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
 
+    /**
+     * After a successful login DaoAuthenticationProvider asks the encoder
+     * whether the stored hash is outdated (legacy unprefixed hash or lower
+     * cost than the current one) and, if so, stores a new hash through the
+     * UserDetailsPasswordService.
+     */
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder,
+                                                         UserDetailsPasswordService passwordUpgrades) {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userDetailsService);
-        provider.setPasswordEncoder(passwordEncoder());
+        provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserDetailsPasswordService(passwordUpgrades);
         return provider;
     }
 
+    /**
+     * BCrypt runs on its own bounded pool, not on request threads: a burst of
+     * logins or registrations cannot take every core, and once the queue is
+     * full further attempts get a 429 instead of waiting.
+     *
+     * New hashes are stored as {bcrypt}$2a$NN$..., so the algorithm and cost
+     * travel with each hash. The cost is fixed by bcrypt-cost, or measured at
+     * startup against target-ms when bcrypt-cost is 0. Hashes without prefix
+     * (created before) still match as plain BCrypt.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${fintrack.security.hashing.pool-size:2}") int poolSize,
+            @Value("${fintrack.security.hashing.queue-capacity:50}") int queueCapacity,
+            @Value("${fintrack.security.hashing.bcrypt-cost:0}") int fixedCost,
+            @Value("${fintrack.security.hashing.target-ms:250}") long targetMillis,
+            @Value("${fintrack.security.hashing.min-cost:10}") int minCost,
+            @Value("${fintrack.security.hashing.max-cost:14}") int maxCost) {
+        int cost = fixedCost > 0
+                ? fixedCost
+                : new BCryptCostCalibrator(Duration.ofMillis(targetMillis), minCost, maxCost).calibrate();
+        LOGGER.info("Password hashing with BCrypt cost {}", cost);
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(
+                BCRYPT_ID, Map.of(BCRYPT_ID, new BCryptPasswordEncoder(cost)));
+        delegating.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return new BoundedPasswordEncoder(delegating, poolSize, queueCapacity, meterRegistry);
     }
 }
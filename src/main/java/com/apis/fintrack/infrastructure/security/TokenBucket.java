@@ -0,0 +1,54 @@
+package com.apis.fintrack.infrastructure.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket.
+ *
+ * The whole state is one long: the instant (System.nanoTime scale) at which the
+ * bucket will be full again. Taking a token pushes that instant forward by one
+ * refill interval; a token is available while the bucket would still be full
+ * again within capacity intervals from now. Refill is therefore implicit in
+ * the clock, and acquiring is a single compare-and-set, retried on contention.
+ *
+ * A bucket whose full-again instant has passed behaves exactly like a new one,
+ * so callers may drop it and recreate it later without changing any decision.
+ */
+public final class TokenBucket {
+
+    private final long refillIntervalNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+
+    public TokenBucket(int capacity, long refillIntervalNanos, long nowNanos) {
+        if (capacity <= 0 || refillIntervalNanos <= 0) {
+            throw new IllegalArgumentException("Capacity and refill interval must be positive");
+        }
+        this.refillIntervalNanos = refillIntervalNanos;
+        this.burstNanos = capacity * refillIntervalNanos;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes one token if available.
+     *
+     * @return 0 if the token was taken, otherwise the nanoseconds until one is available
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + refillIntervalNanos;
+            long pending = next - nowNanos;
+            if (pending > burstNanos) {
+                return pending - burstNanos;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public boolean isFull(long nowNanos) {
+        return fullAt.get() - nowNanos <= 0;
+    }
+}
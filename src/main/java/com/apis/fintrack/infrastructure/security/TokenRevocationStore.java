@@ -0,0 +1,139 @@
+package com.apis.fintrack.infrastructure.security;
+
+import com.apis.fintrack.infrastructure.adapter.output.persistence.AfterCommit;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.RevokedTokenJPAEntity;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.model.BloomFilter;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.RevokedTokenRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Revoked token ids (jti), persisted in the revoked_token table and mirrored
+ * in an in-memory Bloom filter.
+ *
+ * isRevoked is called on every authenticated request. For the common case (the
+ * token was never revoked) the Bloom filter answers "no" with a few lock-free
+ * array reads. Only a positive, i.e. a revoked token or a false positive, goes
+ * to the database, and the answer is remembered in a bounded cache for
+ * fintrack.security.revocation.confirmed-ttl-minutes.
+ *
+ * The filter is rebuilt from the table at startup and after the periodic purge
+ * of expired rows (a Bloom filter cannot forget values). In between, every
+ * fintrack.security.revocation.refresh-interval-ms it reads the revocations
+ * made since the last read, so a token revoked on another instance is
+ * rejected here within that interval, and a remembered false positive for it
+ * is overwritten. Each read overlaps the previous one by CATCH_UP_OVERLAP,
+ * because revokedAt is set before the row commits. Revocations, refreshes and
+ * rebuilds are serialised on a lock; readers never take it.
+ */
+@Component
+public class TokenRevocationStore {
+
+    private static final Duration CATCH_UP_OVERLAP = Duration.ofMinutes(1);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final int expectedTokens;
+    private final double falsePositiveRate;
+    private final Cache<String, Boolean> confirmed;
+    private final Object writeLock = new Object();
+
+    private volatile BloomFilter filter;
+    private LocalDateTime lastRefresh;
+
+    public TokenRevocationStore(RevokedTokenRepository revokedTokenRepository,
+                                @Value("${fintrack.security.revocation.expected-tokens:100000}") int expectedTokens,
+                                @Value("${fintrack.security.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                                @Value("${fintrack.security.revocation.confirmed-ttl-minutes:10}") long confirmedTtlMinutes) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedTokens = expectedTokens;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedTokens, falsePositiveRate);
+        this.confirmed = Caffeine.newBuilder()
+                .maximumSize(expectedTokens)
+                .expireAfterWrite(Duration.ofMinutes(confirmedTtlMinutes))
+                .build();
+    }
+
+    public boolean isRevoked(String jti) {
+        if (!filter.mightContain(jti)) {
+            return false;
+        }
+        Boolean known = confirmed.getIfPresent(jti);
+        if (known != null) {
+            return known;
+        }
+        boolean revoked = revokedTokenRepository.existsById(jti);
+        confirmed.asMap().putIfAbsent(jti, revoked);
+        return revoked;
+    }
+
+    @Transactional
+    public void revoke(String jti, Long userId, Instant expiresAt) {
+        // jti is an assigned id: save merges, so revoking twice is harmless
+        revokedTokenRepository.save(new RevokedTokenJPAEntity(
+                jti, userId, toLocal(expiresAt), LocalDateTime.now(ZoneOffset.UTC)));
+        AfterCommit.run(() -> {
+            synchronized (writeLock) {
+                markRevoked(jti);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (writeLock) {
+            LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+            BloomFilter rebuilt = new BloomFilter(expectedTokens, falsePositiveRate);
+            revokedTokenRepository.findActiveJtis(now).forEach(rebuilt::add);
+            confirmed.invalidateAll();
+            filter = rebuilt;
+            lastRefresh = now;
+        }
+    }
+
+    /**
+     * Adds the revocations made since the previous refresh, on this or any
+     * other instance.
+     */
+    @Scheduled(fixedDelayString = "${fintrack.security.revocation.refresh-interval-ms:5000}")
+    public void refresh() {
+        synchronized (writeLock) {
+            if (lastRefresh == null) {
+                // Nothing loaded yet: the startup rebuild reads the whole table
+                return;
+            }
+            LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+            revokedTokenRepository.findActiveJtisRevokedAfter(lastRefresh.minus(CATCH_UP_OVERLAP), now)
+                    .forEach(this::markRevoked);
+            lastRefresh = now;
+        }
+    }
+
+    @Scheduled(cron = "${fintrack.security.revocation.purge-cron:0 45 * * * *}")
+    @Transactional
+    public void purgeExpired() {
+        if (revokedTokenRepository.deleteAllExpired(LocalDateTime.now(ZoneOffset.UTC)) > 0) {
+            AfterCommit.run(this::rebuild);
+        }
+    }
+
+    private void markRevoked(String jti) {
+        filter.add(jti);
+        confirmed.put(jti, Boolean.TRUE);
+    }
+
+    private static LocalDateTime toLocal(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,102 @@
+package com.apis.fintrack.infrastructure.security;
+
+import com.apis.fintrack.domain.user.model.UserId;
+import com.apis.fintrack.domain.user.port.output.UserSessionPort;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.AfterCommit;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * In-memory table of the current token version of each user, checked on every
+ * authenticated request. A token is accepted only if the version it was
+ * issued with is the user's current one.
+ *
+ * The version is persisted in the user row; a user is read from the database
+ * the first time one of its tokens is seen and then answered from memory for
+ * fintrack.security.token-version.ttl-seconds. Revoking (UserSessionPort)
+ * increments the stored version and publishes the new one after commit on
+ * this instance; other instances pick it up when their entry expires, so a
+ * revoked token keeps working elsewhere for at most the TTL. Versions only
+ * move forward, so a concurrent load of an older value can never undo a
+ * revocation. Deleted users read as REVOKED. Each revocation is also
+ * published as UserSessionsInvalidatedEvent.
+ *
+ * The table is a Caffeine cache bounded by
+ * fintrack.security.token-version.max-users, so users who stopped calling the
+ * API are dropped without a purge job.
+ */
+@Component
+public class TokenVersionRegistry implements UserSessionPort {
+
+    static final int REVOKED = Integer.MAX_VALUE;
+
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache<Long, Integer> versions;
+
+    @Autowired
+    public TokenVersionRegistry(UserRepository userRepository, ApplicationEventPublisher eventPublisher,
+                                @Value("${fintrack.security.token-version.ttl-seconds:30}") long ttlSeconds,
+                                @Value("${fintrack.security.token-version.max-users:100000}") int maxUsers) {
+        this(userRepository, eventPublisher, Duration.ofSeconds(ttlSeconds), maxUsers, Clock.systemUTC());
+    }
+
+    TokenVersionRegistry(UserRepository userRepository, ApplicationEventPublisher eventPublisher,
+                         Duration ttl, int maxUsers, Clock clock) {
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(ttl)
+                .ticker(() -> clock.millis() * 1_000_000L)
+                .build();
+    }
+
+    /**
+     * True if a token issued with the given version is still valid for the user.
+     */
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        int current = currentVersion(userId);
+        return current != REVOKED && current == tokenVersion;
+    }
+
+    @Override
+    @Transactional
+    public void invalidate(UserId userId) {
+        Long uid = userId.getValue();
+        userRepository.incrementTokenVersion(uid);
+        int current = userRepository.findTokenVersion(uid).orElse(REVOKED);
+        AfterCommit.run(() -> {
+            publish(uid, current);
+            eventPublisher.publishEvent(new UserSessionsInvalidatedEvent(uid));
+        });
+    }
+
+    long size() {
+        versions.cleanUp();
+        return versions.estimatedSize();
+    }
+
+    private int currentVersion(Long userId) {
+        Integer known = versions.getIfPresent(userId);
+        if (known != null) {
+            return known;
+        }
+        int loaded = userRepository.findTokenVersion(userId).orElse(REVOKED);
+        return publish(userId, loaded);
+    }
+
+    private int publish(Long userId, int version) {
+        // merge counts as a write, so it also restarts the entry's TTL
+        return versions.asMap().merge(userId, version, Math::max);
+    }
+}
@@ -0,0 +1,106 @@
+package com.apis.fintrack.infrastructure.security;
+
+import com.apis.fintrack.infrastructure.adapter.output.persistence.model.ExpiringLruCache;
+import com.apis.fintrack.infrastructure.security.model.FintrackUserDetails;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, TTL cache of the UserDetails loaded from the database, so a login
+ * or a refresh does not query the user and its role every time.
+ *
+ * Entries are stored by user id, with a second index from email to id. An
+ * email entry whose user has been evicted or whose email no longer matches is
+ * treated as a miss. Entries are dropped on UserSessionsInvalidatedEvent (email,
+ * password or role change, deletion) and when a password is rehashed; the TTL
+ * bounds staleness for changes made by another instance.
+ *
+ * A load that overlaps an invalidation is not kept: every load remembers the
+ * invalidation count it started with and drops its own entry if the count
+ * changed meanwhile.
+ *
+ * Metrics: auth.user-details.cache.requests{result=hit|miss},
+ * auth.user-details.cache.invalidations and auth.user-details.cache.size.
+ */
+@Component
+public class UserDetailsCache {
+
+    private final ExpiringLruCache<Long, FintrackUserDetails> byId;
+    private final ExpiringLruCache<String, Long> idByEmail;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidationCounter;
+
+    @Autowired
+    public UserDetailsCache(MeterRegistry meterRegistry,
+                            @Value("${fintrack.security.user-details-cache.max-entries:10000}") int maxEntries,
+                            @Value("${fintrack.security.user-details-cache.ttl-minutes:10}") long ttlMinutes) {
+        this(meterRegistry, maxEntries, Duration.ofMinutes(ttlMinutes), Clock.systemUTC());
+    }
+
+    UserDetailsCache(MeterRegistry meterRegistry, int maxEntries, Duration ttl, Clock clock) {
+        this.byId = new ExpiringLruCache<>(maxEntries, ttl, clock);
+        this.idByEmail = new ExpiringLruCache<>(maxEntries, ttl, clock);
+        this.hits = meterRegistry.counter("auth.user-details.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("auth.user-details.cache.requests", "result", "miss");
+        this.invalidationCounter = meterRegistry.counter("auth.user-details.cache.invalidations");
+        meterRegistry.gauge("auth.user-details.cache.size", byId, ExpiringLruCache::size);
+    }
+
+    public FintrackUserDetails getByEmail(String email, Supplier<FintrackUserDetails> loader) {
+        String key = key(email);
+        Optional<FintrackUserDetails> cached = Optional.ofNullable(idByEmail.get(key))
+                .map(byId::get)
+                .filter(details -> key(details.getUsername()).equals(key));
+        return cached.map(this::hit).orElseGet(() -> load(loader));
+    }
+
+    public FintrackUserDetails getById(Long userId, Supplier<FintrackUserDetails> loader) {
+        return Optional.ofNullable(byId.get(userId)).map(this::hit).orElseGet(() -> load(loader));
+    }
+
+    @EventListener
+    public void onSessionsInvalidated(UserSessionsInvalidatedEvent event) {
+        evict(event.userId());
+    }
+
+    public void evict(Long userId) {
+        invalidations.incrementAndGet();
+        invalidationCounter.increment();
+        byId.remove(userId);
+    }
+
+    private FintrackUserDetails hit(FintrackUserDetails details) {
+        hits.increment();
+        return details;
+    }
+
+    private FintrackUserDetails load(Supplier<FintrackUserDetails> loader) {
+        misses.increment();
+        long seen = invalidations.get();
+        FintrackUserDetails loaded = loader.get();
+        byId.put(loaded.getUserId(), loaded);
+        idByEmail.put(key(loaded.getUsername()), loaded.getUserId());
+        // Checked after the put: an eviction either shows here or runs after it
+        if (invalidations.get() != seen) {
+            byId.remove(loaded.getUserId());
+        }
+        return loaded;
+    }
+
+    private static String key(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,9 @@
+package com.apis.fintrack.infrastructure.security;
+
+/**
+ * Published after commit when a user's tokens are revoked, i.e. when its
+ * email, password or role changed or the account was deleted. Anything cached
+ * about the user's credentials must be dropped.
+ */
+public record UserSessionsInvalidatedEvent(Long userId) {
+}
@@ -0,0 +1,79 @@
+package com.apis.fintrack.infrastructure.security;
+
+import com.apis.fintrack.infrastructure.security.model.FintrackUserDetails;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Bounded cache from token digest (SHA-256, the raw token is never kept) to the
+ * principal built from its claims. A hit skips parsing and the signature check.
+ *
+ * Each entry expires at the token's own exp. Revocation is not handled here:
+ * the filter checks the principal's token version against TokenVersionRegistry
+ * on every request, hit or miss.
+ *
+ * Backed by Caffeine: size-bounded eviction and per-entry expiry are both
+ * amortised O(1), so a full cache costs nothing extra on a miss.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, Entry> entries;
+    private final Clock clock;
+
+    @Autowired
+    public VerifiedTokenCache(@Value("${fintrack.security.token-cache.max-entries:10000}") int maxEntries) {
+        this(maxEntries, Clock.systemUTC());
+    }
+
+    VerifiedTokenCache(int maxEntries, Clock clock) {
+        this.clock = clock;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(Expiry.creating((String digest, Entry entry) ->
+                        Duration.between(clock.instant(), entry.expiresAt())))
+                .ticker(() -> clock.millis() * 1_000_000L)
+                .build();
+    }
+
+    public Optional<FintrackUserDetails> get(String token) {
+        return Optional.ofNullable(entries.getIfPresent(digest(token))).map(Entry::principal);
+    }
+
+    public void put(String token, FintrackUserDetails principal, Instant expiresAt) {
+        if (!clock.instant().isBefore(expiresAt)) {
+            return;
+        }
+        entries.put(digest(token), new Entry(principal, expiresAt));
+    }
+
+    long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Entry(FintrackUserDetails principal, Instant expiresAt) {
+    }
+}
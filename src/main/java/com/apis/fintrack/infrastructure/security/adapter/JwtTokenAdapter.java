@@ -1,13 +1,18 @@
 package com.apis.fintrack.infrastructure.security.adapter;
 
 import com.apis.fintrack.application.auth.dto.AuthenticatedUser;
+import com.apis.fintrack.application.auth.dto.VerifiedToken;
 import com.apis.fintrack.application.auth.port.output.TokenPort;
 import com.apis.fintrack.infrastructure.security.JwtService;
+import io.jsonwebtoken.Claims;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -19,6 +24,10 @@ import java.util.stream.Collectors;
 @Component
 public final class JwtTokenAdapter implements TokenPort {
 
+    static final String CLAIM_USER_ID = "uid";
+    static final String CLAIM_ROLES = "roles";
+    static final String CLAIM_TOKEN_VERSION = "ver";
+
     private final JwtService jwtService;
 
     public JwtTokenAdapter(JwtService jwtService) {
@@ -33,17 +42,35 @@ public final class JwtTokenAdapter implements TokenPort {
                 "", // password not required for token generation
                 user.getRoles().stream().map(SimpleGrantedAuthority::new).collect(Collectors.toList())
         );
-        return jwtService.generateToken(ud);
+        // Signed claims let requests authenticate without loading the user
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_USER_ID, user.getUserId());
+        claims.put(CLAIM_ROLES, List.copyOf(user.getRoles()));
+        claims.put(CLAIM_TOKEN_VERSION, user.getTokenVersion());
+        return jwtService.generateToken(claims, ud);
     }
 
     @Override
-    public Optional<String> validateAndExtractSubject(String token) {
+    public Optional<VerifiedToken> verify(String token) {
+        // Single verification: signature and expiration are checked while parsing
         try {
-            String username = jwtService.extractUsername(token);
-            if (username == null) {
+            Claims claims = jwtService.parseAndVerify(token);
+            Long userId = claims.get(CLAIM_USER_ID, Long.class);
+            Integer tokenVersion = claims.get(CLAIM_TOKEN_VERSION, Integer.class);
+            List<?> roles = claims.get(CLAIM_ROLES, List.class);
+            if (claims.getId() == null || claims.getSubject() == null || claims.getExpiration() == null
+                    || userId == null || tokenVersion == null || roles == null) {
+                // Tokens issued before the claims existed must be renewed by logging in again
                 return Optional.empty();
             }
-            return Optional.of(username);
+            return Optional.of(new VerifiedToken(
+                    claims.getId(),
+                    claims.getSubject(),
+                    userId,
+                    roles.stream().map(String::valueOf).collect(Collectors.toSet()),
+                    tokenVersion,
+                    claims.getExpiration().toInstant()
+            ));
         } catch (Exception e) {
             return Optional.empty();
         }
@@ -51,12 +78,6 @@ public final class JwtTokenAdapter implements TokenPort {
 
     @Override
     public boolean isTokenValid(String token, String username) {
-        try {
-            // JwtService requires UserDetails for validation; create a lightweight one with username
-            UserDetails ud = new User(username == null ? "" : username, "", java.util.List.of());
-            return jwtService.isTokenValid(token, ud);
-        } catch (Exception e) {
-            return false;
-        }
+        return username != null && validateAndExtractSubject(token).filter(username::equals).isPresent();
     }
 }
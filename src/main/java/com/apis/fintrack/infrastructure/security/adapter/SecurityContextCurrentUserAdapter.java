@@ -1,13 +1,13 @@
 package com.apis.fintrack.infrastructure.security.adapter;
 
 import com.apis.fintrack.application.auth.port.output.CurrentUserPort;
+import com.apis.fintrack.infrastructure.security.model.FintrackUserDetails;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
-import java.util.UUID;
 
 /**
  * Adapter that encapsulates access to SecurityContextHolder and exposes a
@@ -17,17 +17,15 @@ import java.util.UUID;
 public final class SecurityContextCurrentUserAdapter implements CurrentUserPort {
 
     @Override
-    public Optional<UUID> currentUserId() {
-        return currentUsername().map(u -> UUID.nameUUIDFromBytes(u.getBytes()));
+    public Optional<Long> currentUserId() {
+        return currentPrincipal()
+                .filter(FintrackUserDetails.class::isInstance)
+                .map(principal -> ((FintrackUserDetails) principal).getUserId());
     }
 
     @Override
     public Optional<String> currentUsername() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth == null || !auth.isAuthenticated()) {
-            return Optional.empty();
-        }
-        Object principal = auth.getPrincipal();
+        Object principal = currentPrincipal().orElse(null);
         if (principal instanceof UserDetails) {
             return Optional.of(((UserDetails) principal).getUsername());
         }
@@ -36,5 +34,12 @@ public final class SecurityContextCurrentUserAdapter implements CurrentUserPort
         }
         return Optional.empty();
     }
-}
 
+    private Optional<Object> currentPrincipal() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(auth.getPrincipal());
+    }
+}
@@ -2,13 +2,15 @@ package com.apis.fintrack.infrastructure.security.adapter;
 
 import com.apis.fintrack.application.auth.dto.AuthenticatedUser;
 import com.apis.fintrack.application.auth.port.output.AuthenticationPort;
+import com.apis.fintrack.application.auth.port.output.TokenPort;
+import com.apis.fintrack.infrastructure.security.TokenRevocationStore;
+import com.apis.fintrack.infrastructure.security.model.FintrackUserDetails;
 import com.apis.fintrack.infrastructure.security.service.UserDetailsServiceImpl;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -20,9 +22,15 @@ import java.util.stream.Collectors;
 public final class SpringUserDetailsAdapter implements AuthenticationPort {
 
     private final UserDetailsServiceImpl userDetailsService;
+    private final TokenPort tokenPort;
+    private final TokenRevocationStore tokenRevocationStore;
 
-    public SpringUserDetailsAdapter(UserDetailsServiceImpl userDetailsService) {
+    public SpringUserDetailsAdapter(UserDetailsServiceImpl userDetailsService,
+                                    TokenPort tokenPort,
+                                    TokenRevocationStore tokenRevocationStore) {
         this.userDetailsService = userDetailsService;
+        this.tokenPort = tokenPort;
+        this.tokenRevocationStore = tokenRevocationStore;
     }
 
     @Override
@@ -48,21 +56,30 @@ public final class SpringUserDetailsAdapter implements AuthenticationPort {
         }
     }
 
+    @Override
+    public Optional<AuthenticatedUser> findByUserId(Long userId) {
+        try {
+            UserDetails ud = userDetailsService.loadUserById(userId);
+            return Optional.of(mapToAuthenticatedUser(ud));
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
     @Override
     public void logout(String token) {
-        // No-op for stateless JWT setup. If a token blacklist is implemented, this adapter
-        // should call the corresponding infrastructure to persist the revocation.
+        // Only a token that still verifies needs revoking; the rest is already rejected
+        tokenPort.verify(token).ifPresent(verified ->
+                tokenRevocationStore.revoke(verified.tokenId(), verified.userId(), verified.expiresAt()));
     }
 
     private AuthenticatedUser mapToAuthenticatedUser(UserDetails ud) {
-        // Note: We do not have direct access to the application's User ID here because
-        // UserDetails only exposes username and authorities. If the application requires
-        // UUID userId, add a custom UserDetails implementation that stores it.
-        Set<String> roles = ud.getAuthorities().stream()
+        if (!(ud instanceof FintrackUserDetails details)) {
+            throw new IllegalStateException("Unexpected UserDetails type " + ud.getClass().getName());
+        }
+        Set<String> roles = details.getAuthorities().stream()
                 .map(a -> a.getAuthority())
                 .collect(Collectors.toSet());
-        UUID unknownId = UUID.nameUUIDFromBytes(ud.getUsername().getBytes());
-        return new AuthenticatedUser(unknownId, ud.getUsername(), roles);
+        return new AuthenticatedUser(details.getUserId(), details.getUsername(), roles, details.getTokenVersion());
     }
 }
-
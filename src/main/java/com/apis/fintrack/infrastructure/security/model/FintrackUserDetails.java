@@ -0,0 +1,73 @@
+package com.apis.fintrack.infrastructure.security.model;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * UserDetails that also carries the numeric user id and the token version, so
+ * that authenticated requests know who the caller is without another lookup.
+ *
+ * tokenId is the jti of the token the principal was built from, or null when
+ * it was loaded from the database.
+ */
+public final class FintrackUserDetails implements UserDetails {
+
+    private final Long userId;
+    private final String username;
+    private final String password;
+    private final int tokenVersion;
+    private final String tokenId;
+    private final List<GrantedAuthority> authorities;
+
+    public FintrackUserDetails(Long userId, String username, String password, int tokenVersion,
+                               Collection<? extends GrantedAuthority> authorities) {
+        this(userId, username, password, tokenVersion, null, authorities);
+    }
+
+    public FintrackUserDetails(Long userId, String username, String password, int tokenVersion,
+                               String tokenId, Collection<? extends GrantedAuthority> authorities) {
+        this.userId = userId;
+        this.username = username;
+        this.password = password;
+        this.tokenVersion = tokenVersion;
+        this.tokenId = tokenId;
+        this.authorities = List.copyOf(authorities);
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    /**
+     * Copy safe to keep in memory after authentication (no password hash).
+     */
+    public FintrackUserDetails withoutPassword() {
+        return new FintrackUserDetails(userId, username, "", tokenVersion, tokenId, authorities);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+}
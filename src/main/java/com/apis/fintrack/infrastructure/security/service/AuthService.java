@@ -1,5 +1,8 @@
 package com.apis.fintrack.infrastructure.security.service;
 
+import com.apis.fintrack.application.auth.dto.AuthenticatedUser;
+import com.apis.fintrack.application.auth.port.input.RefreshTokenUseCase;
+import com.apis.fintrack.application.auth.port.output.TokenPort;
 import com.apis.fintrack.domain.user.exception.RolesNotFoundException;
 import com.apis.fintrack.domain.user.model.RoleType;
 import com.apis.fintrack.domain.user.exception.UserNotFoundException;
@@ -7,30 +10,41 @@ import com.apis.fintrack.infrastructure.adapter.input.rest.dto.request.Entry.Cre
 import com.apis.fintrack.infrastructure.adapter.input.rest.dto.request.Entry.UserLoginDTO;
 import com.apis.fintrack.infrastructure.adapter.input.rest.dto.response.Exit.AuthResponse;
 import com.apis.fintrack.infrastructure.adapter.input.rest.mapper.UserMapperService;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.adapter.RegisteredEmailFilter;
 import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.RoleRepository;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.UserJPAEntity;
 import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.UserRepository;
-import com.apis.fintrack.infrastructure.security.JwtService;
+import com.apis.fintrack.infrastructure.security.LoginThrottle;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final JwtService jwtService;
+    private final TokenPort tokenPort;
+    private final RefreshTokenUseCase refreshTokenUseCase;
     private final AuthenticationManager authenticationManager;
     private final RoleRepository roleRepository;
     private final UserMapperService userMapper;
+    private final LoginThrottle loginThrottle;
+    private final RegisteredEmailFilter registeredEmails;
 
     /**
      * REGISTRO - Crea usuario y devuelve JWT
      */
-    public AuthResponse register(CreateUserDTO request) {
+    public AuthResponse register(CreateUserDTO request, String clientIp) {
+        // 0. Limitar intentos por cliente antes de hashear nada
+        loginThrottle.checkClient(clientIp);
+
         // 1. Convertir DTO a entidad JPA
         var newUser = userMapper.toUserEntity(request);
 
@@ -39,30 +53,42 @@ public class AuthService {
         newUser.setRole(roleRepository.findByRoleName(RoleType.USER)
                 .orElseThrow(() -> new RolesNotFoundException("Role not found")));
 
-        // 3. Guardar en BD
+        // 3. Guardar en BD y registrar el email en el filtro de emails en uso
         userRepository.save(newUser);
+        registeredEmails.add(newUser.getEmail());
 
         // 4. Generar JWT
-        var jwtToken = jwtService.generateToken(newUser);
+        var authenticated = toAuthenticatedUser(newUser);
+        var jwtToken = tokenPort.generateToken(authenticated);
 
-        // 5. Devolver respuesta con el token
+        // 5. Devolver respuesta con el token y el refresh token
         return AuthResponse.builder()
                 .token(jwtToken)
+                .refreshToken(refreshTokenUseCase.issue(authenticated))
                 .build();
     }
 
     /**
      * LOGIN - Validates credentials and returns JWT
      */
-    public AuthResponse authenticate(UserLoginDTO request) {
+    public AuthResponse authenticate(UserLoginDTO request, String clientIp) {
+        // 0. THROTTLE - Rejects before BCrypt runs if the account or client is over its limit
+        loginThrottle.checkAllowed(request.getEmail(), clientIp);
+
         // 1. AUTHENTICATE - Here Spring validates user/password
         // If it fails, it throws an exception automatically
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        request.getEmail(),
-                        request.getPassword()
-                )
-        );
+        try {
+            authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                            request.getEmail(),
+                            request.getPassword()
+                    )
+            );
+        } catch (AuthenticationException e) {
+            loginThrottle.recordFailure(request.getEmail());
+            throw e;
+        }
+        loginThrottle.recordSuccess(request.getEmail());
 
         // 2. If we reach here, the credentials are correct
         // Find the user in DB
@@ -70,13 +96,25 @@ public class AuthService {
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
 
         // 3. Generate JWT
-        var jwtToken = jwtService.generateToken(user);
+        var authenticated = toAuthenticatedUser(user);
+        var jwtToken = tokenPort.generateToken(authenticated);
 
-        // 4. Return response with the token
+        // 4. Return response with the token and a new refresh token family
         return AuthResponse.builder()
                 .token(jwtToken)
+                .refreshToken(refreshTokenUseCase.issue(authenticated))
                 .build();
     }
-}
-
 
+    /**
+     * Claims de identidad del token (userId, rol y versión de token).
+     */
+    private AuthenticatedUser toAuthenticatedUser(UserJPAEntity user) {
+        return new AuthenticatedUser(
+                user.getUserId(),
+                user.getEmail(),
+                Set.of("ROLE_" + user.getRole().getRoleName()),
+                user.getTokenVersion()
+        );
+    }
+}
@@ -2,9 +2,12 @@ package com.apis.fintrack.infrastructure.security.service;
 
 import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.UserRepository;
 import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.UserJPAEntity;
+import com.apis.fintrack.infrastructure.security.UserDetailsCache;
+import com.apis.fintrack.infrastructure.security.model.FintrackUserDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -13,23 +16,59 @@ import java.util.List;
 
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
 
+    /**
+     * Usuario por email, desde la caché o, si no está, con una sola consulta
+     * que trae también el rol (sin transacción ni carga perezosa).
+     */
     @Override
-    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        UserJPAEntity user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        return userDetailsCache.getByEmail(email, () -> userRepository.findByEmail(email)
+                .map(this::toUserDetails)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found")));
+    }
+
+    public UserDetails loadUserById(Long userId) throws UsernameNotFoundException {
+        return userDetailsCache.getById(userId, () -> userRepository.searchById(userId)
+                .map(this::toUserDetails)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found")));
+    }
+
+    /**
+     * Guarda el nuevo hash de una contraseña ya verificada (coste o algoritmo
+     * desactualizado). No revoca tokens: la contraseña es la misma.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePasswordHash(user.getUsername(), newPassword);
+        if (user instanceof FintrackUserDetails details) {
+            userDetailsCache.evict(details.getUserId());
+            return new FintrackUserDetails(
+                    details.getUserId(),
+                    details.getUsername(),
+                    newPassword,
+                    details.getTokenVersion(),
+                    details.getAuthorities()
+            );
+        }
+        return user;
+    }
 
+    private FintrackUserDetails toUserDetails(UserJPAEntity user) {
         // Cada usuario tiene un solo rol
         String roleName = "ROLE_" + user.getRole().getRoleName();
         SimpleGrantedAuthority authority = new SimpleGrantedAuthority(roleName);
 
-        return new org.springframework.security.core.userdetails.User(
+        return new FintrackUserDetails(
+                user.getUserId(),
                 user.getEmail(),
                 user.getPassword(),
+                user.getTokenVersion(),
                 List.of(authority)
         );
     }
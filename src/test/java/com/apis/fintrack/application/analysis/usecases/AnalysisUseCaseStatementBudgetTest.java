@@ -0,0 +1,112 @@
+package com.apis.fintrack.application.analysis.usecases;
+
+import com.apis.fintrack.application.transaction.usecases.FindTransactionUseCaseImpl;
+import com.apis.fintrack.domain.analysis.model.AnalysisPeriod;
+import com.apis.fintrack.domain.analysis.model.kpi.AnalysisType;
+import com.apis.fintrack.domain.analysis.port.Input.IFinancialAnalysisUseCase;
+import com.apis.fintrack.domain.transaction.model.Transaction;
+import com.apis.fintrack.domain.transaction.model.TransactionCategoryEnum;
+import com.apis.fintrack.domain.user.model.RoleType;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.StatementBudgetTest;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.adapter.TransactionArchiveBoundary;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.adapter.TransactionRepositoryAdapter;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.RoleJPAEntity;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.TransactionJPAEntity;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.UserJPAEntity;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.mapper.TransactionPersistenceMapper;
+import com.apis.fintrack.infrastructure.config.ClockConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.apis.fintrack.infrastructure.adapter.output.persistence.SqlStatementCounter.assertStatements;
+import static com.apis.fintrack.infrastructure.adapter.output.persistence.SqlStatementCounter.reset;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Statement budgets for the analysis use cases that read transactions from
+ * the database, run against the real persistence adapter on the embedded
+ * database. The domain analysis service is mocked.
+ *
+ * Tests cover:
+ * - KPI analysis over a period: the archive probe plus one range select,
+ *   independent of the number of transactions
+ */
+@StatementBudgetTest
+@Import({TransactionRepositoryAdapter.class, TransactionPersistenceMapper.class, TransactionArchiveBoundary.class, ClockConfig.class})
+@DisplayName("Analysis Use Case Statement Budget Tests")
+class AnalysisUseCaseStatementBudgetTest {
+
+    private static final int TRANSACTIONS = 5;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private TransactionRepositoryAdapter transactionRepository;
+
+    private IFinancialAnalysisUseCase financialAnalysisService;
+    private GenerateAnalysisUseCaseImpl generateAnalysisUseCase;
+
+    @BeforeEach
+    void setUp() {
+        financialAnalysisService = mock(IFinancialAnalysisUseCase.class);
+        generateAnalysisUseCase = new GenerateAnalysisUseCaseImpl(
+                new FindTransactionUseCaseImpl(transactionRepository), financialAnalysisService);
+
+        RoleJPAEntity userRole = new RoleJPAEntity();
+        userRole.setRoleName(RoleType.USER);
+        em.persist(userRole);
+        UserJPAEntity user = new UserJPAEntity();
+        user.setName("Ana");
+        user.setSurname("Lopez");
+        user.setEmail("ana@example.com");
+        user.setPassword("$2a$10$abcdefghijklmnopqrstuv");
+        user.setBirthDate(LocalDate.of(1990, 1, 1));
+        user.setAvailableFunds(BigDecimal.ZERO);
+        user.setRole(userRole);
+        em.persist(user);
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            TransactionJPAEntity transaction = new TransactionJPAEntity();
+            transaction.setDescription("Compra " + i);
+            transaction.setAmount(new BigDecimal("-10.00"));
+            transaction.setTransaction_date(LocalDate.now().minusDays(i + 1));
+            transaction.setCategory(TransactionCategoryEnum.values()[i]);
+            transaction.setIncome(false);
+            transaction.setUser(user);
+            em.persist(transaction);
+        }
+
+        em.flush();
+        em.clear();
+        reset();
+    }
+
+    @Test
+    @DisplayName("generateKpi should probe the archive and read the period with one select")
+    @SuppressWarnings("unchecked")
+    void generateKpi_shouldRunTwoSelects() {
+        // Given
+        AnalysisPeriod period = new AnalysisPeriod(LocalDate.now().minusMonths(1), LocalDate.now());
+
+        // When
+        generateAnalysisUseCase.generateKpi(AnalysisType.values()[0], 1L, period);
+
+        // Then
+        ArgumentCaptor<List<Transaction>> transactions = ArgumentCaptor.forClass(List.class);
+        verify(financialAnalysisService).analyze(eq(AnalysisType.values()[0]), transactions.capture());
+        assertEquals(TRANSACTIONS, transactions.getValue().size());
+        assertStatements(2, 0, 0, 0);
+    }
+}
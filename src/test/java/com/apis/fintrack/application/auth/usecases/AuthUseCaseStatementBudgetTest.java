@@ -0,0 +1,107 @@
+package com.apis.fintrack.application.auth.usecases;
+
+import com.apis.fintrack.application.auth.dto.AuthenticatedUser;
+import com.apis.fintrack.application.auth.port.input.LogoutUseCase.LogoutCommand;
+import com.apis.fintrack.application.auth.port.input.RefreshTokenUseCase.RefreshTokenCommand;
+import com.apis.fintrack.application.auth.port.output.AuthenticationPort;
+import com.apis.fintrack.application.auth.port.output.TokenPort;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.StatementBudgetTest;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.adapter.RefreshTokenStoreAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.apis.fintrack.infrastructure.adapter.output.persistence.SqlStatementCounter.assertStatements;
+import static com.apis.fintrack.infrastructure.adapter.output.persistence.SqlStatementCounter.reset;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Statement budgets for the refresh and logout use cases, run against the real
+ * refresh-token store on the embedded database. The user lookup, access-token
+ * revocation and token generation ports are mocked.
+ *
+ * The test transaction never commits, so the store's cache of unused tokens
+ * stays empty and every lookup reaches the table, as on a cache miss.
+ *
+ * Tests cover:
+ * - Refresh: one lookup, one conditional update marking the token used and
+ *   one insert for its successor
+ * - Logout with the refresh token: one lookup and one delete for the family
+ */
+@StatementBudgetTest
+@Import(RefreshTokenStoreAdapter.class)
+@DisplayName("Auth Use Case Statement Budget Tests")
+class AuthUseCaseStatementBudgetTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private RefreshTokenStoreAdapter refreshTokenStore;
+
+    private RefreshTokenUseCaseImpl refreshTokenUseCase;
+    private LogoutUseCaseImpl logoutUseCase;
+    private String refreshToken;
+
+    @BeforeEach
+    void setUp() {
+        AuthenticatedUser user = new AuthenticatedUser(1L, "ana@example.com", Set.of("ROLE_USER"), 0);
+        AuthenticationPort authenticationPort = mock(AuthenticationPort.class);
+        when(authenticationPort.findByUserId(1L)).thenReturn(Optional.of(user));
+        TokenPort tokenPort = mock(TokenPort.class);
+        when(tokenPort.generateToken(any())).thenReturn("access-2");
+        refreshTokenUseCase = new RefreshTokenUseCaseImpl(tokenPort, authenticationPort, refreshTokenStore,
+                Duration.ofDays(14), Duration.ofDays(90), Clock.systemUTC());
+        logoutUseCase = new LogoutUseCaseImpl(authenticationPort, refreshTokenStore);
+
+        refreshToken = refreshTokenUseCase.issue(user);
+        em.flush();
+        em.clear();
+        reset();
+    }
+
+    @Nested
+    @DisplayName("RefreshTokenUseCase Budget Tests")
+    class RefreshBudgetTests {
+
+        @Test
+        @DisplayName("refresh should read the token once, mark it used and insert its successor")
+        void refresh_shouldRunOneSelectOneUpdateAndOneInsert() {
+            // When
+            String rotated = refreshTokenUseCase.refresh(new RefreshTokenCommand(refreshToken)).refreshToken();
+            em.flush();
+
+            // Then
+            assertNotEquals(refreshToken, rotated);
+            assertStatements(1, 1, 1, 0);
+        }
+    }
+
+    @Nested
+    @DisplayName("LogoutUseCase Budget Tests")
+    class LogoutBudgetTests {
+
+        @Test
+        @DisplayName("logout should read the refresh token once and delete its family in one statement")
+        void logout_withRefreshToken_shouldRunOneSelectAndOneDelete() {
+            // When
+            logoutUseCase.logout(new LogoutCommand("access-1", refreshToken));
+            em.flush();
+
+            // Then
+            assertStatements(1, 0, 0, 1);
+        }
+    }
+}
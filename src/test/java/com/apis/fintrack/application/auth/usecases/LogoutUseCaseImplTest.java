@@ -0,0 +1,145 @@
+package com.apis.fintrack.application.auth.usecases;
+
+import com.apis.fintrack.application.auth.dto.AuthenticatedUser;
+import com.apis.fintrack.application.auth.dto.StoredRefreshToken;
+import com.apis.fintrack.application.auth.exception.AuthenticationFailedException;
+import com.apis.fintrack.application.auth.port.input.LogoutUseCase.LogoutCommand;
+import com.apis.fintrack.application.auth.port.input.RefreshTokenUseCase.RefreshTokenCommand;
+import com.apis.fintrack.application.auth.port.output.AuthenticationPort;
+import com.apis.fintrack.application.auth.port.output.RefreshTokenStorePort;
+import com.apis.fintrack.application.auth.port.output.TokenPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for LogoutUseCaseImpl.
+ *
+ * Tests cover:
+ * - Access token revocation delegated to AuthenticationPort
+ * - Refresh-token family revoked when the refresh token is presented
+ * - Refresh rejected after logging out
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LogoutUseCaseImpl Tests")
+class LogoutUseCaseImplTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T12:00:00Z");
+
+    @Mock
+    private TokenPort tokenPort;
+
+    @Mock
+    private AuthenticationPort authenticationPort;
+
+    private InMemoryRefreshTokenStore refreshTokenStore;
+    private LogoutUseCaseImpl logoutUseCase;
+    private RefreshTokenUseCaseImpl refreshTokenUseCase;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenStore = new InMemoryRefreshTokenStore();
+        logoutUseCase = new LogoutUseCaseImpl(authenticationPort, refreshTokenStore);
+        refreshTokenUseCase = new RefreshTokenUseCaseImpl(tokenPort, authenticationPort, refreshTokenStore,
+                Duration.ofDays(14), Duration.ofDays(90), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private static AuthenticatedUser user() {
+        return new AuthenticatedUser(1L, "user@example.com", Set.of("ROLE_USER"), 0);
+    }
+
+    @Test
+    @DisplayName("Should only revoke the access token when no refresh token is presented")
+    void logout_withoutRefreshToken_shouldKeepFamily() {
+        // Given
+        String refreshToken = refreshTokenUseCase.issue(user());
+
+        // When
+        logoutUseCase.logout(new LogoutCommand("access-1"));
+
+        // Then
+        verify(authenticationPort).logout("access-1");
+        assertTrue(refreshTokenStore.find(refreshToken).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should ignore an unknown refresh token")
+    void logout_withUnknownRefreshToken_shouldSucceed() {
+        // When / Then
+        assertDoesNotThrow(() -> logoutUseCase.logout(new LogoutCommand("access-1", "unknown")));
+        verify(authenticationPort).logout("access-1");
+    }
+
+    @Test
+    @DisplayName("Should reject a refresh after logging out, also for tokens rotated earlier")
+    void logout_withRefreshToken_shouldRevokeFamily() {
+        // Given: the session already rotated its refresh token once
+        when(authenticationPort.findByUserId(1L)).thenReturn(Optional.of(user()));
+        when(tokenPort.generateToken(any())).thenReturn("access-2");
+        String first = refreshTokenUseCase.issue(user());
+        String second = refreshTokenUseCase.refresh(new RefreshTokenCommand(first)).refreshToken();
+
+        // When
+        logoutUseCase.logout(new LogoutCommand("access-2", second));
+
+        // Then
+        verify(authenticationPort).logout("access-2");
+        assertThrows(AuthenticationFailedException.class,
+                () -> refreshTokenUseCase.refresh(new RefreshTokenCommand(second)));
+        assertThrows(AuthenticationFailedException.class,
+                () -> refreshTokenUseCase.refresh(new RefreshTokenCommand(first)));
+    }
+
+    /**
+     * Minimal store with the same semantics as the persistence adapter.
+     */
+    private static final class InMemoryRefreshTokenStore implements RefreshTokenStorePort {
+
+        private final Map<String, StoredRefreshToken> tokens = new HashMap<>();
+        private int sequence;
+
+        @Override
+        public String create(StoredRefreshToken token) {
+            String value = "refresh-" + (++sequence);
+            tokens.put(value, token);
+            return value;
+        }
+
+        @Override
+        public Optional<StoredRefreshToken> find(String refreshToken) {
+            return Optional.ofNullable(tokens.get(refreshToken));
+        }
+
+        @Override
+        public boolean markUsed(String refreshToken) {
+            StoredRefreshToken token = tokens.get(refreshToken);
+            if (token == null || token.used()) {
+                return false;
+            }
+            tokens.put(refreshToken, new StoredRefreshToken(token.userId(), token.familyId(), token.tokenVersion(),
+                    token.expiresAt(), token.familyExpiresAt(), true));
+            return true;
+        }
+
+        @Override
+        public void revokeFamily(String familyId) {
+            tokens.values().removeIf(token -> token.familyId().equals(familyId));
+        }
+    }
+}
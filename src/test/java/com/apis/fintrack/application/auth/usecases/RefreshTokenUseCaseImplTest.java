@@ -0,0 +1,179 @@
+package com.apis.fintrack.application.auth.usecases;
+
+import com.apis.fintrack.application.auth.dto.AuthenticatedUser;
+import com.apis.fintrack.application.auth.dto.StoredRefreshToken;
+import com.apis.fintrack.application.auth.exception.AuthenticationFailedException;
+import com.apis.fintrack.application.auth.port.input.RefreshTokenUseCase.RefreshTokenCommand;
+import com.apis.fintrack.application.auth.port.input.RefreshTokenUseCase.RefreshTokenResult;
+import com.apis.fintrack.application.auth.port.output.AuthenticationPort;
+import com.apis.fintrack.application.auth.port.output.RefreshTokenStorePort;
+import com.apis.fintrack.application.auth.port.output.TokenPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RefreshTokenUseCaseImpl.
+ *
+ * Tests cover:
+ * - Issuing the first token of a family
+ * - Rotation with sliding expiry capped by the family expiry
+ * - Reuse detection revoking the whole family
+ * - Expired tokens and tokens of revoked users
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenUseCaseImpl Tests")
+class RefreshTokenUseCaseImplTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T12:00:00Z");
+    private static final Duration SLIDING = Duration.ofDays(14);
+    private static final Duration ABSOLUTE = Duration.ofDays(90);
+    private static final String FAMILY = "family-1";
+
+    @Mock
+    private TokenPort tokenPort;
+
+    @Mock
+    private AuthenticationPort authenticationPort;
+
+    @Mock
+    private RefreshTokenStorePort refreshTokenStore;
+
+    private RefreshTokenUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new RefreshTokenUseCaseImpl(tokenPort, authenticationPort, refreshTokenStore,
+                SLIDING, ABSOLUTE, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private static AuthenticatedUser user(int tokenVersion) {
+        return new AuthenticatedUser(1L, "user@example.com", Set.of("ROLE_USER"), tokenVersion);
+    }
+
+    private static StoredRefreshToken stored(Instant expiresAt, Instant familyExpiresAt, boolean used) {
+        return new StoredRefreshToken(1L, FAMILY, 0, expiresAt, familyExpiresAt, used);
+    }
+
+    @Test
+    @DisplayName("Should issue an unused token in a new family")
+    void issue_shouldCreateNewFamily() {
+        // Given
+        when(refreshTokenStore.create(any())).thenReturn("refresh-1");
+
+        // When
+        String token = useCase.issue(user(0));
+
+        // Then
+        ArgumentCaptor<StoredRefreshToken> captor = ArgumentCaptor.forClass(StoredRefreshToken.class);
+        verify(refreshTokenStore).create(captor.capture());
+        assertEquals("refresh-1", token);
+        assertEquals(NOW.plus(SLIDING), captor.getValue().expiresAt());
+        assertEquals(NOW.plus(ABSOLUTE), captor.getValue().familyExpiresAt());
+        assertFalse(captor.getValue().used());
+    }
+
+    @Nested
+    @DisplayName("refresh Tests")
+    class RefreshTests {
+
+        @Test
+        @DisplayName("Should rotate the token and issue a new access token")
+        void refresh_withValidToken_shouldRotate() {
+            // Given
+            Instant familyExpiry = NOW.plus(Duration.ofDays(5));
+            when(refreshTokenStore.find("refresh-1"))
+                    .thenReturn(Optional.of(stored(NOW.plusSeconds(60), familyExpiry, false)));
+            when(authenticationPort.findByUserId(1L)).thenReturn(Optional.of(user(0)));
+            when(refreshTokenStore.markUsed("refresh-1")).thenReturn(true);
+            when(refreshTokenStore.create(any())).thenReturn("refresh-2");
+            when(tokenPort.generateToken(any())).thenReturn("access-2");
+
+            // When
+            RefreshTokenResult result = useCase.refresh(new RefreshTokenCommand("refresh-1"));
+
+            // Then
+            assertEquals("access-2", result.accessToken());
+            assertEquals("refresh-2", result.refreshToken());
+            ArgumentCaptor<StoredRefreshToken> captor = ArgumentCaptor.forClass(StoredRefreshToken.class);
+            verify(refreshTokenStore).create(captor.capture());
+            assertEquals(FAMILY, captor.getValue().familyId());
+            // The sliding expiry never outlives the family
+            assertEquals(familyExpiry, captor.getValue().expiresAt());
+        }
+
+        @Test
+        @DisplayName("Should revoke the family when a used token is presented again")
+        void refresh_withUsedToken_shouldRevokeFamily() {
+            // Given
+            when(refreshTokenStore.find("refresh-1"))
+                    .thenReturn(Optional.of(stored(NOW.plusSeconds(60), NOW.plus(ABSOLUTE), true)));
+
+            // When / Then
+            assertThrows(AuthenticationFailedException.class,
+                    () -> useCase.refresh(new RefreshTokenCommand("refresh-1")));
+            verify(refreshTokenStore).revokeFamily(FAMILY);
+            verify(tokenPort, never()).generateToken(any());
+        }
+
+        @Test
+        @DisplayName("Should revoke the family when another request used the token first")
+        void refresh_whenMarkUsedLoses_shouldRevokeFamily() {
+            // Given
+            when(refreshTokenStore.find("refresh-1"))
+                    .thenReturn(Optional.of(stored(NOW.plusSeconds(60), NOW.plus(ABSOLUTE), false)));
+            when(authenticationPort.findByUserId(1L)).thenReturn(Optional.of(user(0)));
+            when(refreshTokenStore.markUsed("refresh-1")).thenReturn(false);
+
+            // When / Then
+            assertThrows(AuthenticationFailedException.class,
+                    () -> useCase.refresh(new RefreshTokenCommand("refresh-1")));
+            verify(refreshTokenStore).revokeFamily(FAMILY);
+            verify(refreshTokenStore, never()).create(any());
+        }
+
+        @Test
+        @DisplayName("Should reject an expired token without rotating it")
+        void refresh_withExpiredToken_shouldThrow() {
+            // Given
+            when(refreshTokenStore.find("refresh-1"))
+                    .thenReturn(Optional.of(stored(NOW, NOW.plus(ABSOLUTE), false)));
+
+            // When / Then
+            assertThrows(AuthenticationFailedException.class,
+                    () -> useCase.refresh(new RefreshTokenCommand("refresh-1")));
+            verify(refreshTokenStore, never()).markUsed(any());
+        }
+
+        @Test
+        @DisplayName("Should reject families created before the user's last revocation")
+        void refresh_withOutdatedTokenVersion_shouldRevokeFamily() {
+            // Given
+            when(refreshTokenStore.find("refresh-1"))
+                    .thenReturn(Optional.of(stored(NOW.plusSeconds(60), NOW.plus(ABSOLUTE), false)));
+            when(authenticationPort.findByUserId(1L)).thenReturn(Optional.of(user(1)));
+
+            // When / Then
+            assertThrows(AuthenticationFailedException.class,
+                    () -> useCase.refresh(new RefreshTokenCommand("refresh-1")));
+            verify(refreshTokenStore).revokeFamily(FAMILY);
+            verify(refreshTokenStore, never()).markUsed(any());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.apis.fintrack.application.subscription.usecases;
+
+import com.apis.fintrack.domain.payment.model.PaymentMethodType;
+import com.apis.fintrack.domain.payment.model.PaymentStatus;
+import com.apis.fintrack.domain.subscription.model.Subscription;
+import com.apis.fintrack.domain.subscription.model.SubscriptionType;
+import com.apis.fintrack.domain.user.model.RoleType;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.StatementBudgetTest;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.adapter.SubscriptionRepositoryAdapter;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.PaymentJPAEntity;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.RoleJPAEntity;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.SubscriptionJPAEntity;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.UserJPAEntity;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.mapper.PaymentPersistenceMapper;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.mapper.SubscriptionPersistenceMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static com.apis.fintrack.infrastructure.adapter.output.persistence.SqlStatementCounter.assertStatements;
+import static com.apis.fintrack.infrastructure.adapter.output.persistence.SqlStatementCounter.reset;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statement budgets for the subscription use cases, run against the real
+ * persistence adapter on the embedded database.
+ *
+ * Only the read path is budgeted. Saving a subscription (update, cancel and
+ * the payment events handled by HandlePaymentEventUseCaseImpl) does not
+ * complete on the embedded database yet: the role and user entities print
+ * each other in toString, so the save overflows the stack. Those budgets are
+ * added once the save path works.
+ *
+ * Tests cover:
+ * - Lookup of a subscription by id
+ */
+@StatementBudgetTest
+@Import({
+        SubscriptionRepositoryAdapter.class,
+        SubscriptionPersistenceMapper.class,
+        PaymentPersistenceMapper.class
+})
+@DisplayName("Subscription Use Case Statement Budget Tests")
+class SubscriptionUseCaseStatementBudgetTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private SubscriptionRepositoryAdapter subscriptionRepository;
+
+    private FindSubscriptionUseCaseImpl findSubscriptionUseCase;
+    private Long subscriptionId;
+
+    @BeforeEach
+    void setUp() {
+        findSubscriptionUseCase = new FindSubscriptionUseCaseImpl(subscriptionRepository);
+
+        RoleJPAEntity userRole = new RoleJPAEntity();
+        userRole.setRoleName(RoleType.USER);
+        em.persist(userRole);
+        UserJPAEntity user = new UserJPAEntity();
+        user.setName("Ana");
+        user.setSurname("Lopez");
+        user.setEmail("ana@example.com");
+        user.setPassword("$2a$10$abcdefghijklmnopqrstuv");
+        user.setBirthDate(LocalDate.of(1990, 1, 1));
+        user.setAvailableFunds(BigDecimal.ZERO);
+        user.setRole(userRole);
+        em.persist(user);
+
+        SubscriptionJPAEntity subscription = new SubscriptionJPAEntity();
+        subscription.setCostumer(user);
+        subscription.setPrice(new BigDecimal("9.99"));
+        subscription.setSubscriptionDate(LocalDateTime.of(2024, 1, 1, 0, 0));
+        subscription.setStatus(SubscriptionType.MONTHLY);
+        subscription.setActive(true);
+        subscriptionId = em.persist(subscription).getId();
+        for (int p = 0; p < 2; p++) {
+            PaymentJPAEntity payment = new PaymentJPAEntity();
+            payment.setCostumer(user);
+            payment.setSubscription(subscription);
+            payment.setMethodType(PaymentMethodType.CREDIT_CARD);
+            payment.setStatus(PaymentStatus.SUCCEEDED);
+            payment.setPaymentDate(LocalDateTime.of(2024, 1 + p, 1, 0, 0));
+            em.persist(payment);
+        }
+
+        em.flush();
+        em.clear();
+        reset();
+    }
+
+    @Nested
+    @DisplayName("FindSubscriptionUseCase Budget Tests")
+    class FindSubscriptionBudgetTests {
+
+        @Test
+        @DisplayName("findById should run one select and one payments load, without a count for a partial page")
+        void findById_shouldRunSelectAndPaymentsBatch() {
+            // When
+            Optional<Subscription> subscription = findSubscriptionUseCase.findById(subscriptionId);
+
+            // Then
+            assertTrue(subscription.isPresent());
+            assertEquals(2, subscription.get().getPayments().size());
+            assertStatements(2, 0, 0, 0);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.apis.fintrack.application.transaction.ingestion;
+
+import com.apis.fintrack.domain.transaction.exception.IngestionOverloadedException;
+import com.apis.fintrack.domain.transaction.model.Transaction;
+import com.apis.fintrack.domain.transaction.model.TransactionCategoryEnum;
+import com.apis.fintrack.domain.transaction.port.input.CreateTransactionUseCase;
+import com.apis.fintrack.domain.transaction.port.input.CreateTransactionUseCase.CreateTransactionCommand;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GroupCommitTransactionIngestion.
+ *
+ * Tests cover:
+ * - Several submissions committed together in one executeAll call
+ * - Per-row fallback when the batch fails
+ * - Backpressure when the queue is full
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GroupCommitTransactionIngestion Tests")
+class GroupCommitTransactionIngestionTest {
+
+    @Mock
+    private CreateTransactionUseCase createTransactionUseCase;
+
+    private GroupCommitTransactionIngestion ingestion;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (ingestion != null) {
+            ingestion.shutdown();
+        }
+    }
+
+    private GroupCommitTransactionIngestion ingestion(int queueCapacity, long maxDelayMillis) {
+        return new GroupCommitTransactionIngestion(createTransactionUseCase, new SimpleMeterRegistry(),
+                queueCapacity, 10, maxDelayMillis, 50);
+    }
+
+    private static CreateTransactionCommand command(String description) {
+        return new CreateTransactionCommand(description, new BigDecimal("10.00"), false,
+                TransactionCategoryEnum.ALIMENTATION, LocalDate.of(2024, 1, 15), 1L);
+    }
+
+    @Test
+    @DisplayName("Should commit submissions arriving within the delay window as one batch")
+    void submit_withinDelayWindow_shouldCommitOneBatch() {
+        // Given
+        Transaction first = mock(Transaction.class);
+        Transaction second = mock(Transaction.class);
+        when(createTransactionUseCase.executeAll(anyList())).thenReturn(List.of(first, second));
+        ingestion = ingestion(100, 500);
+
+        // When
+        CompletableFuture<Transaction> f1 = ingestion.submit(command("Coffee"));
+        CompletableFuture<Transaction> f2 = ingestion.submit(command("Coffee"));
+
+        // Then
+        assertSame(first, f1.join());
+        assertSame(second, f2.join());
+        verify(createTransactionUseCase).executeAll(argThat(batch -> batch.size() == 2));
+        verify(createTransactionUseCase, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("Should retry row by row and fail only the offending row when the batch fails")
+    void submit_whenBatchFails_shouldFallBackToSingleRows() {
+        // Given
+        CreateTransactionCommand good = command("Groceries");
+        CreateTransactionCommand bad = command("Broken");
+        Transaction created = mock(Transaction.class);
+        when(createTransactionUseCase.executeAll(anyList())).thenThrow(new IllegalArgumentException("invalid"));
+        when(createTransactionUseCase.execute(good)).thenReturn(created);
+        when(createTransactionUseCase.execute(bad)).thenThrow(new IllegalArgumentException("invalid"));
+        ingestion = ingestion(100, 500);
+
+        // When
+        CompletableFuture<Transaction> okFuture = ingestion.submit(good);
+        CompletableFuture<Transaction> badFuture = ingestion.submit(bad);
+
+        // Then
+        assertSame(created, okFuture.join());
+        CompletionException ex = assertThrows(CompletionException.class, badFuture::join);
+        assertInstanceOf(IllegalArgumentException.class, ex.getCause());
+    }
+
+    @Test
+    @DisplayName("Should reject submissions with IngestionOverloadedException when the queue is full")
+    void submit_withFullQueue_shouldThrowOverloaded() throws InterruptedException {
+        // Given: the flusher is blocked inside the first batch
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch flushing = new CountDownLatch(1);
+        when(createTransactionUseCase.executeAll(anyList())).thenAnswer(inv -> {
+            flushing.countDown();
+            release.await();
+            return List.of(mock(Transaction.class));
+        });
+        ingestion = ingestion(1, 0);
+        ingestion.submit(command("Coffee"));
+        assertTrue(flushing.await(5, TimeUnit.SECONDS));
+        ingestion.submit(command("Coffee"));
+
+        // When / Then
+        assertThrows(IngestionOverloadedException.class, () -> ingestion.submit(command("Coffee")));
+        release.countDown();
+    }
+}
@@ -0,0 +1,85 @@
+package com.apis.fintrack.application.transaction.usecases;
+
+import com.apis.fintrack.domain.transaction.port.input.ArchiveTransactionsUseCase.ArchiveResult;
+import com.apis.fintrack.domain.transaction.port.output.TransactionArchivePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ArchiveTransactionsUseCaseImpl.
+ *
+ * Tests cover:
+ * - Month-aligned cutoff derived from the horizon
+ * - Batching until a short batch signals the end
+ * - Validation of the configuration
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArchiveTransactionsUseCaseImpl Tests")
+class ArchiveTransactionsUseCaseImplTest {
+
+    private static final int HORIZON_MONTHS = 13;
+    private static final int BATCH_SIZE = 100;
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-03-31T22:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private TransactionArchivePort transactionArchive;
+
+    private ArchiveTransactionsUseCaseImpl archiveTransactionsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        archiveTransactionsUseCase = new ArchiveTransactionsUseCaseImpl(transactionArchive, HORIZON_MONTHS, BATCH_SIZE, CLOCK);
+    }
+
+    @Test
+    @DisplayName("Should archive in batches until a batch comes back short")
+    void execute_withSeveralBatches_shouldLoopUntilShortBatch() {
+        // Given
+        when(transactionArchive.archiveBatch(any(LocalDate.class), eq(BATCH_SIZE)))
+            .thenReturn(BATCH_SIZE, BATCH_SIZE, 42);
+
+        // When
+        ArchiveResult result = archiveTransactionsUseCase.execute();
+
+        // Then
+        assertEquals(2 * BATCH_SIZE + 42, result.archived());
+        verify(transactionArchive, times(3)).archiveBatch(result.cutoff(), BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should use the first day of the month at the horizon as cutoff")
+    void execute_shouldUseMonthAlignedCutoff() {
+        // Given
+        when(transactionArchive.archiveBatch(any(LocalDate.class), anyInt())).thenReturn(0);
+
+        // When
+        ArchiveResult result = archiveTransactionsUseCase.execute();
+
+        // Then
+        LocalDate expected = LocalDate.of(2024, 2, 1);
+        assertEquals(expected, result.cutoff());
+        assertEquals(0, result.archived());
+        verify(transactionArchive, times(1)).archiveBatch(expected, BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should reject a horizon shorter than one month")
+    void constructor_withInvalidHorizon_shouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new ArchiveTransactionsUseCaseImpl(transactionArchive, 0, BATCH_SIZE, CLOCK));
+    }
+}
@@ -0,0 +1,113 @@
+package com.apis.fintrack.application.transaction.usecases;
+
+import com.apis.fintrack.domain.transaction.model.*;
+import com.apis.fintrack.domain.transaction.port.input.FilterTransactionUseCase.TransactionKeysetPage;
+import com.apis.fintrack.domain.transaction.port.output.TransactionRepositoryPort;
+import com.apis.fintrack.domain.user.model.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for FilterTransactionUseCaseImpl.
+ *
+ * Tests cover:
+ * - Keyset cursor derived from the last row of a full page
+ * - Last page detection without a count query
+ * - Validation of inconsistent criteria
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FilterTransactionUseCaseImpl Tests")
+class FilterTransactionUseCaseImplTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+    @Mock
+    private TransactionRepositoryPort transactionRepository;
+
+    private FilterTransactionUseCaseImpl filterTransactionUseCase;
+
+    @BeforeEach
+    void setUp() {
+        filterTransactionUseCase = new FilterTransactionUseCaseImpl(transactionRepository);
+    }
+
+    private static TransactionFilter filterForUser() {
+        return new TransactionFilter(USER_ID, null, null, null, null, null, null, null, null, null);
+    }
+
+    private static Transaction transaction(long id, LocalDate date) {
+        return new Transaction(
+            TransactionId.of(id),
+            Description.of("Compra " + id),
+            TransactionAmount.fromStorage(new BigDecimal("-10.00")),
+            TransactionDate.fromStorage(date),
+            Category.of(TransactionCategoryEnum.ALIMENTATION),
+            UserId.of(USER_ID)
+        );
+    }
+
+    @Test
+    @DisplayName("Should fetch one extra row and expose the cursor of the last returned row")
+    void filter_withMoreRowsThanPageSize_shouldReturnCursor() {
+        // Given
+        TransactionFilter filter = filterForUser();
+        when(transactionRepository.findByFilter(filter, 3)).thenReturn(List.of(
+            transaction(9L, DAY), transaction(7L, DAY), transaction(5L, DAY.minusDays(1))
+        ));
+
+        // When
+        TransactionKeysetPage page = filterTransactionUseCase.filter(filter, 2);
+
+        // Then
+        assertEquals(2, page.content().size());
+        assertTrue(page.hasMore());
+        assertEquals(DAY, page.nextAfterDate());
+        assertEquals(7L, page.nextAfterId());
+    }
+
+    @Test
+    @DisplayName("Should mark the last page when fewer rows than requested come back")
+    void filter_withLastPage_shouldHaveNoCursor() {
+        // Given
+        TransactionFilter filter = filterForUser();
+        when(transactionRepository.findByFilter(filter, 3)).thenReturn(List.of(transaction(9L, DAY)));
+
+        // When
+        TransactionKeysetPage page = filterTransactionUseCase.filter(filter, 2);
+
+        // Then
+        assertEquals(1, page.content().size());
+        assertFalse(page.hasMore());
+        assertNull(page.nextAfterDate());
+        assertNull(page.nextAfterId());
+    }
+
+    @Test
+    @DisplayName("Should reject inverted ranges and half cursors without querying")
+    void filter_withInconsistentCriteria_shouldThrow() {
+        TransactionFilter invertedDates = new TransactionFilter(USER_ID, null, DAY, DAY.minusDays(1),
+            null, null, null, null, null, null);
+        TransactionFilter invertedAmounts = new TransactionFilter(USER_ID, null, null, null,
+            BigDecimal.TEN, BigDecimal.ONE, null, null, null, null);
+        TransactionFilter halfCursor = new TransactionFilter(USER_ID, null, null, null,
+            null, null, null, null, DAY, null);
+
+        assertThrows(IllegalArgumentException.class, () -> filterTransactionUseCase.filter(invertedDates, 10));
+        assertThrows(IllegalArgumentException.class, () -> filterTransactionUseCase.filter(invertedAmounts, 10));
+        assertThrows(IllegalArgumentException.class, () -> filterTransactionUseCase.filter(halfCursor, 10));
+        assertThrows(IllegalArgumentException.class, () -> filterTransactionUseCase.filter(filterForUser(), 0));
+        verifyNoInteractions(transactionRepository);
+    }
+}
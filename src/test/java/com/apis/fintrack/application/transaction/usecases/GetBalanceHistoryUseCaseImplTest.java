@@ -0,0 +1,79 @@
+package com.apis.fintrack.application.transaction.usecases;
+
+import com.apis.fintrack.domain.transaction.exception.InvalidDateRangeException;
+import com.apis.fintrack.domain.transaction.port.output.BalanceHistoryPort;
+import com.apis.fintrack.domain.user.model.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GetBalanceHistoryUseCaseImpl.
+ *
+ * Tests cover:
+ * - Balance curve delegated to the index within the maximum span
+ * - Rejection of inverted and oversized ranges before touching the index
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetBalanceHistoryUseCaseImpl Tests")
+class GetBalanceHistoryUseCaseImplTest {
+
+    private static final Long USER_ID = 1L;
+    private static final int MAX_CURVE_DAYS = 31;
+    private static final LocalDate START = LocalDate.of(2025, 3, 1);
+
+    @Mock
+    private BalanceHistoryPort balanceHistoryPort;
+
+    private GetBalanceHistoryUseCaseImpl getBalanceHistoryUseCase;
+
+    @BeforeEach
+    void setUp() {
+        getBalanceHistoryUseCase = new GetBalanceHistoryUseCaseImpl(balanceHistoryPort, MAX_CURVE_DAYS);
+    }
+
+    @Test
+    @DisplayName("Should return the curve for a range at the maximum span")
+    void getBalanceCurve_atMaximumSpan_shouldDelegate() {
+        // Given
+        LocalDate end = START.plusDays(MAX_CURVE_DAYS);
+        SortedMap<LocalDate, BigDecimal> curve = new TreeMap<>();
+        curve.put(START, new BigDecimal("10.00"));
+        when(balanceHistoryPort.balanceCurve(UserId.of(USER_ID), START, end)).thenReturn(curve);
+
+        // When
+        SortedMap<LocalDate, BigDecimal> result = getBalanceHistoryUseCase.getBalanceCurve(USER_ID, START, end);
+
+        // Then
+        assertSame(curve, result);
+    }
+
+    @Test
+    @DisplayName("Should reject a range longer than the maximum span")
+    void getBalanceCurve_overMaximumSpan_shouldThrow() {
+        // When / Then
+        assertThrows(InvalidDateRangeException.class,
+                () -> getBalanceHistoryUseCase.getBalanceCurve(USER_ID, START, START.plusDays(MAX_CURVE_DAYS + 1)));
+        verifyNoInteractions(balanceHistoryPort);
+    }
+
+    @Test
+    @DisplayName("Should reject a start after the end")
+    void getBalanceCurve_withInvertedRange_shouldThrow() {
+        // When / Then
+        assertThrows(InvalidDateRangeException.class,
+                () -> getBalanceHistoryUseCase.getBalanceCurve(USER_ID, START, START.minusDays(1)));
+        verifyNoInteractions(balanceHistoryPort);
+    }
+}
@@ -0,0 +1,81 @@
+package com.apis.fintrack.application.transaction.usecases;
+
+import com.apis.fintrack.domain.transaction.exception.InvalidDateRangeException;
+import com.apis.fintrack.domain.transaction.model.RecurrencePeriod;
+import com.apis.fintrack.domain.transaction.model.RecurringSeries;
+import com.apis.fintrack.domain.transaction.port.input.GetUpcomingChargesUseCase.UpcomingCharge;
+import com.apis.fintrack.domain.transaction.port.output.RecurringSeriesPort;
+import com.apis.fintrack.domain.user.model.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GetUpcomingChargesUseCaseImpl.
+ *
+ * Tests cover:
+ * - Projection of a monthly series within the requested range
+ * - Rejection of inverted ranges and ranges past the configured horizon
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetUpcomingChargesUseCaseImpl Tests")
+class GetUpcomingChargesUseCaseImplTest {
+
+    private static final Long USER_ID = 1L;
+    private static final int MAX_RANGE_DAYS = 90;
+    private static final LocalDate FROM = LocalDate.of(2025, 3, 1);
+
+    @Mock
+    private RecurringSeriesPort recurringSeries;
+
+    private GetUpcomingChargesUseCaseImpl getUpcomingChargesUseCase;
+
+    @BeforeEach
+    void setUp() {
+        getUpcomingChargesUseCase = new GetUpcomingChargesUseCaseImpl(recurringSeries, MAX_RANGE_DAYS);
+    }
+
+    @Test
+    @DisplayName("Should project every monthly charge inside the range")
+    void getUpcoming_withMonthlySeries_shouldProjectCharges() {
+        // Given
+        when(recurringSeries.findRecurring(UserId.of(USER_ID))).thenReturn(List.of(
+                new RecurringSeries("netflix", new BigDecimal("-12.99"), RecurrencePeriod.MONTHLY,
+                        LocalDate.of(2025, 2, 15), 6)));
+
+        // When
+        List<UpcomingCharge> charges = getUpcomingChargesUseCase.getUpcoming(USER_ID, FROM, FROM.plusDays(MAX_RANGE_DAYS));
+
+        // Then
+        assertEquals(List.of(LocalDate.of(2025, 3, 15), LocalDate.of(2025, 4, 15), LocalDate.of(2025, 5, 15)),
+                charges.stream().map(UpcomingCharge::expectedDate).toList());
+    }
+
+    @Test
+    @DisplayName("Should reject a range past the configured horizon")
+    void getUpcoming_overMaximumRange_shouldThrow() {
+        // When / Then
+        assertThrows(InvalidDateRangeException.class,
+                () -> getUpcomingChargesUseCase.getUpcoming(USER_ID, FROM, FROM.plusDays(MAX_RANGE_DAYS + 1)));
+        verifyNoInteractions(recurringSeries);
+    }
+
+    @Test
+    @DisplayName("Should reject a start after the end")
+    void getUpcoming_withInvertedRange_shouldThrow() {
+        // When / Then
+        assertThrows(InvalidDateRangeException.class,
+                () -> getUpcomingChargesUseCase.getUpcoming(USER_ID, FROM, FROM.minusDays(1)));
+        verifyNoInteractions(recurringSeries);
+    }
+}
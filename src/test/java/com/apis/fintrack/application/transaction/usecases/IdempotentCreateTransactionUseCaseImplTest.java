@@ -0,0 +1,163 @@
+package com.apis.fintrack.application.transaction.usecases;
+
+import com.apis.fintrack.domain.transaction.exception.DuplicateIdempotencyKeyException;
+import com.apis.fintrack.domain.transaction.exception.IdempotencyKeyReuseException;
+import com.apis.fintrack.domain.transaction.model.IdempotencyRecord;
+import com.apis.fintrack.domain.transaction.model.Transaction;
+import com.apis.fintrack.domain.transaction.model.TransactionCategoryEnum;
+import com.apis.fintrack.domain.transaction.port.input.CreateTransactionUseCase;
+import com.apis.fintrack.domain.transaction.port.input.CreateTransactionUseCase.CreateTransactionCommand;
+import com.apis.fintrack.domain.transaction.port.input.IdempotentCreateTransactionUseCase.IdempotentCreation;
+import com.apis.fintrack.domain.transaction.port.output.IdempotencyKeyPort;
+import com.apis.fintrack.domain.user.model.UserId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for IdempotentCreateTransactionUseCaseImpl.
+ *
+ * Tests cover:
+ * - First request creates, retries replay the stored result
+ * - Same key with a different payload is rejected
+ * - Losing a cross-instance race returns the winner's result
+ * - Concurrent requests with the same key execute once
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotentCreateTransactionUseCaseImpl Tests")
+class IdempotentCreateTransactionUseCaseImplTest {
+
+    private static final String KEY = "3f1c9a3e-retry";
+    private static final UserId USER = UserId.of(1L);
+
+    @Mock
+    private CreateTransactionUseCase createTransactionUseCase;
+
+    @Mock
+    private IdempotencyKeyPort idempotencyKeys;
+
+    private IdempotentCreateTransactionUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new IdempotentCreateTransactionUseCaseImpl(createTransactionUseCase, idempotencyKeys);
+    }
+
+    private static CreateTransactionCommand command(String amount) {
+        return new CreateTransactionCommand("Supermarket", new BigDecimal(amount), false,
+                TransactionCategoryEnum.ALIMENTATION, LocalDate.of(2024, 3, 10), 1L);
+    }
+
+    @Test
+    @DisplayName("Should create the transaction when the key is new")
+    void create_withNewKey_shouldExecuteOnce() {
+        // Given
+        CreateTransactionCommand command = command("25.00");
+        Transaction created = mock(Transaction.class);
+        when(idempotencyKeys.find(USER, KEY)).thenReturn(Optional.empty());
+        when(createTransactionUseCase.executeIdempotent(eq(command), eq(KEY), anyString())).thenReturn(created);
+
+        // When
+        IdempotentCreation result = useCase.create(KEY, command);
+
+        // Then
+        assertSame(created, result.transaction());
+        assertFalse(result.replayed());
+    }
+
+    @Test
+    @DisplayName("Should replay the stored transaction without executing again")
+    void create_withStoredKey_shouldReplay() {
+        // Given
+        CreateTransactionCommand command = command("25.00");
+        Transaction original = mock(Transaction.class);
+        String hash = IdempotentCreateTransactionUseCaseImpl.requestHash(command("25"));
+        when(idempotencyKeys.find(USER, KEY)).thenReturn(Optional.of(new IdempotencyRecord(hash, original)));
+
+        // When
+        IdempotentCreation result = useCase.create(KEY, command);
+
+        // Then
+        assertSame(original, result.transaction());
+        assertTrue(result.replayed());
+        verifyNoInteractions(createTransactionUseCase);
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused with a different request")
+    void create_withStoredKeyAndDifferentPayload_shouldThrow() {
+        // Given
+        String otherHash = IdempotentCreateTransactionUseCaseImpl.requestHash(command("99.00"));
+        when(idempotencyKeys.find(USER, KEY))
+            .thenReturn(Optional.of(new IdempotencyRecord(otherHash, mock(Transaction.class))));
+
+        // When / Then
+        assertThrows(IdempotencyKeyReuseException.class, () -> useCase.create(KEY, command("25.00")));
+        verifyNoInteractions(createTransactionUseCase);
+    }
+
+    @Test
+    @DisplayName("Should return the winner's transaction when another instance stored the key first")
+    void create_whenKeyStoredConcurrentlyElsewhere_shouldReplayWinner() {
+        // Given
+        CreateTransactionCommand command = command("25.00");
+        Transaction winner = mock(Transaction.class);
+        String hash = IdempotentCreateTransactionUseCaseImpl.requestHash(command);
+        when(idempotencyKeys.find(USER, KEY)).thenReturn(Optional.empty());
+        when(idempotencyKeys.findCommitted(USER, KEY)).thenReturn(Optional.of(new IdempotencyRecord(hash, winner)));
+        when(createTransactionUseCase.executeIdempotent(any(), anyString(), anyString()))
+            .thenThrow(new DuplicateIdempotencyKeyException("taken"));
+
+        // When
+        IdempotentCreation result = useCase.create(KEY, command);
+
+        // Then
+        assertSame(winner, result.transaction());
+        assertTrue(result.replayed());
+    }
+
+    @Test
+    @DisplayName("Should coalesce concurrent requests with the same key onto one execution")
+    void create_concurrentlyWithSameKey_shouldExecuteOnce() throws Exception {
+        // Given
+        CreateTransactionCommand command = command("25.00");
+        Transaction created = mock(Transaction.class);
+        CountDownLatch executing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(idempotencyKeys.find(USER, KEY)).thenReturn(Optional.empty());
+        when(createTransactionUseCase.executeIdempotent(any(), anyString(), anyString())).thenAnswer(inv -> {
+            executing.countDown();
+            release.await();
+            return created;
+        });
+
+        // When
+        CompletableFuture<IdempotentCreation> first = CompletableFuture.supplyAsync(() -> useCase.create(KEY, command));
+        assertTrue(executing.await(5, TimeUnit.SECONDS));
+        CompletableFuture<IdempotentCreation> second = CompletableFuture.supplyAsync(() -> useCase.create(KEY, command));
+        Thread.sleep(50);
+        release.countDown();
+
+        // Then
+        assertFalse(first.get(5, TimeUnit.SECONDS).replayed());
+        IdempotentCreation coalesced = second.get(5, TimeUnit.SECONDS);
+        assertSame(created, coalesced.transaction());
+        assertTrue(coalesced.replayed());
+        verify(createTransactionUseCase, times(1)).executeIdempotent(any(), anyString(), anyString());
+    }
+}
@@ -0,0 +1,161 @@
+package com.apis.fintrack.application.transaction.usecases;
+
+import com.apis.fintrack.application.transaction.mapper.TransactionUpdateCommandMapper;
+import com.apis.fintrack.domain.transaction.model.Transaction;
+import com.apis.fintrack.domain.transaction.model.TransactionCategoryEnum;
+import com.apis.fintrack.domain.transaction.port.input.UpdateTransactionUseCase.UpdateTransactionCommand;
+import com.apis.fintrack.domain.transaction.port.output.BalanceHistoryPort;
+import com.apis.fintrack.domain.transaction.port.output.DuplicateTransactionPort;
+import com.apis.fintrack.domain.transaction.port.output.RecurringSeriesPort;
+import com.apis.fintrack.domain.transaction.port.output.TransactionSearchPort;
+import com.apis.fintrack.domain.user.model.RoleType;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.StatementBudgetTest;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.adapter.TransactionArchiveBoundary;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.adapter.TransactionRepositoryAdapter;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.RoleJPAEntity;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.TransactionJPAEntity;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.UserJPAEntity;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.mapper.TransactionPersistenceMapper;
+import com.apis.fintrack.infrastructure.config.ClockConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static com.apis.fintrack.infrastructure.adapter.output.persistence.SqlStatementCounter.assertStatements;
+import static com.apis.fintrack.infrastructure.adapter.output.persistence.SqlStatementCounter.reset;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Statement budgets for the transaction update use case, run against the real
+ * persistence adapter on the embedded database. Ports outside the transaction
+ * table (balance history, search, duplicates, recurring series) are mocked.
+ *
+ * Tests cover:
+ * - Single-field updates reading the transaction once (no second select
+ *   before the update)
+ * - Full updates through the command
+ */
+@StatementBudgetTest
+@Import({TransactionRepositoryAdapter.class, TransactionPersistenceMapper.class,
+        TransactionArchiveBoundary.class, ClockConfig.class, TransactionUpdateCommandMapper.class})
+@DisplayName("Transaction Use Case Statement Budget Tests")
+class TransactionUseCaseStatementBudgetTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private TransactionRepositoryAdapter transactionRepository;
+
+    @Autowired
+    private TransactionUpdateCommandMapper updateCommandMapper;
+
+    private UpdateTransactionUseCaseImpl updateTransactionUseCase;
+    private Long transactionId;
+
+    @BeforeEach
+    void setUp() {
+        updateTransactionUseCase = new UpdateTransactionUseCaseImpl(transactionRepository, updateCommandMapper,
+                mock(BalanceHistoryPort.class), mock(TransactionSearchPort.class),
+                mock(DuplicateTransactionPort.class), mock(RecurringSeriesPort.class));
+
+        RoleJPAEntity userRole = new RoleJPAEntity();
+        userRole.setRoleName(RoleType.USER);
+        em.persist(userRole);
+        UserJPAEntity user = new UserJPAEntity();
+        user.setName("Ana");
+        user.setSurname("Lopez");
+        user.setEmail("ana@example.com");
+        user.setPassword("$2a$10$abcdefghijklmnopqrstuv");
+        user.setBirthDate(LocalDate.of(1990, 1, 1));
+        user.setAvailableFunds(BigDecimal.ZERO);
+        user.setRole(userRole);
+        em.persist(user);
+
+        TransactionJPAEntity transaction = new TransactionJPAEntity();
+        transaction.setDescription("Supermercado");
+        transaction.setAmount(new BigDecimal("-42.10"));
+        transaction.setTransaction_date(LocalDate.now().minusDays(3));
+        transaction.setCategory(TransactionCategoryEnum.ALIMENTATION);
+        transaction.setIncome(false);
+        transaction.setUser(user);
+        transactionId = em.persist(transaction).getId();
+
+        em.flush();
+        em.clear();
+        reset();
+    }
+
+    @Nested
+    @DisplayName("UpdateTransactionUseCase Budget Tests")
+    class UpdateTransactionBudgetTests {
+
+        @Test
+        @DisplayName("updateDescription should read the transaction once and run one update")
+        void updateDescription_shouldReadOnceAndUpdateOnce() {
+            // When
+            Transaction updated = updateTransactionUseCase.updateDescription(transactionId, "Mercado central");
+            em.flush();
+
+            // Then
+            assertEquals("Mercado central", updated.getDescription().getValue());
+            assertStatements(1, 0, 1, 0);
+        }
+
+        @Test
+        @DisplayName("updateAmount should read the transaction once and run one update")
+        void updateAmount_shouldReadOnceAndUpdateOnce() {
+            // When
+            updateTransactionUseCase.updateAmount(transactionId, new BigDecimal("50.00"));
+            em.flush();
+
+            // Then
+            assertStatements(1, 0, 1, 0);
+        }
+
+        @Test
+        @DisplayName("updateCategory should read the transaction once and run one update")
+        void updateCategory_shouldReadOnceAndUpdateOnce() {
+            // When
+            updateTransactionUseCase.updateCategory(transactionId, TransactionCategoryEnum.HOUSING);
+            em.flush();
+
+            // Then
+            assertStatements(1, 0, 1, 0);
+        }
+
+        @Test
+        @DisplayName("updateDate should read the transaction once and run one update")
+        void updateDate_shouldReadOnceAndUpdateOnce() {
+            // When
+            updateTransactionUseCase.updateDate(transactionId, LocalDate.now().minusDays(1));
+            em.flush();
+
+            // Then
+            assertStatements(1, 0, 1, 0);
+        }
+
+        @Test
+        @DisplayName("update should apply the whole command with one select and one update")
+        void update_shouldReadOnceAndUpdateOnce() {
+            // Given
+            UpdateTransactionCommand command = new UpdateTransactionCommand(transactionId, "Alquiler",
+                    new BigDecimal("900.00"), false, TransactionCategoryEnum.HOUSING, LocalDate.now().minusDays(2));
+
+            // When
+            updateTransactionUseCase.update(command);
+            em.flush();
+
+            // Then
+            assertStatements(1, 0, 1, 0);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.apis.fintrack.application.user.usecases;
+
+import com.apis.fintrack.domain.shared.model.Money;
+import com.apis.fintrack.domain.user.exception.UserNotFoundException;
+import com.apis.fintrack.domain.user.model.*;
+import com.apis.fintrack.domain.user.port.output.PasswordEncoderPort;
+import com.apis.fintrack.domain.user.port.output.UserRepositoryPort;
+import com.apis.fintrack.domain.user.port.output.UserSessionPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UpdateUserUseCaseImpl.
+ *
+ * Tests cover:
+ * - Atomic addFunds / withdrawFunds paths (no read-modify-write of the User)
+ * - Interpretation of the affected-row result (success, user not found, insufficient funds)
+ * - Input validation of amounts
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UpdateUserUseCaseImpl Tests")
+class UpdateUserUseCaseImplTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private UserRepositoryPort userRepository;
+
+    @Mock
+    private PasswordEncoderPort passwordEncoder;
+
+    @Mock
+    private UserSessionPort userSessions;
+
+    private UpdateUserUseCaseImpl updateUserUseCase;
+
+    @BeforeEach
+    void setUp() {
+        updateUserUseCase = new UpdateUserUseCaseImpl(userRepository, passwordEncoder, userSessions);
+    }
+
+    private User userWithFunds(String funds) {
+        return new User(
+            UserId.of(USER_ID),
+            FullName.of("John", "Doe"),
+            Email.of("john.doe@example.com"),
+            Password.fromStorage("$2a$10$hashedPasswordValue"),
+            BirthDate.of(LocalDate.of(1990, 1, 1)),
+            Money.of(new BigDecimal(funds))
+        );
+    }
+
+    @Nested
+    @DisplayName("addFunds Tests")
+    class AddFundsTests {
+
+        @Test
+        @DisplayName("Should add funds with a single atomic update and never save the whole user")
+        void addFunds_withExistingUser_shouldUseAtomicUpdate() {
+            // Given
+            when(userRepository.addFunds(USER_ID, new BigDecimal("50.00"))).thenReturn(true);
+            when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userWithFunds("150.00")));
+
+            // When
+            User result = updateUserUseCase.addFunds(USER_ID, new BigDecimal("50"));
+
+            // Then
+            assertEquals(new BigDecimal("150.00"), result.getAvailableFunds().getAmount());
+            verify(userRepository).addFunds(USER_ID, new BigDecimal("50.00"));
+            verify(userRepository, never()).save(any(User.class));
+        }
+
+        @Test
+        @DisplayName("Should throw UserNotFoundException when no row was updated")
+        void addFunds_withUnknownUser_shouldThrow() {
+            // Given
+            when(userRepository.addFunds(anyLong(), any(BigDecimal.class))).thenReturn(false);
+
+            // When / Then
+            assertThrows(UserNotFoundException.class,
+                () -> updateUserUseCase.addFunds(USER_ID, new BigDecimal("10")));
+            verify(userRepository, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should reject negative amounts without touching the database")
+        void addFunds_withNegativeAmount_shouldThrow() {
+            assertThrows(IllegalArgumentException.class,
+                () -> updateUserUseCase.addFunds(USER_ID, new BigDecimal("-10")));
+            verifyNoInteractions(userRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("withdrawFunds Tests")
+    class WithdrawFundsTests {
+
+        @Test
+        @DisplayName("Should withdraw funds with a guarded atomic update")
+        void withdrawFunds_withSufficientFunds_shouldUseAtomicUpdate() {
+            // Given
+            when(userRepository.withdrawFunds(USER_ID, new BigDecimal("30.00"))).thenReturn(true);
+            when(userRepository.findById(USER_ID)).thenReturn(Optional.of(userWithFunds("70.00")));
+
+            // When
+            User result = updateUserUseCase.withdrawFunds(USER_ID, new BigDecimal("30"));
+
+            // Then
+            assertEquals(new BigDecimal("70.00"), result.getAvailableFunds().getAmount());
+            verify(userRepository, never()).save(any(User.class));
+            verify(userRepository, never()).existsById(anyLong());
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when the guard rejects the update")
+        void withdrawFunds_withInsufficientFunds_shouldThrow() {
+            // Given
+            when(userRepository.withdrawFunds(anyLong(), any(BigDecimal.class))).thenReturn(false);
+            when(userRepository.existsById(USER_ID)).thenReturn(true);
+
+            // When / Then
+            IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> updateUserUseCase.withdrawFunds(USER_ID, new BigDecimal("1000")));
+            assertEquals("Insufficient funds", ex.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should throw UserNotFoundException when the user does not exist")
+        void withdrawFunds_withUnknownUser_shouldThrow() {
+            // Given
+            when(userRepository.withdrawFunds(anyLong(), any(BigDecimal.class))).thenReturn(false);
+            when(userRepository.existsById(USER_ID)).thenReturn(false);
+
+            // When / Then
+            assertThrows(UserNotFoundException.class,
+                () -> updateUserUseCase.withdrawFunds(USER_ID, new BigDecimal("10")));
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.apis.fintrack.application.user.usecases;
+
+import com.apis.fintrack.domain.user.exception.EmailAlreadyExistsException;
+import com.apis.fintrack.domain.user.model.RoleType;
+import com.apis.fintrack.domain.user.model.User;
+import com.apis.fintrack.domain.user.port.input.RegisterUserUseCase.RegisterUserCommand;
+import com.apis.fintrack.domain.user.port.output.PasswordEncoderPort;
+import com.apis.fintrack.domain.user.port.output.UserSessionPort;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.StatementBudgetTest;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.adapter.RegisteredEmailFilter;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.adapter.UserRepositoryAdapter;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.RoleJPAEntity;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.UserJPAEntity;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.mapper.UserPersistenceMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static com.apis.fintrack.infrastructure.adapter.output.persistence.SqlStatementCounter.assertStatements;
+import static com.apis.fintrack.infrastructure.adapter.output.persistence.SqlStatementCounter.reset;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Statement budgets for the user use cases, run against the real persistence
+ * adapter on the embedded database. Ports outside persistence are mocked.
+ *
+ * Tests cover:
+ * - Lookups and listings (one select, plus the count for a full page)
+ * - Field updates reading the user once (no second select before the update)
+ * - Atomic fund updates (one update, one select to return the user)
+ * - Registration (role lookup and insert; the email query only runs when the
+ *   registered email filter cannot rule the email out)
+ */
+@StatementBudgetTest
+@Import({UserRepositoryAdapter.class, UserPersistenceMapper.class, RegisteredEmailFilter.class})
+@DisplayName("User Use Case Statement Budget Tests")
+class UserUseCaseStatementBudgetTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private UserRepositoryAdapter userRepository;
+
+    @Autowired
+    private RegisteredEmailFilter registeredEmails;
+
+    private FindUserUseCaseImpl findUserUseCase;
+    private UpdateUserUseCaseImpl updateUserUseCase;
+    private RegisterUserUseCaseImpl registerUserUseCase;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        PasswordEncoderPort passwordEncoder = mock(PasswordEncoderPort.class);
+        when(passwordEncoder.encode(anyString())).thenReturn("$2a$10$abcdefghijklmnopqrstuv");
+        findUserUseCase = new FindUserUseCaseImpl(userRepository);
+        updateUserUseCase = new UpdateUserUseCaseImpl(userRepository, passwordEncoder, mock(UserSessionPort.class));
+        registerUserUseCase = new RegisterUserUseCaseImpl(userRepository, passwordEncoder);
+
+        RoleJPAEntity userRole = new RoleJPAEntity();
+        userRole.setRoleName(RoleType.USER);
+        em.persist(userRole);
+        for (int i = 0; i < 3; i++) {
+            UserJPAEntity user = new UserJPAEntity();
+            user.setName("Ana");
+            user.setSurname("Lopez");
+            user.setEmail("user" + i + "@example.com");
+            user.setPassword("$2a$10$abcdefghijklmnopqrstuv");
+            user.setBirthDate(LocalDate.of(1990, 1, 1));
+            user.setAvailableFunds(BigDecimal.ZERO);
+            user.setRole(userRole);
+            userId = em.persist(user).getUserId();
+        }
+
+        em.flush();
+        em.clear();
+        // The filter is shared by the cached context; load it from this fixture
+        registeredEmails.rebuild();
+        reset();
+    }
+
+    @Nested
+    @DisplayName("FindUserUseCase Budget Tests")
+    class FindUserBudgetTests {
+
+        @Test
+        @DisplayName("findById should run one select")
+        void findById_shouldRunOneSelect() {
+            // When
+            User user = findUserUseCase.findById(userId);
+
+            // Then
+            assertEquals(userId, user.getId().getValue());
+            assertStatements(1, 0, 0, 0);
+        }
+
+        @Test
+        @DisplayName("findByEmail should run one select")
+        void findByEmail_shouldRunOneSelect() {
+            // When
+            findUserUseCase.findByEmail("user0@example.com");
+
+            // Then
+            assertStatements(1, 0, 0, 0);
+        }
+
+        @Test
+        @DisplayName("findAll should run one select and one count for a full page")
+        void findAll_shouldRunSelectAndCount() {
+            // When
+            Page<User> page = findUserUseCase.findAll(PageRequest.of(0, 2));
+
+            // Then
+            assertEquals(2, page.getContent().size());
+            assertStatements(2, 0, 0, 0);
+        }
+    }
+
+    @Nested
+    @DisplayName("UpdateUserUseCase Budget Tests")
+    class UpdateUserBudgetTests {
+
+        @Test
+        @DisplayName("updateName should read the user once and run one update")
+        void updateName_shouldReadOnceAndUpdateOnce() {
+            // When
+            updateUserUseCase.updateName(userId, "Beatriz");
+            em.flush();
+
+            // Then
+            assertStatements(1, 0, 1, 0);
+        }
+
+        @Test
+        @DisplayName("addFunds should run one update and one select")
+        void addFunds_shouldUpdateThenSelect() {
+            // When
+            User user = updateUserUseCase.addFunds(userId, new BigDecimal("25.00"));
+
+            // Then
+            assertEquals(0, new BigDecimal("25.00").compareTo(user.getAvailableFunds().getAmount()));
+            assertStatements(1, 0, 1, 0);
+        }
+    }
+
+    @Nested
+    @DisplayName("RegisterUserUseCase Budget Tests")
+    class RegisterUserBudgetTests {
+
+        @Test
+        @DisplayName("execute should skip the email query, look up the role and insert once")
+        void execute_withNewEmail_shouldRunOneSelectAndOneInsert() {
+            // Given
+            RegisterUserCommand command = new RegisterUserCommand(
+                    "Carla", "Ruiz", "new@example.com", "Secret123", LocalDate.of(1995, 5, 15));
+
+            // When
+            registerUserUseCase.execute(command);
+
+            // Then
+            // The roles table was written in this transaction, so the cached
+            // role query is bypassed here, unlike in production
+            assertStatements(1, 1, 0, 0);
+        }
+
+        @Test
+        @DisplayName("execute should confirm a taken email with one select and not insert")
+        void execute_withTakenEmail_shouldRunOneSelect() {
+            // Given
+            RegisterUserCommand command = new RegisterUserCommand(
+                    "Carla", "Ruiz", "user0@example.com", "Secret123", LocalDate.of(1995, 5, 15));
+
+            // When / Then
+            assertThrows(EmailAlreadyExistsException.class, () -> registerUserUseCase.execute(command));
+            assertStatements(1, 0, 0, 0);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.apis.fintrack.domain.transaction;
+
+import com.apis.fintrack.domain.transaction.model.TransactionFingerprint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link TransactionFingerprint} value object.
+ *
+ * <p>Tests cover description normalization and the stability of the
+ * fingerprint and its hash for equivalent transactions.</p>
+ */
+@DisplayName("TransactionFingerprint Value Object Tests")
+class TransactionFingerprintTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+    @Nested
+    @DisplayName("normalizeDescription()")
+    class NormalizeDescriptionTests {
+
+        @Test
+        @DisplayName("Should ignore case, accents, punctuation and repeated spaces")
+        void normalizeDescription_withNoisyText_shouldReturnCanonicalForm() {
+            assertEquals("cafe central", TransactionFingerprint.normalizeDescription("  Café   Central. "));
+        }
+
+        @Test
+        @DisplayName("Should return empty string for null")
+        void normalizeDescription_withNull_shouldReturnEmpty() {
+            assertEquals("", TransactionFingerprint.normalizeDescription(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Equality and hash64()")
+    class EqualityTests {
+
+        @Test
+        @DisplayName("Should be equal for equivalent date, amount and description")
+        void of_withEquivalentValues_shouldBeEqual() {
+            TransactionFingerprint first = TransactionFingerprint.of(DAY, new BigDecimal("-12.5"), "Netflix.com");
+            TransactionFingerprint second = TransactionFingerprint.of(DAY, new BigDecimal("-12.50"), "NETFLIX com");
+
+            assertEquals(first, second);
+            assertEquals(first.hash64(), second.hash64());
+        }
+
+        @Test
+        @DisplayName("Should differ when date, amount or sign differ")
+        void of_withDifferentValues_shouldDiffer() {
+            TransactionFingerprint base = TransactionFingerprint.of(DAY, new BigDecimal("-12.50"), "Netflix");
+
+            assertNotEquals(base.hash64(), TransactionFingerprint.of(DAY.plusDays(1), new BigDecimal("-12.50"), "Netflix").hash64());
+            assertNotEquals(base.hash64(), TransactionFingerprint.of(DAY, new BigDecimal("-12.51"), "Netflix").hash64());
+            assertNotEquals(base.hash64(), TransactionFingerprint.of(DAY, new BigDecimal("12.50"), "Netflix").hash64());
+        }
+
+        @Test
+        @DisplayName("Should change both 32-bit halves when only the last character differs")
+        void hash64_withLastCharacterChanged_shouldChangeBothHalves() {
+            long base = TransactionFingerprint.of(DAY, new BigDecimal("-12.50"), "Spotify a").hash64();
+            long other = TransactionFingerprint.of(DAY, new BigDecimal("-12.50"), "Spotify b").hash64();
+
+            assertNotEquals((int) base, (int) other);
+            assertNotEquals((int) (base >>> 32), (int) (other >>> 32));
+        }
+    }
+}
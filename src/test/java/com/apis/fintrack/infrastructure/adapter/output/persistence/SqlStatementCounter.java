@@ -0,0 +1,77 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Records every SQL statement Hibernate prepares on the current thread, so
+ * tests can assert exact statement budgets per use case.
+ *
+ * Registered through hibernate.session_factory.statement_inspector (see
+ * StatementBudgetTest); Hibernate instantiates it itself, hence the static,
+ * thread-confined state. Statements run by the test's own setup count too:
+ * call reset() once the fixture is flushed.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    public enum Kind { SELECT, INSERT, UPDATE, DELETE, OTHER }
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get().add(sql);
+        return sql;
+    }
+
+    public static void reset() {
+        STATEMENTS.get().clear();
+    }
+
+    public static long count(Kind kind) {
+        return STATEMENTS.get().stream().filter(sql -> kindOf(sql) == kind).count();
+    }
+
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS.get());
+    }
+
+    /**
+     * Asserts the exact number of statements of each kind since the last
+     * reset; no other kind of statement may have run. The failure message
+     * lists the statements.
+     */
+    public static void assertStatements(int selects, int inserts, int updates, int deletes) {
+        String expected = format(selects, inserts, updates, deletes, 0);
+        String actual = format(count(Kind.SELECT), count(Kind.INSERT), count(Kind.UPDATE),
+                count(Kind.DELETE), count(Kind.OTHER));
+        assertEquals(expected, actual, () -> "Statements run:\n" + String.join("\n", STATEMENTS.get()));
+    }
+
+    static Kind kindOf(String sql) {
+        String statement = sql.strip();
+        // Comments added by hibernate.use_sql_comments precede the statement
+        while (statement.startsWith("/*")) {
+            int end = statement.indexOf("*/");
+            statement = end < 0 ? "" : statement.substring(end + 2).strip();
+        }
+        String keyword = statement.split("[\\s(]", 2)[0].toLowerCase(Locale.ROOT);
+        return switch (keyword) {
+            case "select", "with" -> Kind.SELECT;
+            case "insert" -> Kind.INSERT;
+            case "update" -> Kind.UPDATE;
+            case "delete" -> Kind.DELETE;
+            default -> Kind.OTHER;
+        };
+    }
+
+    private static String format(long selects, long inserts, long updates, long deletes, long other) {
+        return "select=" + selects + ", insert=" + inserts + ", update=" + updates
+                + ", delete=" + deletes + ", other=" + other;
+    }
+}
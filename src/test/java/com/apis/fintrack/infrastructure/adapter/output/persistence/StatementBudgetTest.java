@@ -0,0 +1,28 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence;
+
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * JPA slice on the embedded H2 database with every SQL statement recorded by
+ * SqlStatementCounter.
+ *
+ * Each test runs in a transaction that is rolled back, so it must flush the
+ * persistence context before asserting a budget that includes writes.
+ * Adapters and mappers the use case needs are added with @Import.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.apis.fintrack.infrastructure.adapter.output.persistence.SqlStatementCounter"
+})
+public @interface StatementBudgetTest {
+}
@@ -0,0 +1,162 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.adapter;
+
+import com.apis.fintrack.domain.shared.model.Money;
+import com.apis.fintrack.domain.user.model.UserId;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.DailyBalanceJPAEntity;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.ArchivedTransactionRepository;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.DailyBalanceRepository;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.TransactionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BalanceHistoryAdapter.
+ *
+ * Tests cover:
+ * - Committed deltas applied to the cached index without reloading it
+ * - Loads that overlap a write in flight are not published
+ * - Rolled back writes leaving the cached index untouched
+ * - First write of a user seeded through upserts that only add its own delta
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BalanceHistoryAdapter Tests")
+class BalanceHistoryAdapterTest {
+
+    private static final UserId USER = UserId.of(1L);
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+    @Mock
+    private DailyBalanceRepository dailyBalanceRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private ArchivedTransactionRepository archivedTransactionRepository;
+
+    private BalanceHistoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new BalanceHistoryAdapter(dailyBalanceRepository, transactionRepository,
+                archivedTransactionRepository, 100, 30);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private void storedRows(BigDecimal delta) {
+        when(dailyBalanceRepository.findByUserIdOrderByDay(1L))
+                .thenReturn(List.of(new DailyBalanceJPAEntity(1L, 1L, DAY, delta)));
+    }
+
+    private static Map<LocalDate, Money> delta(String amount) {
+        return Map.of(DAY, Money.of(new BigDecimal(amount)));
+    }
+
+    /** Runs the registered synchronizations as the transaction manager would on completion. */
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(s -> s.afterCompletion(status));
+    }
+
+    @Nested
+    @DisplayName("Seeded user")
+    class SeededUser {
+
+        @BeforeEach
+        void seeded() {
+            when(dailyBalanceRepository.existsByUserId(1L)).thenReturn(true);
+        }
+
+        @Test
+        @DisplayName("Should add a committed delta to the cached index without reloading it")
+        void recordDeltas_afterCommit_shouldUpdateCachedIndex() {
+            // Given
+            storedRows(new BigDecimal("100.00"));
+            assertEquals(new BigDecimal("100.00"), adapter.balanceAt(USER, DAY).getAmount());
+
+            // When
+            adapter.recordDeltas(USER, delta("20.00"));
+
+            // Then
+            assertEquals(new BigDecimal("120.00"), adapter.balanceAt(USER, DAY).getAmount());
+            verify(dailyBalanceRepository).upsertDelta(1L, DAY, new BigDecimal("20.00"), new BigDecimal("20.00"));
+            verify(dailyBalanceRepository, times(1)).findByUserIdOrderByDay(1L);
+        }
+
+        @Test
+        @DisplayName("Should not publish an index loaded while a write is in flight")
+        void balanceAt_duringWrite_shouldNotPublishIndex() {
+            // Given
+            storedRows(new BigDecimal("100.00"));
+            TransactionSynchronizationManager.initSynchronization();
+            adapter.recordDeltas(USER, delta("20.00"));
+
+            // When: read before the write commits, then after
+            adapter.balanceAt(USER, DAY);
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+            adapter.balanceAt(USER, DAY);
+            adapter.balanceAt(USER, DAY);
+
+            // Then: the overlapping load was discarded, the next one cached
+            verify(dailyBalanceRepository, times(2)).findByUserIdOrderByDay(1L);
+        }
+
+        @Test
+        @DisplayName("Should leave the cached index untouched when the write rolls back")
+        void recordDeltas_rolledBack_shouldKeepCachedIndex() {
+            // Given
+            storedRows(new BigDecimal("100.00"));
+            adapter.balanceAt(USER, DAY);
+            TransactionSynchronizationManager.initSynchronization();
+            adapter.recordDeltas(USER, delta("20.00"));
+
+            // When
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            // Then
+            assertEquals(new BigDecimal("100.00"), adapter.balanceAt(USER, DAY).getAmount());
+            verify(dailyBalanceRepository, times(1)).findByUserIdOrderByDay(1L);
+        }
+    }
+
+    @Test
+    @DisplayName("Should seed a user from the aggregate and only add its own delta on conflict")
+    void recordDeltas_firstWrite_shouldUpsertAggregate() {
+        // Given: the grouped SUM already includes this write
+        when(dailyBalanceRepository.existsByUserId(1L)).thenReturn(false);
+        when(transactionRepository.sumAmountByDayForUser(1L))
+                .thenReturn(List.<Object[]>of(new Object[]{DAY, new BigDecimal("150.00")}));
+        when(archivedTransactionRepository.sumAmountByDayForUser(1L))
+                .thenReturn(List.<Object[]>of(new Object[]{DAY.minusYears(2), new BigDecimal("30.00")}));
+
+        // When
+        adapter.recordDeltas(USER, delta("50.00"));
+
+        // Then
+        verify(dailyBalanceRepository).upsertDelta(1L, DAY, new BigDecimal("150.00"), new BigDecimal("50.00"));
+        verify(dailyBalanceRepository).upsertDelta(1L, DAY.minusYears(2), new BigDecimal("30.00"), new BigDecimal("0.00"));
+    }
+}
@@ -0,0 +1,98 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.adapter;
+
+import com.apis.fintrack.domain.transaction.model.TransactionFingerprint;
+import com.apis.fintrack.domain.user.model.UserId;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.ArchivedTransactionRepository;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for DuplicateTransactionAdapter.
+ *
+ * Tests cover:
+ * - Definite "no" from the filter for unseen fingerprints
+ * - Confirmation of a "maybe" against the stored descriptions
+ * - Inserts committed while the user's filter is being loaded
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DuplicateTransactionAdapter Tests")
+class DuplicateTransactionAdapterTest {
+
+    private static final UserId USER = UserId.of(1L);
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+    private static final BigDecimal AMOUNT = new BigDecimal("12.50");
+    private static final TransactionFingerprint COFFEE = TransactionFingerprint.of(DAY, AMOUNT, "Café Central");
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private ArchivedTransactionRepository archivedTransactionRepository;
+
+    @Mock
+    private TransactionArchiveBoundary archiveBoundary;
+
+    private DuplicateTransactionAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new DuplicateTransactionAdapter(transactionRepository, archivedTransactionRepository, archiveBoundary);
+        when(archiveBoundary.isEmpty()).thenReturn(true);
+    }
+
+    @Nested
+    @DisplayName("isDuplicate Tests")
+    class IsDuplicateTests {
+
+        @Test
+        @DisplayName("Should rule out a fingerprint the user never stored")
+        void isDuplicate_withUnseenFingerprint_shouldBeFalse() {
+            // Given
+            when(transactionRepository.findFingerprintRowsByUserId(1L)).thenReturn(List.of());
+
+            // When / Then
+            assertFalse(adapter.isDuplicate(USER, COFFEE));
+        }
+
+        @Test
+        @DisplayName("Should confirm a stored fingerprint against the table")
+        void isDuplicate_withStoredFingerprint_shouldBeTrue() {
+            // Given
+            when(transactionRepository.findFingerprintRowsByUserId(1L))
+                    .thenReturn(List.<Object[]>of(new Object[]{DAY, AMOUNT, "Café Central"}));
+            when(transactionRepository.findDescriptionsByUserDateAndAmount(1L, DAY, AMOUNT))
+                    .thenReturn(List.of("CAFE CENTRAL"));
+
+            // When / Then
+            assertTrue(adapter.isDuplicate(USER, COFFEE));
+        }
+
+        @Test
+        @DisplayName("Should see an insert committed while the filter was loading")
+        void isDuplicate_withInsertCommittedDuringLoad_shouldBeTrue() {
+            // Given: the insert commits after the table was read, before the filter is published
+            when(transactionRepository.findFingerprintRowsByUserId(1L)).thenAnswer(invocation -> {
+                adapter.register(USER, COFFEE);
+                return List.of();
+            });
+            when(transactionRepository.findDescriptionsByUserDateAndAmount(1L, DAY, AMOUNT))
+                    .thenReturn(List.of("Café Central"));
+
+            // When / Then
+            assertTrue(adapter.isDuplicate(USER, COFFEE));
+        }
+    }
+}
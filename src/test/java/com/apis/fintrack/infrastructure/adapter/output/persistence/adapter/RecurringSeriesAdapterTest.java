@@ -0,0 +1,71 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.adapter;
+
+import com.apis.fintrack.domain.transaction.model.RecurrencePeriod;
+import com.apis.fintrack.domain.transaction.model.RecurringSeries;
+import com.apis.fintrack.domain.user.model.UserId;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.ArchivedTransactionRepository;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for RecurringSeriesAdapter.
+ *
+ * Tests cover:
+ * - Annual series whose earlier occurrences live in the cold partition
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecurringSeriesAdapter Tests")
+class RecurringSeriesAdapterTest {
+
+    private static final UserId USER = UserId.of(1L);
+    private static final BigDecimal INSURANCE = new BigDecimal("-420.00");
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private ArchivedTransactionRepository archivedTransactionRepository;
+
+    @Mock
+    private TransactionArchiveBoundary archiveBoundary;
+
+    private RecurringSeriesAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new RecurringSeriesAdapter(transactionRepository, archivedTransactionRepository, archiveBoundary);
+    }
+
+    @Test
+    @DisplayName("Should detect an annual series using archived occurrences")
+    void findRecurring_withArchivedHistory_shouldDetectAnnualSeries() {
+        // Given: only the latest yearly charge is still in the hot partition
+        when(archiveBoundary.isEmpty()).thenReturn(false);
+        when(transactionRepository.findFingerprintRowsByUserId(1L))
+                .thenReturn(List.<Object[]>of(new Object[]{LocalDate.of(2025, 3, 1), INSURANCE, "Seguro hogar"}));
+        when(archivedTransactionRepository.findFingerprintRowsByUserId(1L)).thenReturn(List.of(
+                new Object[]{LocalDate.of(2023, 3, 1), INSURANCE, "Seguro hogar"},
+                new Object[]{LocalDate.of(2024, 3, 1), INSURANCE, "Seguro hogar"}));
+
+        // When
+        List<RecurringSeries> series = adapter.findRecurring(USER);
+
+        // Then
+        assertEquals(1, series.size());
+        assertEquals(RecurrencePeriod.ANNUAL, series.get(0).period());
+        assertEquals(LocalDate.of(2025, 3, 1), series.get(0).lastDate());
+        assertEquals(3, series.get(0).occurrences());
+    }
+}
@@ -0,0 +1,138 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.adapter;
+
+import com.apis.fintrack.domain.user.model.RoleType;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.RoleJPAEntity;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.UserJPAEntity;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.RoleRepository;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Second-level and query cache tests for role reference data.
+ *
+ * Runs without the test-managed transaction: each registration commits on its
+ * own, as it does in production, so the query cache sees committed tables.
+ * Hibernate statistics are off by default and switched on here to read the
+ * cache hit counters.
+ *
+ * Tests cover:
+ * - Role lookup served from the query cache once warm
+ * - Hot registration path issuing no role queries
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "fintrack.metrics.hibernate-statistics=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Reference Data Cache Tests")
+class ReferenceDataCacheTest {
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        RoleJPAEntity userRole = new RoleJPAEntity();
+        userRole.setRoleName(RoleType.USER);
+        roleRepository.save(userRole);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        roleRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Nested
+    @DisplayName("Role Lookup Tests")
+    class RoleLookupTests {
+
+        @Test
+        @DisplayName("Should serve repeated role lookups from the query cache")
+        void findByRoleName_whenWarm_shouldHitQueryCache() {
+            // Given
+            transaction.executeWithoutResult(status -> roleRepository.findByRoleName(RoleType.USER));
+            statistics.clear();
+
+            // When
+            RoleJPAEntity role = transaction.execute(status ->
+                    roleRepository.findByRoleName(RoleType.USER).orElseThrow());
+
+            // Then
+            assertEquals(RoleType.USER, role.getRoleName());
+            assertEquals(1, statistics.getQueryCacheHitCount());
+            assertEquals(0, statistics.getPrepareStatementCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Registration Path Tests")
+    class RegistrationPathTests {
+
+        @Test
+        @DisplayName("Should register a user with the insert as its only statement once roles are cached")
+        void register_whenWarm_shouldIssueNoRoleQueries() {
+            // Given
+            register("first@example.com");
+            statistics.clear();
+
+            // When
+            register("second@example.com");
+
+            // Then
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertEquals(1, statistics.getEntityInsertCount());
+            assertEquals(0, statistics.getQueryCacheMissCount());
+        }
+    }
+
+    // Same steps as AuthService.register: look up the USER role, then save
+    private void register(String email) {
+        transaction.executeWithoutResult(status -> {
+            UserJPAEntity user = new UserJPAEntity();
+            user.setName("Ana");
+            user.setSurname("Lopez");
+            user.setEmail(email);
+            user.setPassword("$2a$10$abcdefghijklmnopqrstuv");
+            user.setBirthDate(LocalDate.of(1990, 1, 1));
+            user.setAvailableFunds(BigDecimal.ZERO);
+            user.setRole(roleRepository.findByRoleName(RoleType.USER).orElseThrow());
+            userRepository.save(user);
+        });
+    }
+}
@@ -0,0 +1,113 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.adapter;
+
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for RegisteredEmailFilter.
+ *
+ * Tests cover:
+ * - Conservative answer before the first rebuild
+ * - Emails loaded on rebuild and added after save
+ * - Case-insensitive matching
+ * - Catch-up of users registered on other instances
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RegisteredEmailFilter Tests")
+class RegisteredEmailFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private RegisteredEmailFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RegisteredEmailFilter(userRepository, 1_000, 0.01);
+    }
+
+    @Nested
+    @DisplayName("mightBeRegistered Tests")
+    class MightBeRegisteredTests {
+
+        @Test
+        @DisplayName("Should answer maybe for every email before the first rebuild")
+        void mightBeRegistered_beforeRebuild_shouldBeTrue() {
+            assertTrue(filter.mightBeRegistered("free@example.com"));
+        }
+
+        @Test
+        @DisplayName("Should rule out emails that are not registered after rebuild")
+        void mightBeRegistered_afterRebuild_shouldReflectTable() {
+            // Given
+            when(userRepository.findEmailsAfterId(0L)).thenReturn(List.<Object[]>of(new Object[]{1L, "Taken@Example.com"}));
+
+            // When
+            filter.rebuild();
+
+            // Then
+            assertTrue(filter.mightBeRegistered("taken@example.com"));
+            assertFalse(filter.mightBeRegistered("free@example.com"));
+        }
+
+        @Test
+        @DisplayName("Should include emails added after the rebuild")
+        void add_afterRebuild_shouldBeRegistered() {
+            // Given
+            when(userRepository.findEmailsAfterId(0L)).thenReturn(List.of());
+            filter.rebuild();
+
+            // When
+            filter.add("new@example.com");
+
+            // Then
+            assertTrue(filter.mightBeRegistered("NEW@example.com"));
+        }
+    }
+
+    @Nested
+    @DisplayName("catchUp Tests")
+    class CatchUpTests {
+
+        @Test
+        @DisplayName("Should add users registered elsewhere since the last load")
+        void catchUp_shouldLoadUsersAfterLastSeenId() {
+            // Given
+            when(userRepository.findEmailsAfterId(0L))
+                    .thenReturn(List.<Object[]>of(new Object[]{5L, "first@example.com"}));
+            filter.rebuild();
+            when(userRepository.findEmailsAfterId(5L))
+                    .thenReturn(List.<Object[]>of(new Object[]{6L, "Elsewhere@example.com"}));
+
+            // When
+            filter.catchUp();
+
+            // Then
+            assertTrue(filter.mightBeRegistered("elsewhere@example.com"));
+            verify(userRepository).findEmailsAfterId(5L);
+        }
+
+        @Test
+        @DisplayName("Should not query before the first rebuild")
+        void catchUp_beforeRebuild_shouldDoNothing() {
+            // When
+            filter.catchUp();
+
+            // Then
+            verifyNoInteractions(userRepository);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.adapter;
+
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.ArchivedTransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for TransactionArchiveBoundary.
+ *
+ * Tests cover:
+ * - Empty cold partition, re-checked until it has rows
+ * - Rows archived by another instance, seen through the horizon cutoff
+ * - Boundaries from an earlier, longer horizon and refresh after archival
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionArchiveBoundary Tests")
+class TransactionArchiveBoundaryTest {
+
+    private static final int HORIZON_MONTHS = 13;
+
+    @Mock
+    private ArchivedTransactionRepository archivedTransactionRepository;
+
+    private TransactionArchiveBoundary boundaryOn(LocalDate today) {
+        Clock clock = Clock.fixed(today.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        return new TransactionArchiveBoundary(archivedTransactionRepository, HORIZON_MONTHS, clock);
+    }
+
+    @Nested
+    @DisplayName("Empty cold partition")
+    class EmptyPartition {
+
+        @Test
+        @DisplayName("Should not reach the cold partition while it is empty")
+        void reaches_withEmptyPartition_shouldBeFalse() {
+            // Given
+            when(archivedTransactionRepository.existsByIdNotNull()).thenReturn(false);
+            TransactionArchiveBoundary boundary = boundaryOn(LocalDate.of(2025, 3, 10));
+
+            // When / Then
+            assertTrue(boundary.isEmpty());
+            assertFalse(boundary.reaches(null));
+        }
+
+        @Test
+        @DisplayName("Should notice rows archived by another instance")
+        void isEmpty_afterArchivalElsewhere_shouldBeFalse() {
+            // Given
+            when(archivedTransactionRepository.existsByIdNotNull()).thenReturn(false, true);
+            TransactionArchiveBoundary boundary = boundaryOn(LocalDate.of(2025, 3, 10));
+            assertTrue(boundary.isEmpty());
+
+            // When / Then
+            assertFalse(boundary.isEmpty());
+            assertFalse(boundary.isEmpty());
+            verify(archivedTransactionRepository, times(2)).existsByIdNotNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Archived rows")
+    class ArchivedRows {
+
+        @Test
+        @DisplayName("Should reach dates before the horizon cutoff even if its stored boundary is older")
+        void reaches_beforeHorizonCutoff_shouldBeTrue() {
+            // Given: this instance loaded the boundary before another one archived a new month
+            when(archivedTransactionRepository.existsByIdNotNull()).thenReturn(true);
+            when(archivedTransactionRepository.findMaxTransactionDate()).thenReturn(LocalDate.of(2023, 12, 31));
+            TransactionArchiveBoundary boundary = boundaryOn(LocalDate.of(2025, 3, 10));
+
+            // When / Then
+            assertTrue(boundary.reaches(LocalDate.of(2024, 1, 15)));
+            assertFalse(boundary.reaches(LocalDate.of(2024, 2, 1)));
+        }
+
+        @Test
+        @DisplayName("Should keep a day of margin for instances whose clock is already in the next month")
+        void reaches_onLastDayOfMonth_shouldIncludeNextCutoff() {
+            // Given
+            when(archivedTransactionRepository.existsByIdNotNull()).thenReturn(true);
+            TransactionArchiveBoundary boundary = boundaryOn(LocalDate.of(2025, 3, 31));
+
+            // When / Then: an instance already on 2025-04-01 archives everything before 2024-03-01
+            assertTrue(boundary.reaches(LocalDate.of(2024, 2, 15)));
+        }
+
+        @Test
+        @DisplayName("Should reach rows archived with an earlier, longer horizon")
+        void reaches_withStoredBoundaryAfterCutoff_shouldUseIt() {
+            // Given
+            when(archivedTransactionRepository.existsByIdNotNull()).thenReturn(true);
+            when(archivedTransactionRepository.findMaxTransactionDate()).thenReturn(LocalDate.of(2024, 6, 30));
+            TransactionArchiveBoundary boundary = boundaryOn(LocalDate.of(2025, 3, 10));
+
+            // When / Then
+            assertTrue(boundary.reaches(LocalDate.of(2024, 6, 30)));
+            assertFalse(boundary.reaches(LocalDate.of(2024, 7, 1)));
+        }
+
+        @Test
+        @DisplayName("Should re-read the stored boundary on refresh without moving it back")
+        void refresh_shouldOnlyMoveForward() {
+            // Given
+            when(archivedTransactionRepository.existsByIdNotNull()).thenReturn(true);
+            when(archivedTransactionRepository.findMaxTransactionDate())
+                    .thenReturn(LocalDate.of(2024, 6, 30), LocalDate.of(2024, 9, 30), LocalDate.of(2024, 1, 31));
+            TransactionArchiveBoundary boundary = boundaryOn(LocalDate.of(2025, 3, 10));
+            assertFalse(boundary.reaches(LocalDate.of(2024, 8, 1)));
+
+            // When
+            boundary.refresh();
+
+            // Then
+            assertTrue(boundary.reaches(LocalDate.of(2024, 8, 1)));
+            boundary.refresh();
+            assertTrue(boundary.reaches(LocalDate.of(2024, 8, 1)));
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.adapter;
+
+import com.apis.fintrack.domain.payment.model.PaymentMethodType;
+import com.apis.fintrack.domain.payment.model.PaymentStatus;
+import com.apis.fintrack.domain.subscription.model.Subscription;
+import com.apis.fintrack.domain.subscription.model.SubscriptionType;
+import com.apis.fintrack.domain.user.model.RoleType;
+import com.apis.fintrack.domain.user.model.User;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.StatementBudgetTest;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.PaymentJPAEntity;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.RoleJPAEntity;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.SubscriptionJPAEntity;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.UserJPAEntity;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.mapper.PaymentPersistenceMapper;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.mapper.SubscriptionPersistenceMapper;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.mapper.UserPersistenceMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.apis.fintrack.infrastructure.adapter.output.persistence.SqlStatementCounter.assertStatements;
+import static com.apis.fintrack.infrastructure.adapter.output.persistence.SqlStatementCounter.reset;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statement-count tests for the user and subscription read paths.
+ *
+ * Each read must cost a fixed number of SQL statements regardless of how many
+ * rows it maps; a lazy association touched by a mapper shows up here as extra
+ * statements.
+ *
+ * Tests cover:
+ * - User listings (all, by role, by birth date): one select plus the page count
+ * - User lookup by id and by email: one select, role and subscription included
+ * - Active subscription listing: one select, the page count and one batched payments load
+ */
+@StatementBudgetTest
+@Import({
+        UserRepositoryAdapter.class,
+        UserPersistenceMapper.class,
+        RegisteredEmailFilter.class,
+        SubscriptionRepositoryAdapter.class,
+        SubscriptionPersistenceMapper.class,
+        PaymentPersistenceMapper.class
+})
+@DisplayName("User Query Statement Count Tests")
+class UserQueryStatementCountTest {
+
+    private static final int USERS = 6;
+    private static final int SUBSCRIBERS = 4;
+    private static final int PAYMENTS_PER_SUBSCRIPTION = 2;
+    private static final PageRequest PAGE = PageRequest.of(0, 3);
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private UserRepositoryAdapter users;
+
+    @Autowired
+    private SubscriptionRepositoryAdapter subscriptions;
+
+    private Long firstUserId;
+
+    @BeforeEach
+    void setUp() {
+        RoleJPAEntity userRole = new RoleJPAEntity();
+        userRole.setRoleName(RoleType.USER);
+        em.persist(userRole);
+
+        List<UserJPAEntity> saved = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            UserJPAEntity user = new UserJPAEntity();
+            user.setName("Ana");
+            user.setSurname("Lopez");
+            user.setEmail("user" + i + "@example.com");
+            user.setPassword("$2a$10$abcdefghijklmnopqrstuv");
+            user.setBirthDate(LocalDate.of(1990, 1, 1 + i));
+            user.setAvailableFunds(BigDecimal.ZERO);
+            user.setRole(userRole);
+            saved.add(em.persist(user));
+        }
+
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            SubscriptionJPAEntity subscription = new SubscriptionJPAEntity();
+            subscription.setCostumer(saved.get(i));
+            subscription.setPrice(new BigDecimal("9.99"));
+            subscription.setSubscriptionDate(LocalDateTime.of(2024, 1, 1, 0, 0));
+            subscription.setStatus(SubscriptionType.MONTHLY);
+            subscription.setActive(true);
+            em.persist(subscription);
+            for (int p = 0; p < PAYMENTS_PER_SUBSCRIPTION; p++) {
+                PaymentJPAEntity payment = new PaymentJPAEntity();
+                payment.setCostumer(saved.get(i));
+                payment.setSubscription(subscription);
+                payment.setMethodType(PaymentMethodType.CREDIT_CARD);
+                payment.setStatus(PaymentStatus.SUCCEEDED);
+                payment.setPaymentDate(LocalDateTime.of(2024, 1 + p, 1, 0, 0));
+                em.persist(payment);
+            }
+        }
+
+        em.flush();
+        em.clear();
+        firstUserId = saved.get(0).getUserId();
+        reset();
+    }
+
+    @Nested
+    @DisplayName("User Listing Tests")
+    class UserListingTests {
+
+        @Test
+        @DisplayName("Should list a page of users with one select and one count")
+        void findAll_shouldUseTwoStatements() {
+            // When
+            Page<User> page = users.findAll(PAGE);
+
+            // Then
+            assertEquals(3, page.getContent().size());
+            assertStatements(2, 0, 0, 0);
+        }
+
+        @Test
+        @DisplayName("Should list users by role with one select and one count")
+        void findByRole_shouldUseTwoStatements() {
+            // When
+            Page<User> page = users.findByRole(RoleType.USER, PAGE);
+
+            // Then
+            assertEquals(3, page.getContent().size());
+            page.forEach(user -> assertEquals(RoleType.USER, user.getRole()));
+            assertStatements(2, 0, 0, 0);
+        }
+
+        @Test
+        @DisplayName("Should list users by birth date with one select and one count")
+        void findByBirthDateBetween_shouldUseTwoStatements() {
+            // When
+            Page<User> page = users.findByBirthDateBetween(
+                    LocalDate.of(1989, 1, 1), LocalDate.of(1991, 1, 1), PAGE);
+
+            // Then
+            assertEquals(3, page.getContent().size());
+            assertStatements(2, 0, 0, 0);
+        }
+    }
+
+    @Nested
+    @DisplayName("User Lookup Tests")
+    class UserLookupTests {
+
+        @Test
+        @DisplayName("Should load a user by id with a single select")
+        void findById_shouldUseOneStatement() {
+            // When
+            Optional<User> user = users.findById(firstUserId);
+
+            // Then
+            assertTrue(user.isPresent());
+            assertStatements(1, 0, 0, 0);
+        }
+
+        @Test
+        @DisplayName("Should load a user by email with its role in a single select")
+        void findByEmail_shouldUseOneStatement() {
+            // When
+            Optional<User> user = users.findByEmail("user0@example.com");
+
+            // Then
+            assertTrue(user.isPresent());
+            assertEquals(RoleType.USER, user.get().getRole());
+            assertStatements(1, 0, 0, 0);
+        }
+    }
+
+    @Nested
+    @DisplayName("Subscription Listing Tests")
+    class SubscriptionListingTests {
+
+        @Test
+        @DisplayName("Should list active subscriptions with one select, one count and one payments batch")
+        void findActiveSubscriptions_shouldUseThreeStatements() {
+            // When
+            Page<Subscription> page = subscriptions.findActiveSubscriptions(PAGE);
+
+            // Then
+            assertEquals(3, page.getContent().size());
+            page.forEach(subscription ->
+                    assertEquals(PAYMENTS_PER_SUBSCRIPTION, subscription.getPayments().size()));
+            assertStatements(3, 0, 0, 0);
+        }
+    }
+}
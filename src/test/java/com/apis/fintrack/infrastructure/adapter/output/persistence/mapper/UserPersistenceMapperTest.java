@@ -0,0 +1,105 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.mapper;
+
+import com.apis.fintrack.domain.user.model.RoleType;
+import com.apis.fintrack.domain.user.model.User;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.RoleJPAEntity;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.UserJPAEntity;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.RoleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for UserPersistenceMapper.
+ *
+ * Tests cover:
+ * - Stored role mapped to the domain user
+ * - Users without a loaded role defaulting to USER
+ * - Round trip that keeps an admin's role on save
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserPersistenceMapper Tests")
+class UserPersistenceMapperTest {
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    private UserPersistenceMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new UserPersistenceMapper(roleRepository);
+    }
+
+    private static RoleJPAEntity role(long id, RoleType type) {
+        RoleJPAEntity role = new RoleJPAEntity();
+        role.setRoleId(id);
+        role.setRoleName(type);
+        return role;
+    }
+
+    private static UserJPAEntity storedUser(RoleJPAEntity role) {
+        UserJPAEntity entity = new UserJPAEntity();
+        entity.setUserId(7L);
+        entity.setName("Ana");
+        entity.setSurname("Lopez");
+        entity.setEmail("ana@example.com");
+        entity.setPassword("$2a$10$storedhash");
+        entity.setBirthDate(LocalDate.of(1990, 5, 17));
+        entity.setAvailableFunds(new BigDecimal("150.00"));
+        entity.setRole(role);
+        return entity;
+    }
+
+    @Test
+    @DisplayName("Should map the stored role")
+    void toDomain_withAdminRole_shouldKeepAdmin() {
+        // Given
+        UserJPAEntity entity = storedUser(role(2L, RoleType.ADMIN));
+
+        // When
+        User user = mapper.toDomain(entity);
+
+        // Then
+        assertEquals(RoleType.ADMIN, user.getRole());
+        assertTrue(user.isAdmin());
+    }
+
+    @Test
+    @DisplayName("Should default to USER when no role is stored")
+    void toDomain_withoutRole_shouldBeUser() {
+        // Given
+        UserJPAEntity entity = storedUser(null);
+
+        // When
+        User user = mapper.toDomain(entity);
+
+        // Then
+        assertEquals(RoleType.USER, user.getRole());
+    }
+
+    @Test
+    @DisplayName("Should not demote an admin when the mapped user is saved back")
+    void toJpaEntity_afterToDomain_shouldKeepAdminRole() {
+        // Given
+        RoleJPAEntity admin = role(2L, RoleType.ADMIN);
+        when(roleRepository.findByRoleName(RoleType.ADMIN)).thenReturn(Optional.of(admin));
+        User user = mapper.toDomain(storedUser(admin));
+
+        // When
+        UserJPAEntity saved = mapper.toJpaEntity(user);
+
+        // Then
+        assertSame(admin, saved.getRole());
+    }
+}
@@ -0,0 +1,118 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BloomFilter.
+ *
+ * Tests cover:
+ * - No false negatives, for string keys and raw 64-bit hashes
+ * - False positive rate close to the configured one
+ * - Saturation reporting
+ * - Argument validation
+ */
+@DisplayName("BloomFilter Tests")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("Should always report values that were added")
+    void mightContain_withAddedValues_shouldBeTrue() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        String[] added = new String[1_000];
+        for (int i = 0; i < added.length; i++) {
+            added[i] = UUID.randomUUID().toString();
+            filter.add(added[i]);
+        }
+
+        for (String value : added) {
+            assertTrue(filter.mightContain(value));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep false positives near the configured rate at expected capacity")
+    void mightContain_withUnknownValues_shouldRarelyBeTrue() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        // 1% expected; leave room for randomness
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("Should always report added hashes")
+    void mightContain_withAddedHashes_shouldNeverMiss() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        SplittableRandom random = new SplittableRandom(42);
+        long[] hashes = random.longs(10_000).toArray();
+
+        // When
+        for (long hash : hashes) {
+            filter.add(hash);
+        }
+
+        // Then
+        for (long hash : hashes) {
+            assertTrue(filter.mightContain(hash));
+        }
+        assertFalse(filter.isSaturated());
+    }
+
+    @Test
+    @DisplayName("Should keep the false positive rate near the target for raw hashes")
+    void mightContain_withUnknownHashes_shouldRarelyMatch() {
+        // Given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        SplittableRandom random = new SplittableRandom(7);
+        random.longs(10_000).forEach(filter::add);
+
+        // When
+        long falsePositives = random.longs(100_000).filter(filter::mightContain).count();
+
+        // Then
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("Should report saturation once more keys than expected were added")
+    void isSaturated_afterExceedingCapacity_shouldReturnTrue() {
+        BloomFilter filter = new BloomFilter(2, 0.01);
+        filter.add(1L);
+        filter.add("two");
+        assertFalse(filter.isSaturated());
+        filter.add(3L);
+        assertTrue(filter.isSaturated());
+    }
+
+    @Test
+    @DisplayName("Should size bits and hash functions from the expected load")
+    void constructor_shouldDeriveSizing() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+
+        assertTrue(filter.bitCount() >= 9_585);
+        assertEquals(7, filter.hashCount());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid sizing arguments")
+    void constructor_withInvalidArguments_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(10, 1.0));
+    }
+}
@@ -0,0 +1,98 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.SortedMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DailyBalanceIndex.
+ *
+ * Tests cover:
+ * - Prefix balance lookups before, inside and after the indexed range
+ * - Growth of the index in both directions
+ * - Daily balance curves
+ */
+@DisplayName("DailyBalanceIndex Tests")
+class DailyBalanceIndexTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2025, 1, 1);
+
+    @Nested
+    @DisplayName("balanceAt Tests")
+    class BalanceAtTests {
+
+        @Test
+        @DisplayName("Should return zero for an empty index")
+        void balanceAt_withEmptyIndex_shouldReturnZero() {
+            assertEquals(0L, new DailyBalanceIndex().balanceAt(JAN_1));
+        }
+
+        @Test
+        @DisplayName("Should accumulate daily deltas up to and including the day")
+        void balanceAt_withDailyDeltas_shouldReturnPrefixSum() {
+            // Given
+            DailyBalanceIndex index = DailyBalanceIndex.fromDailyDeltas(Map.of(
+                JAN_1, 10_000L,
+                JAN_1.plusDays(3), -2_550L,
+                JAN_1.plusDays(10), 500L
+            ));
+
+            // When / Then
+            assertEquals(0L, index.balanceAt(JAN_1.minusDays(1)));
+            assertEquals(10_000L, index.balanceAt(JAN_1));
+            assertEquals(10_000L, index.balanceAt(JAN_1.plusDays(2)));
+            assertEquals(7_450L, index.balanceAt(JAN_1.plusDays(3)));
+            assertEquals(7_950L, index.balanceAt(JAN_1.plusDays(10)));
+            assertEquals(7_950L, index.balanceAt(JAN_1.plusYears(5)));
+        }
+
+        @Test
+        @DisplayName("Should keep prefix sums correct after growing forwards and backwards")
+        void add_outsideCurrentRange_shouldGrowIndex() {
+            // Given
+            DailyBalanceIndex index = new DailyBalanceIndex();
+            index.add(JAN_1, 1_000L);
+
+            // When
+            index.add(JAN_1.plusDays(400), 200L);
+            index.add(JAN_1.minusDays(100), 50L);
+
+            // Then
+            assertEquals(50L, index.balanceAt(JAN_1.minusDays(1)));
+            assertEquals(1_050L, index.balanceAt(JAN_1));
+            assertEquals(1_050L, index.balanceAt(JAN_1.plusDays(399)));
+            assertEquals(1_250L, index.balanceAt(JAN_1.plusDays(400)));
+        }
+    }
+
+    @Nested
+    @DisplayName("curve Tests")
+    class CurveTests {
+
+        @Test
+        @DisplayName("Should return one cumulative point per day in the range")
+        void curve_withRange_shouldReturnDailyBalances() {
+            // Given
+            DailyBalanceIndex index = new DailyBalanceIndex();
+            index.add(JAN_1, 1_000L);
+            index.add(JAN_1.plusDays(2), -300L);
+
+            // When
+            SortedMap<LocalDate, Long> curve = index.curve(JAN_1.minusDays(1), JAN_1.plusDays(3));
+
+            // Then
+            assertEquals(5, curve.size());
+            assertEquals(0L, curve.get(JAN_1.minusDays(1)));
+            assertEquals(1_000L, curve.get(JAN_1));
+            assertEquals(1_000L, curve.get(JAN_1.plusDays(1)));
+            assertEquals(700L, curve.get(JAN_1.plusDays(2)));
+            assertEquals(700L, curve.get(JAN_1.plusDays(3)));
+        }
+    }
+}
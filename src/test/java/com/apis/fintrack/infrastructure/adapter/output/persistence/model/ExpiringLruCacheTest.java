@@ -0,0 +1,80 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ExpiringLruCache.
+ *
+ * Tests cover:
+ * - Entries expire after the TTL
+ * - Size stays bounded past capacity
+ */
+@DisplayName("ExpiringLruCache Tests")
+class ExpiringLruCacheTest {
+
+    /**
+     * Clock that only moves when told to.
+     */
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    @Test
+    @DisplayName("Should return entries until their TTL elapses")
+    void get_afterTtl_shouldReturnNull() {
+        // Given
+        MutableClock clock = new MutableClock();
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10, Duration.ofMinutes(5), clock);
+        cache.put("key", "value");
+
+        // When / Then
+        clock.advance(Duration.ofMinutes(4));
+        assertEquals("value", cache.get("key"));
+        clock.advance(Duration.ofMinutes(1));
+        assertNull(cache.get("key"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should evict entries past capacity")
+    void put_pastCapacity_shouldStayBounded() {
+        // Given
+        ExpiringLruCache<String, Integer> cache = new ExpiringLruCache<>(2, Duration.ofMinutes(5));
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            cache.put("key-" + i, i);
+        }
+
+        // Then
+        assertEquals(2, cache.size());
+    }
+}
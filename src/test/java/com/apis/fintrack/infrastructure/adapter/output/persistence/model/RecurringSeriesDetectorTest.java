@@ -0,0 +1,79 @@
+package com.apis.fintrack.infrastructure.adapter.output.persistence.model;
+
+import com.apis.fintrack.domain.transaction.model.RecurrencePeriod;
+import com.apis.fintrack.domain.transaction.model.RecurringSeries;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RecurringSeriesDetector.
+ *
+ * Tests cover:
+ * - Monthly and weekly series detection with date jitter and price changes
+ * - Out-of-order inserts
+ * - Irregular groups not being reported
+ */
+@DisplayName("RecurringSeriesDetector Tests")
+class RecurringSeriesDetectorTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2025, 1, 1);
+
+    @Test
+    @DisplayName("Should detect a monthly charge despite jitter and a small price increase")
+    void detected_withMonthlyCharges_shouldReportMonthlySeries() {
+        // Given
+        RecurringSeriesDetector detector = new RecurringSeriesDetector();
+        detector.add(JAN_1.plusDays(4), new BigDecimal("-12.99"), "NETFLIX.COM");
+        detector.add(JAN_1.plusMonths(1).plusDays(5), new BigDecimal("-12.99"), "Netflix.com");
+        detector.add(JAN_1.plusMonths(2).plusDays(4), new BigDecimal("-13.99"), "Netflix.com");
+
+        // When
+        List<RecurringSeries> series = detector.detected();
+
+        // Then
+        assertEquals(1, series.size());
+        RecurringSeries netflix = series.get(0);
+        assertEquals(RecurrencePeriod.MONTHLY, netflix.period());
+        assertEquals(new BigDecimal("-13.99"), netflix.amount());
+        assertEquals(JAN_1.plusMonths(2).plusDays(4), netflix.lastDate());
+        assertEquals(3, netflix.occurrences());
+    }
+
+    @Test
+    @DisplayName("Should detect a weekly series inserted out of order")
+    void detected_withOutOfOrderInserts_shouldReportWeeklySeries() {
+        // Given
+        RecurringSeriesDetector detector = new RecurringSeriesDetector();
+        detector.add(JAN_1.plusWeeks(2), new BigDecimal("-20.00"), "Gimnasio");
+        detector.add(JAN_1, new BigDecimal("-20.00"), "Gimnasio");
+        detector.add(JAN_1.plusWeeks(1), new BigDecimal("-20.00"), "Gimnasio");
+
+        // When / Then
+        List<RecurringSeries> series = detector.detected();
+        assertEquals(1, series.size());
+        assertEquals(RecurrencePeriod.WEEKLY, series.get(0).period());
+        assertEquals(JAN_1.plusWeeks(2), series.get(0).lastDate());
+    }
+
+    @Test
+    @DisplayName("Should not report irregular or differently priced transactions")
+    void detected_withIrregularTransactions_shouldReportNothing() {
+        // Given
+        RecurringSeriesDetector detector = new RecurringSeriesDetector();
+        detector.add(JAN_1, new BigDecimal("-35.20"), "Supermercado");
+        detector.add(JAN_1.plusDays(3), new BigDecimal("-35.20"), "Supermercado");
+        detector.add(JAN_1.plusDays(17), new BigDecimal("-35.20"), "Supermercado");
+        detector.add(JAN_1, new BigDecimal("-9.99"), "Spotify");
+        detector.add(JAN_1.plusMonths(1), new BigDecimal("-99.00"), "Spotify");
+        detector.add(JAN_1.plusMonths(2), new BigDecimal("-9.99"), "Spotify");
+
+        // When / Then
+        assertTrue(detector.detected().isEmpty());
+    }
+}
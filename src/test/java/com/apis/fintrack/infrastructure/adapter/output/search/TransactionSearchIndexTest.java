@@ -0,0 +1,177 @@
+package com.apis.fintrack.infrastructure.adapter.output.search;
+
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TransactionSearchIndex.
+ *
+ * Tests cover:
+ * - Prefix, fuzzy and accent-insensitive matching
+ * - Per-user isolation and newest-first ordering
+ * - Upsert and delete semantics
+ * - Clean-shutdown marker and id high-water mark used to detect a stale index
+ */
+@DisplayName("TransactionSearchIndex Tests")
+class TransactionSearchIndexTest {
+
+    private static final long USER = 1L;
+    private static final long OTHER_USER = 2L;
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+    private ByteBuffersDirectory directory;
+    private TransactionSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = new ByteBuffersDirectory();
+        index = new TransactionSearchIndex(directory);
+        index.upsert(1L, USER, "Supermercado Mercadona", DAY.minusDays(5));
+        index.upsert(2L, USER, "Cafetería central", DAY);
+        index.upsert(3L, USER, "Supermercado Lidl", DAY.minusDays(1));
+        index.upsert(4L, OTHER_USER, "Supermercado Carrefour", DAY);
+        index.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Nested
+    @DisplayName("search Tests")
+    class SearchTests {
+
+        @Test
+        @DisplayName("Should match by prefix, only for the user, newest first")
+        void search_withPrefix_shouldReturnUserMatchesNewestFirst() throws IOException {
+            assertEquals(List.of(3L, 1L), index.search(USER, "super", 10));
+        }
+
+        @Test
+        @DisplayName("Should tolerate small typos")
+        void search_withTypo_shouldMatchFuzzily() throws IOException {
+            assertEquals(List.of(1L), index.search(USER, "mercadna", 10));
+        }
+
+        @Test
+        @DisplayName("Should ignore case and accents")
+        void search_withoutAccents_shouldMatchAccentedDescription() throws IOException {
+            assertEquals(List.of(2L), index.search(USER, "CAFETERIA", 10));
+        }
+
+        @Test
+        @DisplayName("Should require every term to match")
+        void search_withSeveralTerms_shouldIntersect() throws IOException {
+            assertEquals(List.of(3L), index.search(USER, "super lidl", 10));
+        }
+
+        @Test
+        @DisplayName("Should return nothing for text without terms")
+        void search_withPunctuationOnly_shouldReturnEmpty() throws IOException {
+            assertTrue(index.search(USER, " -- ", 10).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("write Tests")
+    class WriteTests {
+
+        @Test
+        @DisplayName("Should replace the previous version on upsert")
+        void upsert_withExistingId_shouldReplaceDocument() throws IOException {
+            // When
+            index.upsert(3L, USER, "Gasolinera", DAY);
+            index.refresh();
+
+            // Then
+            assertEquals(List.of(1L), index.search(USER, "supermercado", 10));
+            assertEquals(List.of(3L), index.search(USER, "gasolinera", 10));
+            assertEquals(4, index.documentCount());
+        }
+
+        @Test
+        @DisplayName("Should remove single documents and whole users")
+        void delete_shouldRemoveDocuments() throws IOException {
+            // When
+            index.delete(1L);
+            index.deleteAllOfUser(OTHER_USER);
+            index.refresh();
+
+            // Then
+            assertEquals(List.of(3L), index.search(USER, "supermercado", 10));
+            assertTrue(index.search(OTHER_USER, "supermercado", 10).isEmpty());
+            assertEquals(2, index.documentCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("commit Tests")
+    class CommitTests {
+
+        @Test
+        @DisplayName("Should report the highest indexed id")
+        void maxId_shouldFollowWrites() throws IOException {
+            assertEquals(4L, index.maxId());
+
+            index.delete(4L);
+            index.refresh();
+
+            assertEquals(3L, index.maxId());
+        }
+
+        @Test
+        @DisplayName("Should report 0 as the highest id of an empty index")
+        void maxId_withEmptyIndex_shouldBeZero() throws IOException {
+            index.deleteAll();
+
+            assertEquals(0L, index.maxId());
+        }
+
+        @Test
+        @DisplayName("Should remember a clean shutdown across reopening")
+        void commit_withCleanShutdown_shouldBeSeenOnReopen() throws IOException {
+            // Given
+            index.commit(true);
+            index.close();
+
+            // When
+            index = new TransactionSearchIndex(directory);
+
+            // Then
+            assertTrue(index.lastCommitWasCleanShutdown());
+            assertEquals(4, index.documentCount());
+        }
+
+        @Test
+        @DisplayName("Should not report a clean shutdown after a periodic commit")
+        void commit_withPeriodicCommit_shouldNotBeClean() throws IOException {
+            // Given
+            index.commit(false);
+            index.close();
+
+            // When
+            index = new TransactionSearchIndex(directory);
+
+            // Then
+            assertFalse(index.lastCommitWasCleanShutdown());
+        }
+
+        @Test
+        @DisplayName("Should not report a clean shutdown for a new index")
+        void lastCommitWasCleanShutdown_withNewIndex_shouldBeFalse() {
+            assertFalse(index.lastCommitWasCleanShutdown());
+            assertTrue(index.hasUncommittedChanges());
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.apis.fintrack.infrastructure.config;
+
+import com.apis.fintrack.infrastructure.adapter.output.persistence.model.ExpiringLruCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for ReplicaRoutingDataSource, on two embedded H2
+ * databases standing in for the primary and the replica.
+ *
+ * Each database has a one-row "node" table naming itself, so a query shows
+ * where it was routed. The replica's "replica_status" table plays the part of
+ * SHOW REPLICA STATUS for ReplicaLagMonitor.
+ *
+ * Tests cover:
+ * - Read-only transactions on the replica, writes and non-transactional access on the primary
+ * - Fallback to the primary when the replica lags, stops replicating or was never checked
+ * - Read-your-writes stickiness per user after a committed write, and its expiry
+ */
+@DisplayName("ReplicaRoutingDataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private static final Duration STICKY = Duration.ofSeconds(10);
+
+    private final AtomicReference<Long> currentUser = new AtomicReference<>();
+    private final MutableClock clock = new MutableClock();
+
+    private DataSource replica;
+    private JdbcTemplate replicaAdmin;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        replica = database("replica");
+        replicaAdmin = new JdbcTemplate(replica);
+        replicaAdmin.execute("CREATE TABLE replica_status (lag_seconds BIGINT)");
+        replicaAdmin.update("INSERT INTO replica_status VALUES (0)");
+
+        lagMonitor = new ReplicaLagMonitor(replica,
+                "SELECT lag_seconds AS Seconds_Behind_Source FROM replica_status",
+                "Seconds_Behind_Source", 2, new SimpleMeterRegistry());
+        lagMonitor.check();
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, lagMonitor,
+                new ExpiringLruCache<>(100, STICKY, clock), currentUser::get);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbc = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Nested
+    @DisplayName("Routing Tests")
+    class RoutingTests {
+
+        @Test
+        @DisplayName("Should send read-only transactions to the replica")
+        void readOnlyTransaction_shouldUseReplica() {
+            assertEquals("replica", readOnly.execute(status -> node()));
+        }
+
+        @Test
+        @DisplayName("Should send read-write transactions to the primary")
+        void readWriteTransaction_shouldUsePrimary() {
+            assertEquals("primary", readWrite.execute(status -> node()));
+        }
+
+        @Test
+        @DisplayName("Should use the primary outside transactions")
+        void noTransaction_shouldUsePrimary() {
+            assertEquals("primary", node());
+        }
+    }
+
+    @Nested
+    @DisplayName("Replica Lag Tests")
+    class ReplicaLagTests {
+
+        @Test
+        @DisplayName("Should fall back to the primary while the replica lags beyond the limit")
+        void laggingReplica_shouldFallBackToPrimary() {
+            // Given
+            replicaAdmin.update("UPDATE replica_status SET lag_seconds = 30");
+            lagMonitor.check();
+
+            // When / Then
+            assertEquals("primary", readOnly.execute(status -> node()));
+
+            // Given: the replica catches up
+            replicaAdmin.update("UPDATE replica_status SET lag_seconds = 1");
+            lagMonitor.check();
+
+            // When / Then
+            assertEquals("replica", readOnly.execute(status -> node()));
+        }
+
+        @Test
+        @DisplayName("Should fall back to the primary when replication is stopped")
+        void stoppedReplication_shouldFallBackToPrimary() {
+            // Given
+            replicaAdmin.update("UPDATE replica_status SET lag_seconds = NULL");
+            lagMonitor.check();
+
+            // When / Then
+            assertFalse(lagMonitor.isReplicaUsable());
+            assertEquals("primary", readOnly.execute(status -> node()));
+        }
+
+        @Test
+        @DisplayName("Should not use the replica before its lag has been checked")
+        void uncheckedReplica_shouldNotBeUsable() {
+            ReplicaLagMonitor unchecked = new ReplicaLagMonitor(replica,
+                    "SELECT lag_seconds AS Seconds_Behind_Source FROM replica_status",
+                    "Seconds_Behind_Source", 2, new SimpleMeterRegistry());
+
+            assertFalse(unchecked.isReplicaUsable());
+        }
+    }
+
+    @Nested
+    @DisplayName("Read-Your-Writes Tests")
+    class ReadYourWritesTests {
+
+        @Test
+        @DisplayName("Should keep a user's reads on the primary right after their write")
+        void readAfterWrite_shouldStickToPrimary() {
+            // Given
+            currentUser.set(7L);
+            readWrite.executeWithoutResult(status -> node());
+
+            // When / Then
+            assertEquals("primary", readOnly.execute(status -> node()));
+
+            // Other users still read from the replica
+            currentUser.set(8L);
+            assertEquals("replica", readOnly.execute(status -> node()));
+        }
+
+        @Test
+        @DisplayName("Should return the user to the replica once the window has passed")
+        void readAfterWindow_shouldUseReplica() {
+            // Given
+            currentUser.set(7L);
+            readWrite.executeWithoutResult(status -> node());
+
+            // When
+            clock.advance(STICKY.plusSeconds(1));
+
+            // Then
+            assertEquals("replica", readOnly.execute(status -> node()));
+        }
+
+        @Test
+        @DisplayName("Should not make the user sticky when the write rolls back")
+        void rolledBackWrite_shouldNotStick() {
+            // Given
+            currentUser.set(7L);
+            readWrite.executeWithoutResult(status -> {
+                node();
+                status.setRollbackOnly();
+            });
+
+            // When / Then
+            assertEquals("replica", readOnly.execute(status -> node()));
+        }
+    }
+
+    private String node() {
+        return jdbc.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate admin = new JdbcTemplate(dataSource);
+        admin.execute("DROP ALL OBJECTS");
+        admin.execute("CREATE TABLE node (name VARCHAR(16))");
+        admin.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
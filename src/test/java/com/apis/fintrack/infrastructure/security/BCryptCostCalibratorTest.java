@@ -0,0 +1,59 @@
+package com.apis.fintrack.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BCryptCostCalibrator.
+ *
+ * Tests cover:
+ * - Cost chosen from the measured latency at the minimum cost
+ * - Clamping to the configured range
+ * - Invalid ranges
+ */
+@DisplayName("BCryptCostCalibrator Tests")
+class BCryptCostCalibratorTest {
+
+    private final BCryptCostCalibrator calibrator = new BCryptCostCalibrator(Duration.ofMillis(250), 10, 14);
+
+    @Nested
+    @DisplayName("costFor Tests")
+    class CostForTests {
+
+        @Test
+        @DisplayName("Should add one cost step per doubling that fits in the target")
+        void costFor_fastHost_shouldRaiseCost() {
+            // 50ms at cost 10 -> 100ms at 11 -> 200ms at 12 -> 400ms at 13 is over 250ms
+            assertEquals(12, calibrator.costFor(Duration.ofMillis(50)));
+        }
+
+        @Test
+        @DisplayName("Should keep the minimum cost on a slow host")
+        void costFor_slowHost_shouldKeepMinCost() {
+            assertEquals(10, calibrator.costFor(Duration.ofMillis(400)));
+        }
+
+        @Test
+        @DisplayName("Should not exceed the maximum cost")
+        void costFor_veryFastHost_shouldClampToMaxCost() {
+            assertEquals(14, calibrator.costFor(Duration.ofNanos(1)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Constructor Tests")
+    class ConstructorTests {
+
+        @Test
+        @DisplayName("Should reject a range outside what BCrypt supports")
+        void constructor_invalidRange_shouldThrow() {
+            assertThrows(IllegalArgumentException.class, () -> new BCryptCostCalibrator(Duration.ofMillis(250), 3, 10));
+            assertThrows(IllegalArgumentException.class, () -> new BCryptCostCalibrator(Duration.ofMillis(250), 12, 10));
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package com.apis.fintrack.infrastructure.security;
 
 import com.apis.fintrack.application.auth.dto.AuthenticatedUser;
+import com.apis.fintrack.application.auth.dto.VerifiedToken;
 import com.apis.fintrack.application.auth.port.output.AuthenticationPort;
 import com.apis.fintrack.application.auth.port.output.TokenPort;
+import com.apis.fintrack.infrastructure.security.adapter.JwtTokenAdapter;
+import io.jsonwebtoken.io.Encoders;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import java.util.Set;
-import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -17,7 +19,7 @@ class JwtAdaptersTest {
         TokenPort tokenPort = Mockito.mock(TokenPort.class);
         AuthenticationPort authPort = Mockito.mock(AuthenticationPort.class);
 
-        AuthenticatedUser user = new AuthenticatedUser(UUID.randomUUID(), "user@example.com", Set.of("ROLE_USER"));
+        AuthenticatedUser user = new AuthenticatedUser(1L, "user@example.com", Set.of("ROLE_USER"), 0);
 
         Mockito.when(tokenPort.validateAndExtractSubject("valid-token")).thenReturn(java.util.Optional.of("user@example.com"));
         Mockito.when(authPort.findByUsername("user@example.com")).thenReturn(java.util.Optional.of(user));
@@ -30,5 +32,18 @@ class JwtAdaptersTest {
         assertTrue(maybeUser.isPresent());
         assertEquals(user.getUsername(), maybeUser.get().getUsername());
     }
-}
 
+    @Test
+    void jwtTokenAdapterRoundTripsIdentityClaims() {
+        JwtTokenAdapter adapter = new JwtTokenAdapter(new JwtService(Encoders.BASE64.encode(new byte[32])));
+        AuthenticatedUser user = new AuthenticatedUser(42L, "user@example.com", Set.of("ROLE_ADMIN"), 3);
+
+        VerifiedToken verified = adapter.verify(adapter.generateToken(user)).orElseThrow();
+
+        assertEquals("user@example.com", verified.subject());
+        assertEquals(Long.valueOf(42L), verified.userId());
+        assertEquals(Set.of("ROLE_ADMIN"), verified.roles());
+        assertEquals(3, verified.tokenVersion());
+        assertNotNull(verified.tokenId());
+    }
+}
@@ -0,0 +1,57 @@
+package com.apis.fintrack.infrastructure.security;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.io.Encoders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JwtService Tests")
+class JwtServiceTest {
+
+    private static final String SECRET = Encoders.BASE64.encode(new byte[]{
+            1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16,
+            17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32});
+
+    private JwtService jwtService;
+    private UserDetails user;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(SECRET);
+        user = new User("user@example.com", "", List.of());
+    }
+
+    @Test
+    @DisplayName("Should verify a token it issued and expose its subject")
+    void parseAndVerify_withIssuedToken_shouldReturnClaims() {
+        String token = jwtService.generateToken(user);
+
+        assertEquals("user@example.com", jwtService.parseAndVerify(token).getSubject());
+        assertTrue(jwtService.isTokenValid(token, user));
+    }
+
+    @Test
+    @DisplayName("Should reject a token with a tampered signature")
+    void parseAndVerify_withTamperedToken_shouldThrow() {
+        String token = jwtService.generateToken(user);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtService.parseAndVerify(tampered));
+    }
+
+    @Test
+    @DisplayName("Should reject a token signed with another key")
+    void parseAndVerify_withForeignKey_shouldThrow() {
+        JwtService other = new JwtService(Encoders.BASE64.encode(new byte[32]));
+        String foreign = other.generateToken(user);
+
+        assertThrows(JwtException.class, () -> jwtService.parseAndVerify(foreign));
+    }
+}
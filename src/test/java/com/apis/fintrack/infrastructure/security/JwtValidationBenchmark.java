@@ -0,0 +1,79 @@
+package com.apis.fintrack.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.User;
+
+import javax.crypto.SecretKey;
+import java.security.SecureRandom;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of access-token validations per second.
+ *
+ * - perRequestKeyAndThreeParses: the previous request path. The filter parsed the
+ *   token in validateAndExtractSubject and again in isTokenValid (subject and
+ *   expiration), each time decoding the secret and building a new key and parser.
+ * - prebuiltParserSingleParse: the current path through JwtService, with the key
+ *   and parser built once and one verification per request.
+ *
+ * Not part of the unit test run. Execute the main method from the IDE or with
+ * the test classpath, e.g.
+ * {@code java -cp target/test-classes:<test classpath> com.apis.fintrack.infrastructure.security.JwtValidationBenchmark}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtValidationBenchmark {
+
+    private String secret;
+    private String token;
+    private JwtService jwtService;
+
+    @Setup
+    public void setUp() {
+        byte[] keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+        secret = Encoders.BASE64.encode(keyBytes);
+        jwtService = new JwtService(secret);
+        token = jwtService.generateToken(new User("user@example.com", "", List.of()));
+    }
+
+    @Benchmark
+    public boolean perRequestKeyAndThreeParses() {
+        String subject = legacyClaims().getSubject();
+        String username = legacyClaims().getSubject();
+        Date expiration = legacyClaims().getExpiration();
+        return subject != null && username.equals(subject) && !expiration.before(new Date());
+    }
+
+    @Benchmark
+    public String prebuiltParserSingleParse() {
+        return jwtService.parseAndVerify(token).getSubject();
+    }
+
+    private Claims legacyClaims() {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtValidationBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
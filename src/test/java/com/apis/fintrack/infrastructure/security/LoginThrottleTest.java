@@ -0,0 +1,152 @@
+package com.apis.fintrack.infrastructure.security;
+
+import com.apis.fintrack.application.auth.exception.AuthenticationThrottledException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LoginThrottle.
+ *
+ * Tests cover:
+ * - Per-account failure limit and reset on success
+ * - Per-client attempt limit
+ * - Window expiry and Retry-After value
+ */
+@DisplayName("LoginThrottle Tests")
+class LoginThrottleTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    private MutableClock clock;
+    private LoginThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+        throttle = new LoginThrottle(3, Duration.ofMinutes(15), 5, Duration.ofSeconds(60), clock);
+    }
+
+    @Nested
+    @DisplayName("Per-account Tests")
+    class AccountTests {
+
+        @Test
+        @DisplayName("Should reject the account after the maximum number of failures")
+        void checkAllowed_afterMaxFailures_shouldThrow() {
+            // Given
+            for (int i = 0; i < 3; i++) {
+                throttle.recordFailure("user@example.com");
+            }
+
+            // When / Then
+            AuthenticationThrottledException ex = assertThrows(AuthenticationThrottledException.class,
+                    () -> throttle.checkAllowed("USER@example.com", "10.0.0.2"));
+            assertEquals(15 * 60, ex.getRetryAfterSeconds());
+        }
+
+        @Test
+        @DisplayName("Should clear the failures after a successful login")
+        void recordSuccess_shouldResetFailures() {
+            // Given
+            throttle.recordFailure("user@example.com");
+            throttle.recordFailure("user@example.com");
+            throttle.recordSuccess("user@example.com");
+            throttle.recordFailure("user@example.com");
+            throttle.recordFailure("user@example.com");
+
+            // When / Then
+            assertDoesNotThrow(() -> throttle.checkAllowed("user@example.com", "10.0.0.1"));
+        }
+
+        @Test
+        @DisplayName("Should allow the account again once the window has passed")
+        void checkAllowed_afterWindow_shouldAllow() {
+            // Given
+            for (int i = 0; i < 3; i++) {
+                throttle.recordFailure("user@example.com");
+            }
+
+            // When
+            clock.advance(Duration.ofMinutes(15));
+
+            // Then
+            assertDoesNotThrow(() -> throttle.checkAllowed("user@example.com", "10.0.0.1"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Per-client Tests")
+    class ClientTests {
+
+        @Test
+        @DisplayName("Should reject a client over its attempt limit across accounts")
+        void checkAllowed_overIpLimit_shouldThrow() {
+            // Given
+            for (int i = 0; i < 5; i++) {
+                throttle.checkAllowed("user" + i + "@example.com", "10.0.0.1");
+            }
+
+            // When / Then
+            assertThrows(AuthenticationThrottledException.class,
+                    () -> throttle.checkAllowed("other@example.com", "10.0.0.1"));
+            assertDoesNotThrow(() -> throttle.checkAllowed("other@example.com", "10.0.0.2"));
+        }
+
+        @Test
+        @DisplayName("Should start a new window for the client after it expires")
+        void checkClient_afterWindow_shouldAllow() {
+            // Given
+            for (int i = 0; i < 5; i++) {
+                throttle.checkClient("10.0.0.1");
+            }
+            clock.advance(Duration.ofSeconds(30));
+            AuthenticationThrottledException ex = assertThrows(AuthenticationThrottledException.class,
+                    () -> throttle.checkClient("10.0.0.1"));
+            assertEquals(30, ex.getRetryAfterSeconds());
+
+            // When
+            clock.advance(Duration.ofSeconds(30));
+
+            // Then
+            assertDoesNotThrow(() -> throttle.checkClient("10.0.0.1"));
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.apis.fintrack.infrastructure.security;
+
+import com.apis.fintrack.domain.user.model.RoleType;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.PropertyRepository;
+import com.apis.fintrack.infrastructure.security.model.PropertyEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PermissionMatrix.
+ *
+ * Tests cover:
+ * - Bit tests per role and per authentication
+ * - Deny before the first load
+ * - Refresh replacing the table
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PermissionMatrix Tests")
+class PermissionMatrixTest {
+
+    @Mock
+    private PropertyRepository propertyRepository;
+
+    private PermissionMatrix matrix;
+
+    @BeforeEach
+    void setUp() {
+        matrix = new PermissionMatrix(propertyRepository);
+    }
+
+    private static Authentication authenticated(String role) {
+        return new UsernamePasswordAuthenticationToken("user@example.com", null,
+                List.of(new SimpleGrantedAuthority(role)));
+    }
+
+    @Nested
+    @DisplayName("has Tests")
+    class HasTests {
+
+        @Test
+        @DisplayName("Should grant only the permissions assigned to the role")
+        void has_afterRefresh_shouldFollowMatrix() {
+            // Given
+            when(propertyRepository.findRolePermissionPairs()).thenReturn(List.of(
+                    new Object[]{RoleType.ADMIN, PropertyEnum.READ},
+                    new Object[]{RoleType.ADMIN, PropertyEnum.DELETE},
+                    new Object[]{RoleType.USER, PropertyEnum.READ}));
+
+            // When
+            matrix.refresh();
+
+            // Then
+            assertTrue(matrix.has(authenticated("ROLE_ADMIN"), "DELETE"));
+            assertTrue(matrix.has(authenticated("ROLE_USER"), "read"));
+            assertFalse(matrix.has(authenticated("ROLE_USER"), "DELETE"));
+            assertFalse(matrix.has(authenticated("ROLE_SUBSCRIBER"), "READ"));
+            assertTrue(matrix.has(RoleType.ADMIN, PropertyEnum.READ));
+            assertFalse(matrix.has(RoleType.ADMIN, PropertyEnum.CREATE));
+        }
+
+        @Test
+        @DisplayName("Should deny everything before the matrix is loaded")
+        void has_beforeRefresh_shouldDeny() {
+            assertFalse(matrix.has(authenticated("ROLE_ADMIN"), "READ"));
+            assertFalse(matrix.has(null, "READ"));
+        }
+
+        @Test
+        @DisplayName("Should answer from the new table after a refresh")
+        void refresh_shouldReplaceTable() {
+            // Given
+            when(propertyRepository.findRolePermissionPairs())
+                    .thenReturn(List.<Object[]>of(new Object[]{RoleType.USER, PropertyEnum.READ}))
+                    .thenReturn(List.of());
+            matrix.refresh();
+            assertTrue(matrix.has(RoleType.USER, PropertyEnum.READ));
+
+            // When
+            matrix.refresh();
+
+            // Then
+            assertFalse(matrix.has(RoleType.USER, PropertyEnum.READ));
+            verify(propertyRepository, times(2)).findRolePermissionPairs();
+        }
+    }
+}
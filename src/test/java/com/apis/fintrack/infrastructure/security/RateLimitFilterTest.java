@@ -0,0 +1,161 @@
+package com.apis.fintrack.infrastructure.security;
+
+import com.apis.fintrack.infrastructure.security.model.FintrackUserDetails;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RateLimitFilter.
+ *
+ * Tests cover:
+ * - Limits per route group and per client
+ * - 429 response with Retry-After
+ * - Bounded bucket map with overflow bucket
+ * - Micrometer counters
+ */
+@DisplayName("RateLimitFilter Tests")
+class RateLimitFilterTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("fintrack.rate-limit.documents.capacity", "2")
+                .withProperty("fintrack.rate-limit.documents.refill-per-minute", "60")
+                .withProperty("fintrack.rate-limit.webhooks.capacity", "0");
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(environment, meterRegistry,
+                new ObjectMapper().registerModule(new JavaTimeModule()), 2, now::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletResponse call(String path, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    @Nested
+    @DisplayName("Limit Tests")
+    class LimitTests {
+
+        @Test
+        @DisplayName("Should reject with 429 and Retry-After once the group's bucket is empty")
+        void doFilter_overLimit_shouldReturn429() throws Exception {
+            // Given
+            call("/api/v1/documents/scan", "10.0.0.1");
+            call("/api/v1/documents/scan", "10.0.0.1");
+
+            // When
+            MockHttpServletResponse response = call("/api/v1/documents/scan", "10.0.0.1");
+
+            // Then
+            assertEquals(429, response.getStatus());
+            assertEquals("1", response.getHeader("Retry-After"));
+            assertEquals(1.0, meterRegistry.counter("http.rate-limit.requests",
+                    "group", "documents", "outcome", "throttled").count());
+            assertEquals(2.0, meterRegistry.counter("http.rate-limit.requests",
+                    "group", "documents", "outcome", "allowed").count());
+        }
+
+        @Test
+        @DisplayName("Should keep separate buckets per client and refill over time")
+        void doFilter_otherClientOrLater_shouldPass() throws Exception {
+            // Given
+            call("/api/v1/documents/scan", "10.0.0.1");
+            call("/api/v1/documents/scan", "10.0.0.1");
+
+            // When / Then
+            assertEquals(200, call("/api/v1/documents/scan", "10.0.0.2").getStatus());
+            now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+            assertEquals(200, call("/api/v1/documents/scan", "10.0.0.1").getStatus());
+        }
+
+        @Test
+        @DisplayName("Should key authenticated requests by user id, not address")
+        void doFilter_authenticated_shouldUseUserBucket() throws Exception {
+            // Given
+            FintrackUserDetails principal = new FintrackUserDetails(7L, "user@example.com", "", 0, List.of());
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+            call("/api/v1/documents/scan", "10.0.0.1");
+            call("/api/v1/documents/scan", "10.0.0.2");
+
+            // When / Then
+            assertEquals(429, call("/api/v1/documents/scan", "10.0.0.3").getStatus());
+        }
+
+        @Test
+        @DisplayName("Should not limit disabled groups or paths outside any group")
+        void doFilter_unlimitedPaths_shouldPass() throws Exception {
+            for (int i = 0; i < 10; i++) {
+                assertEquals(200, call("/api/v1/webhooks/stripe", "10.0.0.1").getStatus());
+                assertEquals(200, call("/apis/users/me", "10.0.0.1").getStatus());
+            }
+            assertEquals(0, filter.bucketCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Bounded Map Tests")
+    class BoundedMapTests {
+
+        @Test
+        @DisplayName("Should send clients beyond max-buckets to the shared overflow bucket")
+        void doFilter_mapFull_shouldUseOverflowBucket() throws Exception {
+            // Given
+            call("/api/v1/documents/scan", "10.0.0.1");
+            call("/api/v1/documents/scan", "10.0.0.2");
+
+            // When
+            call("/api/v1/documents/scan", "10.0.0.3");
+            call("/api/v1/documents/scan", "10.0.0.4");
+            MockHttpServletResponse response = call("/api/v1/documents/scan", "10.0.0.5");
+
+            // Then
+            assertEquals(2, filter.bucketCount());
+            assertEquals(429, response.getStatus());
+        }
+
+        @Test
+        @DisplayName("Should purge buckets that have fully refilled")
+        void purgeFullBuckets_shouldDropRefilledBuckets() throws Exception {
+            // Given
+            call("/api/v1/documents/scan", "10.0.0.1");
+            now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+            // When
+            filter.purgeFullBuckets();
+
+            // Then
+            assertEquals(0, filter.bucketCount());
+        }
+    }
+}
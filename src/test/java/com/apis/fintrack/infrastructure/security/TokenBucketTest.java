@@ -0,0 +1,104 @@
+package com.apis.fintrack.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TokenBucket.
+ *
+ * Tests cover:
+ * - Burst up to capacity
+ * - Refill over time and wait reported on rejection
+ * - No over-admission under contention
+ */
+@DisplayName("TokenBucket Tests")
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Nested
+    @DisplayName("tryAcquire Tests")
+    class TryAcquireTests {
+
+        @Test
+        @DisplayName("Should admit a burst of capacity requests and reject the next one")
+        void tryAcquire_burst_shouldAdmitCapacity() {
+            // Given
+            TokenBucket bucket = new TokenBucket(3, SECOND, 0);
+
+            // When / Then
+            assertEquals(0, bucket.tryAcquire(0));
+            assertEquals(0, bucket.tryAcquire(0));
+            assertEquals(0, bucket.tryAcquire(0));
+            assertEquals(SECOND, bucket.tryAcquire(0));
+        }
+
+        @Test
+        @DisplayName("Should refill one token per interval")
+        void tryAcquire_afterInterval_shouldAdmitAgain() {
+            // Given
+            TokenBucket bucket = new TokenBucket(2, SECOND, 0);
+            bucket.tryAcquire(0);
+            bucket.tryAcquire(0);
+
+            // When / Then
+            assertEquals(SECOND / 2, bucket.tryAcquire(SECOND / 2));
+            assertEquals(0, bucket.tryAcquire(SECOND));
+            assertTrue(bucket.tryAcquire(SECOND) > 0);
+        }
+
+        @Test
+        @DisplayName("Should report full once every token has been refilled")
+        void isFull_afterRefill_shouldBeTrue() {
+            // Given
+            TokenBucket bucket = new TokenBucket(2, SECOND, 0);
+            bucket.tryAcquire(0);
+
+            // When / Then
+            assertFalse(bucket.isFull(SECOND - 1));
+            assertTrue(bucket.isFull(SECOND));
+        }
+
+        @Test
+        @DisplayName("Should never admit more than capacity under concurrent callers")
+        void tryAcquire_concurrent_shouldNotOverAdmit() throws InterruptedException {
+            // Given
+            TokenBucket bucket = new TokenBucket(100, TimeUnit.HOURS.toNanos(1), 0);
+            AtomicInteger admitted = new AtomicInteger();
+            ExecutorService pool = Executors.newFixedThreadPool(8);
+            CountDownLatch start = new CountDownLatch(1);
+
+            // When
+            for (int i = 0; i < 8; i++) {
+                pool.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int j = 0; j < 1000; j++) {
+                        if (bucket.tryAcquire(0) == 0) {
+                            admitted.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            start.countDown();
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+            // Then
+            assertEquals(100, admitted.get());
+        }
+    }
+}
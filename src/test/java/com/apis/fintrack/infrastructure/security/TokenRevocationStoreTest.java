@@ -0,0 +1,124 @@
+package com.apis.fintrack.infrastructure.security;
+
+import com.apis.fintrack.infrastructure.adapter.output.persistence.entity.RevokedTokenJPAEntity;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TokenRevocationStore.
+ *
+ * Tests cover:
+ * - Never-revoked tokens answered from memory without touching the database
+ * - Revocation persisted and visible immediately
+ * - Rebuild from the table at startup
+ * - Periodic refresh picking up revocations made on other instances
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenRevocationStore Tests")
+class TokenRevocationStoreTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new TokenRevocationStore(revokedTokenRepository, 1_000, 0.01, 10);
+    }
+
+    @Test
+    @DisplayName("Should answer the not-revoked case without querying the database")
+    void isRevoked_withEmptyFilter_shouldNotQuery() {
+        assertFalse(store.isRevoked("jti-1"));
+        verifyNoInteractions(revokedTokenRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a token right after it is revoked")
+    void revoke_shouldPersistAndReject() {
+        // When
+        store.revoke("jti-1", 7L, Instant.now().plusSeconds(600));
+
+        // Then
+        verify(revokedTokenRepository).save(any(RevokedTokenJPAEntity.class));
+        assertTrue(store.isRevoked("jti-1"));
+        verify(revokedTokenRepository, never()).existsById(anyString());
+    }
+
+    @Test
+    @DisplayName("Should load still valid revocations when rebuilding")
+    void rebuild_shouldLoadActiveRevocations() {
+        // Given
+        when(revokedTokenRepository.findActiveJtis(any(LocalDateTime.class))).thenReturn(List.of("jti-1"));
+        when(revokedTokenRepository.existsById("jti-1")).thenReturn(true);
+
+        // When
+        store.rebuild();
+
+        // Then
+        assertTrue(store.isRevoked("jti-1"));
+        assertTrue(store.isRevoked("jti-1"));
+        verify(revokedTokenRepository, times(1)).existsById("jti-1");
+    }
+
+    @Test
+    @DisplayName("Should not query for new revocations before the first rebuild")
+    void refresh_beforeRebuild_shouldSkip() {
+        // When
+        store.refresh();
+
+        // Then
+        verifyNoInteractions(revokedTokenRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a token revoked on another instance after a refresh")
+    void refresh_withRevocationElsewhere_shouldReject() {
+        // Given: the filter was rebuilt and then another instance revoked jti-2
+        when(revokedTokenRepository.findActiveJtis(any(LocalDateTime.class))).thenReturn(List.of());
+        store.rebuild();
+        when(revokedTokenRepository.findActiveJtisRevokedAfter(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of("jti-2"));
+
+        // When
+        store.refresh();
+
+        // Then
+        assertTrue(store.isRevoked("jti-2"));
+        verify(revokedTokenRepository, never()).existsById(anyString());
+    }
+
+    @Test
+    @DisplayName("Should overwrite a remembered false positive once the token is revoked")
+    void refresh_afterFalsePositive_shouldOverwriteConfirmed() {
+        // Given: jti-1 is in the filter but its row is not visible yet
+        when(revokedTokenRepository.findActiveJtis(any(LocalDateTime.class))).thenReturn(List.of("jti-1"));
+        when(revokedTokenRepository.existsById("jti-1")).thenReturn(false);
+        store.rebuild();
+        assertFalse(store.isRevoked("jti-1"));
+        when(revokedTokenRepository.findActiveJtisRevokedAfter(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(List.of("jti-1"));
+
+        // When
+        store.refresh();
+
+        // Then
+        assertTrue(store.isRevoked("jti-1"));
+        verify(revokedTokenRepository, times(1)).existsById("jti-1");
+    }
+}
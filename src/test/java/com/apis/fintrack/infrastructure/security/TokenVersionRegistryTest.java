@@ -0,0 +1,158 @@
+package com.apis.fintrack.infrastructure.security;
+
+import com.apis.fintrack.domain.user.model.UserId;
+import com.apis.fintrack.infrastructure.adapter.output.persistence.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TokenVersionRegistry.
+ *
+ * Tests cover:
+ * - Lazy load of the stored version, answered from memory afterwards
+ * - Expiry of cached versions, so revocations made elsewhere are seen
+ * - Size bound of the in-memory table
+ * - Revocation through UserSessionPort and its event
+ * - Deleted users
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenVersionRegistry Tests")
+class TokenVersionRegistryTest {
+
+    private static final Long USER_ID = 7L;
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final int MAX_USERS = 3;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private MutableClock clock;
+    private TokenVersionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-03-10T12:00:00Z"));
+        registry = new TokenVersionRegistry(userRepository, eventPublisher, TTL, MAX_USERS, clock);
+    }
+
+    @Test
+    @DisplayName("Should load the version once and answer later checks from memory")
+    void isCurrent_shouldQueryDatabaseOnlyOnce() {
+        // Given
+        when(userRepository.findTokenVersion(USER_ID)).thenReturn(Optional.of(2));
+
+        // When / Then
+        assertTrue(registry.isCurrent(USER_ID, 2));
+        assertFalse(registry.isCurrent(USER_ID, 1));
+        assertTrue(registry.isCurrent(USER_ID, 2));
+        verify(userRepository, times(1)).findTokenVersion(USER_ID);
+    }
+
+    @Test
+    @DisplayName("Should see a revocation made by another instance once the entry expires")
+    void isCurrent_afterTtl_shouldReloadVersion() {
+        // Given
+        when(userRepository.findTokenVersion(USER_ID)).thenReturn(Optional.of(2), Optional.of(3));
+        assertTrue(registry.isCurrent(USER_ID, 2));
+
+        // When
+        clock.advance(TTL);
+
+        // Then
+        assertFalse(registry.isCurrent(USER_ID, 2));
+        assertTrue(registry.isCurrent(USER_ID, 3));
+        verify(userRepository, times(2)).findTokenVersion(USER_ID);
+    }
+
+    @Test
+    @DisplayName("Should keep at most the configured number of users in memory")
+    void isCurrent_forManyUsers_shouldStayBounded() {
+        // Given
+        when(userRepository.findTokenVersion(anyLong())).thenReturn(Optional.of(0));
+
+        // When
+        for (long userId = 1; userId <= 20; userId++) {
+            registry.isCurrent(userId, 0);
+        }
+
+        // Then
+        assertEquals(MAX_USERS, registry.size());
+    }
+
+    @Test
+    @DisplayName("Should reject tokens issued before a revocation")
+    void invalidate_shouldRejectOlderTokens() {
+        // Given
+        when(userRepository.findTokenVersion(USER_ID)).thenReturn(Optional.of(0), Optional.of(1));
+        assertTrue(registry.isCurrent(USER_ID, 0));
+
+        // When
+        registry.invalidate(UserId.of(USER_ID));
+
+        // Then
+        verify(userRepository).incrementTokenVersion(USER_ID);
+        verify(eventPublisher).publishEvent(new UserSessionsInvalidatedEvent(USER_ID));
+        assertFalse(registry.isCurrent(USER_ID, 0));
+        assertTrue(registry.isCurrent(USER_ID, 1));
+    }
+
+    @Test
+    @DisplayName("Should reject every token of a deleted user")
+    void isCurrent_withDeletedUser_shouldReject() {
+        // Given
+        when(userRepository.findTokenVersion(USER_ID)).thenReturn(Optional.empty());
+
+        // When
+        registry.invalidate(UserId.of(USER_ID));
+
+        // Then
+        assertFalse(registry.isCurrent(USER_ID, 0));
+        assertFalse(registry.isCurrent(USER_ID, TokenVersionRegistry.REVOKED));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
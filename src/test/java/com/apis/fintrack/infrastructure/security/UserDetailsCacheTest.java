@@ -0,0 +1,122 @@
+package com.apis.fintrack.infrastructure.security;
+
+import com.apis.fintrack.infrastructure.security.model.FintrackUserDetails;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for UserDetailsCache.
+ *
+ * Tests cover:
+ * - Hits by email and by id after a single load
+ * - Invalidation by event, including email changes
+ * - Loads overlapping an invalidation are not kept
+ * - Hit and miss metrics
+ */
+@DisplayName("UserDetailsCache Tests")
+class UserDetailsCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserDetailsCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new UserDetailsCache(meterRegistry, 100, Duration.ofMinutes(10),
+                Clock.fixed(Instant.parse("2026-01-01T10:00:00Z"), ZoneOffset.UTC));
+        loads = new AtomicInteger();
+    }
+
+    private FintrackUserDetails load(long userId, String email) {
+        loads.incrementAndGet();
+        return new FintrackUserDetails(userId, email, "hash", 0, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    @Nested
+    @DisplayName("Lookup Tests")
+    class LookupTests {
+
+        @Test
+        @DisplayName("Should load once and then answer by email and by id")
+        void get_afterLoad_shouldHit() {
+            // Given
+            cache.getByEmail("user@example.com", () -> load(1L, "user@example.com"));
+
+            // When
+            FintrackUserDetails byEmail = cache.getByEmail("USER@example.com", () -> load(1L, "user@example.com"));
+            FintrackUserDetails byId = cache.getById(1L, () -> load(1L, "user@example.com"));
+
+            // Then
+            assertEquals(1, loads.get());
+            assertSame(byEmail, byId);
+            assertEquals(2.0, meterRegistry.counter("auth.user-details.cache.requests", "result", "hit").count());
+            assertEquals(1.0, meterRegistry.counter("auth.user-details.cache.requests", "result", "miss").count());
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidation Tests")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("Should reload after the user's sessions are invalidated")
+        void onSessionsInvalidated_shouldEvictUser() {
+            // Given
+            cache.getByEmail("user@example.com", () -> load(1L, "user@example.com"));
+
+            // When
+            cache.onSessionsInvalidated(new UserSessionsInvalidatedEvent(1L));
+            cache.getByEmail("user@example.com", () -> load(1L, "user@example.com"));
+
+            // Then
+            assertEquals(2, loads.get());
+        }
+
+        @Test
+        @DisplayName("Should not answer the old email after an email change")
+        void getByEmail_afterEmailChange_shouldMissOldEmail() {
+            // Given
+            cache.getByEmail("old@example.com", () -> load(1L, "old@example.com"));
+            cache.onSessionsInvalidated(new UserSessionsInvalidatedEvent(1L));
+            cache.getById(1L, () -> load(1L, "new@example.com"));
+
+            // When
+            FintrackUserDetails details = cache.getByEmail("old@example.com", () -> load(2L, "old@example.com"));
+
+            // Then
+            assertEquals(Long.valueOf(2L), details.getUserId());
+            assertEquals(3, loads.get());
+        }
+
+        @Test
+        @DisplayName("Should not keep a load that overlapped an invalidation")
+        void getById_invalidatedDuringLoad_shouldNotCache() {
+            // Given
+            cache.getById(1L, () -> {
+                FintrackUserDetails stale = load(1L, "user@example.com");
+                cache.evict(1L);
+                return stale;
+            });
+
+            // When
+            cache.getById(1L, () -> load(1L, "user@example.com"));
+
+            // Then
+            assertEquals(2, loads.get());
+        }
+    }
+}
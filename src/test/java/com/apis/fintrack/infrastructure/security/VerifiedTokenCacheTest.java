@@ -0,0 +1,146 @@
+package com.apis.fintrack.infrastructure.security;
+
+import com.apis.fintrack.infrastructure.security.model.FintrackUserDetails;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for VerifiedTokenCache.
+ *
+ * Tests cover:
+ * - Hits and misses by token
+ * - Expiry at the token's own exp
+ * - Capacity bound and expiry of entries before the cache is full
+ */
+@DisplayName("VerifiedTokenCache Tests")
+class VerifiedTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    private MutableClock clock;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+        cache = new VerifiedTokenCache(3, clock);
+    }
+
+    private static FintrackUserDetails principal(long userId) {
+        return new FintrackUserDetails(userId, "user" + userId + "@example.com", "", 0,
+            List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    @Nested
+    @DisplayName("get / put Tests")
+    class GetPutTests {
+
+        @Test
+        @DisplayName("Should return the cached principal for the same token")
+        void get_afterPut_shouldHit() {
+            // Given
+            cache.put("token-a", principal(1L), NOW.plusSeconds(60));
+
+            // When / Then
+            assertEquals(Long.valueOf(1L), cache.get("token-a").orElseThrow().getUserId());
+            assertTrue(cache.get("token-b").isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should miss once the token's exp is reached")
+        void get_atExpiry_shouldMissAndEvict() {
+            // Given
+            cache.put("token-a", principal(1L), NOW.plusSeconds(60));
+
+            // When
+            clock.advance(Duration.ofSeconds(60));
+
+            // Then
+            assertTrue(cache.get("token-a").isEmpty());
+            assertEquals(0, cache.size());
+        }
+
+        @Test
+        @DisplayName("Should not grow beyond the configured capacity")
+        void put_whenFull_shouldEvict() {
+            // Given
+            for (int i = 0; i < 3; i++) {
+                cache.put("token-" + i, principal(i), NOW.plusSeconds(60));
+            }
+
+            // When
+            for (int i = 3; i < 20; i++) {
+                cache.put("token-" + i, principal(i), NOW.plusSeconds(60));
+            }
+
+            // Then
+            assertEquals(3, cache.size());
+        }
+
+        @Test
+        @DisplayName("Should drop expired entries without waiting for the cache to fill")
+        void size_afterExpiry_shouldDropExpiredEntries() {
+            // Given
+            cache.put("token-short", principal(1L), NOW.plusSeconds(10));
+            cache.put("token-long", principal(2L), NOW.plusSeconds(90));
+
+            // When
+            clock.advance(Duration.ofSeconds(30));
+
+            // Then
+            assertEquals(1, cache.size());
+            assertTrue(cache.get("token-long").isPresent());
+        }
+
+        @Test
+        @DisplayName("Should not cache a token that is already expired")
+        void put_withPastExpiry_shouldSkip() {
+            // When
+            cache.put("token-a", principal(1L), NOW.minusSeconds(1));
+
+            // Then
+            assertTrue(cache.get("token-a").isEmpty());
+            assertEquals(0, cache.size());
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}